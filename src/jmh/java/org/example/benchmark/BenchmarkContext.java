@@ -0,0 +1,106 @@
+package org.example.benchmark;
+
+import org.example.Main;
+import org.example.dto.AutomatedByDTO;
+import org.example.dto.AutomationStatusDTO;
+import org.example.dto.ModuleDTO;
+import org.example.dto.SubModuleDTO;
+import org.example.dto.TagDTO;
+import org.example.dto.TestCasePriorityDTO;
+import org.example.seed.SyntheticCatalog;
+import org.example.service.AutomatedByService;
+import org.example.service.AutomationStatusService;
+import org.example.service.ModuleService;
+import org.example.service.SubModuleService;
+import org.example.service.TagService;
+import org.example.service.TestCaseBatchService;
+import org.example.service.TestCasePriorityService;
+import org.example.service.TestCaseTextIndexer;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Boots the application without a web server against its own in-memory H2
+ * database and fills it from a {@link SyntheticCatalog}, for benchmarks that
+ * need the real services and repositories.
+ */
+public final class BenchmarkContext {
+
+    /** Seed of every benchmark dataset; change it only together with the baseline results. */
+    public static final long SEED = 20240101L;
+
+    private static final int BATCH_SIZE = 5000;
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        // Arguments, not default properties, so they win over application.properties
+        return new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.main.banner-mode=off",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework=WARN",
+                        "--logging.level.org.hibernate=WARN");
+    }
+
+    /** Creates the catalog's reference data through the services and returns it with its ids. */
+    public static SyntheticCatalog.References seedReferences(ApplicationContext context, SyntheticCatalog catalog) {
+        ModuleService moduleService = context.getBean(ModuleService.class);
+        SubModuleService subModuleService = context.getBean(SubModuleService.class);
+        TestCasePriorityService priorityService = context.getBean(TestCasePriorityService.class);
+        AutomationStatusService statusService = context.getBean(AutomationStatusService.class);
+        AutomatedByService automatedByService = context.getBean(AutomatedByService.class);
+        TagService tagService = context.getBean(TagService.class);
+
+        List<ModuleDTO> modules = catalog.modules().stream()
+                .map(moduleService::createModule)
+                .collect(Collectors.toList());
+        List<SubModuleDTO> subModules = catalog.subModules(modules).stream()
+                .map(subModuleService::createSubModule)
+                .collect(Collectors.toList());
+        List<TestCasePriorityDTO> priorities = catalog.priorities().stream()
+                .map(priorityService::createPriority)
+                .collect(Collectors.toList());
+        List<AutomationStatusDTO> statuses = catalog.statuses().stream()
+                .map(statusService::createStatus)
+                .collect(Collectors.toList());
+        List<AutomatedByDTO> users = catalog.users().stream()
+                .map(automatedByService::createAutomatedBy)
+                .collect(Collectors.toList());
+        List<TagDTO> tags = catalog.tags().stream()
+                .map(tagService::createTag)
+                .collect(Collectors.toList());
+        return new SyntheticCatalog.References(modules, subModules, priorities, statuses, users, tags);
+    }
+
+    /** Upserts the catalog's first {@code count} test cases through the batch service. */
+    public static void seedTestCases(ApplicationContext context, SyntheticCatalog catalog,
+                                     SyntheticCatalog.References refs, int count) {
+        TestCaseBatchService batchService = context.getBean(TestCaseBatchService.class);
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            batchService.upsertTestCases(catalog.testCases(from, Math.min(count, from + BATCH_SIZE), refs));
+        }
+        awaitTextIndexes(context);
+    }
+
+    /** Waits for the text index rebuild that bulk writes trigger, so it does not overlap measurement. */
+    private static void awaitTextIndexes(ApplicationContext context) {
+        TestCaseTextIndexer textIndexer = context.getBean(TestCaseTextIndexer.class);
+        try {
+            while (textIndexer.isRebuilding()) {
+                Thread.sleep(50);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
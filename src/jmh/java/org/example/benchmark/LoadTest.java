@@ -0,0 +1,531 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.Main;
+import org.example.dto.BootstrapDTO;
+import org.example.dto.CursorPageDTO;
+import org.example.dto.TestCaseDTO;
+import org.example.seed.SyntheticCatalog;
+import org.example.spreadsheet.CsvSheetWriter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.example.spreadsheet.TestCaseSheetLayout.*;
+
+/**
+ * Offline load test. Boots the application on a random port with a seeded
+ * synthetic catalog (or targets a running server with {@code --url=}),
+ * replays a weighted mix of API calls from concurrent clients and reports
+ * throughput and latency percentiles per operation.
+ * <p>
+ * Results are written as JSON. Given {@code --baseline=} with the results of
+ * an earlier run, the process exits with status 1 when an operation's p99
+ * latency or throughput regressed by more than {@code --tolerance}, or the
+ * error rate is above {@code --max-error-rate}, so it can gate a build.
+ * <p>
+ * Options, with defaults: {@code --clients=16 --warmup=10 --duration=60
+ * --test-cases=50000 --seed=1 --out=target/load-test.json --tolerance=0.25
+ * --max-error-rate=0.01 --mix=list:30,by-module:15,get:10,dashboard:10,create:15,update:12,delete:6,import:2}.
+ * Any other {@code --key=value} is passed to the embedded application.
+ */
+public final class LoadTest {
+
+    /** Operations of the mix, with their default weights. */
+    enum Operation {
+        LIST("list", 30),
+        BY_MODULE("by-module", 15),
+        GET("get", 10),
+        DASHBOARD("dashboard", 10),
+        CREATE("create", 15),
+        UPDATE("update", 12),
+        DELETE("delete", 6),
+        IMPORT("import", 2);
+
+        private final String key;
+        private final int defaultWeight;
+
+        Operation(String key, int defaultWeight) {
+            this.key = key;
+            this.defaultWeight = defaultWeight;
+        }
+
+        static Operation fromKey(String key) {
+            return Arrays.stream(values())
+                    .filter(operation -> operation.key.equals(key))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation in --mix: " + key));
+        }
+    }
+
+    /** Latency summary of one operation, as reported and stored. */
+    public record OperationResult(long count, long errors, double throughput,
+                                  double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    /** Stored run: settings and per-operation results. */
+    public record RunResult(int clients, int durationSeconds, int testCases, Map<String, OperationResult> operations) {
+    }
+
+    private static final int IMPORT_ROWS = 20;
+    private static final int SAMPLE_PAGES = 5;
+    private static final int BASELINE_MIN_COUNT = 100;
+    private static final long CLIENT_STACK_SIZE = 256 * 1024;
+
+    private final Map<String, String> options;
+    private final List<String> applicationArgs;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Queue<Long> created = new ConcurrentLinkedQueue<>();
+    private final String runId = Long.toString(System.currentTimeMillis() % 1_000_000_000L, 36);
+
+    private String baseUrl;
+    private SyntheticCatalog catalog;
+    private SyntheticCatalog.References refs;
+    private List<TestCaseDTO> sample;
+    private Operation[] wheel;
+
+    LoadTest(Map<String, String> options, List<String> applicationArgs) {
+        this.options = options;
+        this.applicationArgs = applicationArgs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        parseArgs(args, options, applicationArgs);
+        System.exit(new LoadTest(options, applicationArgs).run());
+    }
+
+    /** Splits {@code --key=value} options from arguments for the application (keys containing a dot). */
+    static void parseArgs(String[] args, Map<String, String> options, List<String> applicationArgs) {
+        for (String arg : args) {
+            String key = arg.startsWith("--") && arg.contains("=") ? arg.substring(2, arg.indexOf('=')) : null;
+            if (key != null && !key.contains(".")) {
+                options.put(key, arg.substring(arg.indexOf('=') + 1));
+            } else {
+                applicationArgs.add(arg);
+            }
+        }
+    }
+
+    private int run() throws Exception {
+        RunResult result = measure();
+        print(result);
+        File out = new File(options.getOrDefault("out", "target/load-test.json"));
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, result);
+        System.out.println("Results written to " + out);
+        return gate(result) ? 0 : 1;
+    }
+
+    /** Boots or targets the application, runs the workload and summarizes it. */
+    RunResult measure() throws Exception {
+        int clients = intOption("clients", 16);
+        int warmup = intOption("warmup", 10);
+        int duration = intOption("duration", 60);
+        int testCases = intOption("test-cases", 50_000);
+        wheel = buildWheel(options.getOrDefault("mix", ""));
+
+        ConfigurableApplicationContext context = null;
+        try {
+            if (options.containsKey("url")) {
+                baseUrl = options.get("url");
+            } else {
+                System.out.printf("Starting application with %d seeded test cases...%n", testCases);
+                context = startApplication(testCases);
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            }
+            catalog = new SyntheticCatalog(longOption("seed", 1), SyntheticCatalog.Spec.small());
+            refs = loadReferences();
+            sample = loadSample();
+
+            System.out.printf("Running %d clients against %s: %d s warm-up, %d s measured%n",
+                    clients, baseUrl, warmup, duration);
+            long measureStart = System.nanoTime() + warmup * 1_000_000_000L;
+            long end = measureStart + duration * 1_000_000_000L;
+            List<Recorder> recorders = new ArrayList<>();
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                Recorder recorder = new Recorder();
+                SplittableRandom random = new SplittableRandom(longOption("seed", 1) * 31 + i);
+                // Small stacks: thousands of clients must fit next to the application in one JVM
+                Thread thread = new Thread(null, () -> drive(random, recorder, measureStart, end),
+                        "load-client-" + i, CLIENT_STACK_SIZE);
+                recorders.add(recorder);
+                threads.add(thread);
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            return summarize(recorders, clients, duration, testCases);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(int testCases) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--scriptsync.seed.enabled=true",
+                "--scriptsync.seed.test-cases=" + testCases,
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.org.hibernate=WARN",
+                "--logging.level.org.example.seed=INFO",
+                "--logging.level.org.example.metrics=ERROR"));
+        args.addAll(applicationArgs);
+        return new SpringApplicationBuilder(Main.class).logStartupInfo(false).run(args.toArray(new String[0]));
+    }
+
+    // --- Workload ---------------------------------------------------------------------------------------------
+
+    private void drive(SplittableRandom random, Recorder recorder, long measureStart, long end) {
+        long start;
+        while ((start = System.nanoTime()) < end) {
+            Operation operation = wheel[random.nextInt(wheel.length)];
+            if (operation == Operation.DELETE && created.isEmpty()) {
+                operation = Operation.CREATE;
+            }
+            boolean ok;
+            try {
+                ok = execute(operation, random);
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (start >= measureStart) {
+                recorder.record(operation, System.nanoTime() - start, ok);
+            }
+        }
+    }
+
+    private boolean execute(Operation operation, SplittableRandom random) throws IOException, InterruptedException {
+        switch (operation) {
+            case LIST -> {
+                String filter = switch (random.nextInt(4)) {
+                    case 0 -> "&moduleId=" + pick(random, refs.modules()).getId();
+                    case 1 -> "&tagId=" + pick(random, refs.tags()).getId();
+                    default -> "";
+                };
+                String sort = random.nextBoolean() ? "id" : "testcaseId";
+                return get("/api/testcases?limit=100&sort=" + sort + filter).statusCode() == 200;
+            }
+            case BY_MODULE -> {
+                return get("/api/testcases/module/" + pick(random, refs.modules()).getId() + "?limit=100")
+                        .statusCode() == 200;
+            }
+            case GET -> {
+                return get("/api/testcases/" + pick(random, sample).getId()).statusCode() == 200;
+            }
+            case DASHBOARD -> {
+                return get("/api/dashboard").statusCode() == 200;
+            }
+            case CREATE -> {
+                TestCaseDTO dto = newTestCase(random);
+                HttpResponse<byte[]> response = send(json("/api/testcases").POST(body(dto)));
+                if (response.statusCode() != 201) {
+                    return false;
+                }
+                created.add(objectMapper.readValue(response.body(), TestCaseDTO.class).getId());
+                return true;
+            }
+            case UPDATE -> {
+                TestCaseDTO existing = pick(random, sample);
+                TestCaseDTO dto = catalog.testCase(random.nextLong(1_000_000_000L), refs);
+                dto.setTestcaseId(existing.getTestcaseId());
+                return send(json("/api/testcases/" + existing.getId()).PUT(body(dto))).statusCode() == 200;
+            }
+            case DELETE -> {
+                Long id = created.poll();
+                return id != null && send(request("/api/testcases/" + id).DELETE()).statusCode() == 204;
+            }
+            case IMPORT -> {
+                return importCsv(random).statusCode() == 200;
+            }
+        }
+        throw new IllegalStateException("Unhandled operation " + operation);
+    }
+
+    private TestCaseDTO newTestCase(SplittableRandom random) {
+        TestCaseDTO dto = catalog.testCase(random.nextLong(1_000_000_000L), refs);
+        dto.setTestcaseId("LT-" + runId + "-" + sequence.incrementAndGet());
+        return dto;
+    }
+
+    private HttpResponse<byte[]> importCsv(SplittableRandom random) throws IOException, InterruptedException {
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        CsvSheetWriter writer = new CsvSheetWriter(csv);
+        writer.writeRow(HEADERS);
+        for (int i = 0; i < IMPORT_ROWS; i++) {
+            TestCaseDTO dto = newTestCase(random);
+            String[] cells = new String[HEADERS.size()];
+            cells[TESTCASE_ID] = dto.getTestcaseId();
+            cells[MODULE] = dto.getModuleName();
+            cells[SUB_MODULE] = dto.getSubModuleName();
+            cells[DESCRIPTION] = dto.getTestCaseDescription();
+            cells[PRE_CONDITIONS] = dto.getPreConditions();
+            cells[TEST_SCRIPT] = dto.getTestScript();
+            cells[EXPECTED_RESULT] = dto.getExpectedResult();
+            cells[PRIORITY] = dto.getPriorityName();
+            cells[AUTOMATION_STATUS] = dto.getAutomationStatusName();
+            cells[AUTOMATED_BY] = dto.getAutomatedByName();
+            cells[AUTOMATION_COMMENTS] = dto.getAutomationComments();
+            cells[CLUBBED_TC_ID] = dto.getClubbedTcId();
+            cells[TAGS] = String.join("; ", dto.getTagNames());
+            writer.writeRow(Arrays.asList(cells));
+        }
+        writer.close();
+
+        String boundary = "loadtest" + runId;
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"load-test.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(csv.toByteArray());
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return send(request("/api/testcases/import")
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray())));
+    }
+
+    // --- Setup ------------------------------------------------------------------------------------------------
+
+    private SyntheticCatalog.References loadReferences() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = get("/api/bootstrap");
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/bootstrap returned " + response.statusCode());
+        }
+        BootstrapDTO bootstrap = objectMapper.readValue(response.body(), BootstrapDTO.class);
+        if (bootstrap.getModules().isEmpty() || bootstrap.getPriorities().isEmpty()
+                || bootstrap.getAutomationStatuses().isEmpty()) {
+            throw new IllegalStateException("Target has no reference data; seed it first");
+        }
+        return new SyntheticCatalog.References(bootstrap.getModules(), bootstrap.getSubModules(),
+                bootstrap.getPriorities(), bootstrap.getAutomationStatuses(), bootstrap.getAutomatedBy(),
+                bootstrap.getTags());
+    }
+
+    /** Existing test cases that get and update pick from; never deleted by the run. */
+    private List<TestCaseDTO> loadSample() throws IOException, InterruptedException {
+        List<TestCaseDTO> testCases = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page < SAMPLE_PAGES; page++) {
+            String path = "/api/testcases?limit=1000" + (cursor != null ? "&cursor=" + cursor : "");
+            CursorPageDTO<TestCaseDTO> result = objectMapper.readValue(get(path).body(),
+                    new TypeReference<CursorPageDTO<TestCaseDTO>>() {
+                    });
+            testCases.addAll(result.getItems());
+            if (!result.isHasMore()) {
+                break;
+            }
+            cursor = result.getNextCursor();
+        }
+        if (testCases.isEmpty()) {
+            throw new IllegalStateException("Target has no test cases; seed it first");
+        }
+        return testCases;
+    }
+
+    private Operation[] buildWheel(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        if (mix.isBlank()) {
+            Arrays.stream(Operation.values()).forEach(operation -> weights.put(operation, operation.defaultWeight));
+        } else {
+            for (String entry : mix.split(",")) {
+                String[] parts = entry.split(":");
+                weights.put(Operation.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            }
+        }
+        List<Operation> wheel = new ArrayList<>();
+        weights.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(operation);
+            }
+        });
+        return wheel.toArray(new Operation[0]);
+    }
+
+    // --- Reporting --------------------------------------------------------------------------------------------
+
+    private RunResult summarize(List<Recorder> recorders, int clients, int duration, int testCases) {
+        Map<String, OperationResult> operations = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            long[] latencies = recorders.stream()
+                    .map(recorder -> recorder.latencies(operation))
+                    .flatMapToLong(Arrays::stream)
+                    .sorted()
+                    .toArray();
+            long errors = recorders.stream().mapToLong(recorder -> recorder.errors(operation)).sum();
+            if (latencies.length == 0 && errors == 0) {
+                continue;
+            }
+            operations.put(operation.key, new OperationResult(latencies.length, errors,
+                    (double) latencies.length / duration,
+                    percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+                    percentile(latencies, 0.999), percentile(latencies, 1.0)));
+        }
+        return new RunResult(clients, duration, testCases, operations);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+
+    static void print(RunResult result) {
+        System.out.printf("%n%-10s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+        double total = 0;
+        for (Map.Entry<String, OperationResult> entry : result.operations().entrySet()) {
+            OperationResult r = entry.getValue();
+            total += r.throughput();
+            System.out.printf("%-10s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(), r.count(),
+                    r.errors(), r.throughput(), r.p50Ms(), r.p90Ms(), r.p99Ms(), r.p999Ms(), r.maxMs());
+        }
+        System.out.printf("%-10s %9s %7s %9.1f%n%n", "total", "", "", total);
+    }
+
+    /** Returns whether the run passes the error-rate limit and, if given, the baseline comparison. */
+    private boolean gate(RunResult result) throws IOException {
+        boolean passed = true;
+        long count = result.operations().values().stream().mapToLong(OperationResult::count).sum();
+        long errors = result.operations().values().stream().mapToLong(OperationResult::errors).sum();
+        double maxErrorRate = Double.parseDouble(options.getOrDefault("max-error-rate", "0.01"));
+        double errorRate = count + errors == 0 ? 0 : (double) errors / (count + errors);
+        if (errorRate > maxErrorRate) {
+            System.out.printf("FAIL error rate %.2f%% is above %.2f%%%n", errorRate * 100, maxErrorRate * 100);
+            passed = false;
+        }
+
+        String baselinePath = options.get("baseline");
+        if (baselinePath != null) {
+            double tolerance = Double.parseDouble(options.getOrDefault("tolerance", "0.25"));
+            JsonNode baseline = objectMapper.readTree(new File(baselinePath)).path("operations");
+            for (Map.Entry<String, OperationResult> entry : result.operations().entrySet()) {
+                JsonNode before = baseline.path(entry.getKey());
+                // Too few samples for a stable p99
+                if (before.isMissingNode() || before.path("count").asLong() < BASELINE_MIN_COUNT) {
+                    continue;
+                }
+                OperationResult now = entry.getValue();
+                double p99Before = before.path("p99Ms").asDouble();
+                double throughputBefore = before.path("throughput").asDouble();
+                if (now.p99Ms() > p99Before * (1 + tolerance)) {
+                    System.out.printf("FAIL %s p99 %.2f ms vs baseline %.2f ms%n", entry.getKey(), now.p99Ms(), p99Before);
+                    passed = false;
+                }
+                if (now.throughput() < throughputBefore * (1 - tolerance)) {
+                    System.out.printf("FAIL %s throughput %.1f req/s vs baseline %.1f req/s%n",
+                            entry.getKey(), now.throughput(), throughputBefore);
+                    passed = false;
+                }
+            }
+        }
+        System.out.println(passed ? "PASS" : "FAILED");
+        return passed;
+    }
+
+    // --- HTTP -------------------------------------------------------------------------------------------------
+
+    private HttpResponse<byte[]> get(String path) throws IOException, InterruptedException {
+        return send(request(path).GET());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofMinutes(2));
+    }
+
+    private HttpRequest.Builder json(String path) {
+        return request(path).header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher body(Object value) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(value));
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private int intOption(String key, int defaultValue) {
+        return options.containsKey(key) ? Integer.parseInt(options.get(key)) : defaultValue;
+    }
+
+    private long longOption(String key, long defaultValue) {
+        return options.containsKey(key) ? Long.parseLong(options.get(key)) : defaultValue;
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    /** Latencies and error counts of one client thread; merged after the run. */
+    private static final class Recorder {
+
+        private final Map<Operation, long[]> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+
+        void record(Operation operation, long nanos, boolean ok) {
+            if (!ok) {
+                errors.merge(operation, 1L, Long::sum);
+                return;
+            }
+            int count = counts.getOrDefault(operation, 0);
+            long[] values = latencies.computeIfAbsent(operation, o -> new long[1024]);
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+                latencies.put(operation, values);
+            }
+            values[count] = nanos;
+            counts.put(operation, count + 1);
+        }
+
+        long[] latencies(Operation operation) {
+            long[] values = latencies.get(operation);
+            return values == null ? new long[0] : Arrays.copyOf(values, counts.get(operation));
+        }
+
+        long errors(Operation operation) {
+            return errors.getOrDefault(operation, 0L);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.dto.TestCaseDTO;
+import org.example.seed.SyntheticCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of test case list responses and batch request bodies, with
+ * the ObjectMapper defaults Spring MVC uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TestCaseJsonBenchmark {
+
+    private static final TypeReference<List<TestCaseDTO>> TEST_CASE_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private List<TestCaseDTO> testCases;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        SyntheticCatalog catalog = new SyntheticCatalog(BenchmarkContext.SEED, SyntheticCatalog.Spec.small());
+        SyntheticCatalog.References refs = catalog.sequentialReferences();
+        testCases = catalog.testCases(0, rows, refs);
+        for (int i = 0; i < testCases.size(); i++) {
+            testCases.get(i).setId((long) i + 1);
+        }
+        json = objectMapper.writeValueAsBytes(testCases);
+    }
+
+    @Benchmark
+    public void serialize() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), testCases);
+    }
+
+    @Benchmark
+    public List<TestCaseDTO> deserialize() throws IOException {
+        return objectMapper.readValue(json, TEST_CASE_LIST);
+    }
+}
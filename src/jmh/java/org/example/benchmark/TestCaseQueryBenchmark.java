@@ -0,0 +1,111 @@
+package org.example.benchmark;
+
+import org.example.dto.CursorPageDTO;
+import org.example.dto.TestCaseFilterDTO;
+import org.example.dto.TestCaseSummaryDTO;
+import org.example.model.TestCase;
+import org.example.repository.TestCaseRepository;
+import org.example.seed.SyntheticCatalog;
+import org.example.service.TestCaseService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test case list paths against an embedded H2 database holding a synthetic
+ * catalog: keyset pages (summary, with every text column, with total,
+ * filtered by the most used tag), the by-module list, the full list and the
+ * module entity graph query.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TestCaseQueryBenchmark {
+
+    private static final String ALL_TEXT_FIELDS = "preConditions,testScript,expectedResult,automationComments";
+
+    @Param({"10000"})
+    private int testCases;
+
+    private ConfigurableApplicationContext context;
+    private TestCaseService testCaseService;
+    private TestCaseRepository testCaseRepository;
+    private TestCaseFilterDTO noFilter;
+    private TestCaseFilterDTO tagFilter;
+    private Long moduleId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        SyntheticCatalog catalog = new SyntheticCatalog(BenchmarkContext.SEED, SyntheticCatalog.Spec.small());
+        SyntheticCatalog.References refs = BenchmarkContext.seedReferences(context, catalog);
+        BenchmarkContext.seedTestCases(context, catalog, refs, testCases);
+
+        testCaseService = context.getBean(TestCaseService.class);
+        testCaseRepository = context.getBean(TestCaseRepository.class);
+        noFilter = new TestCaseFilterDTO();
+        tagFilter = new TestCaseFilterDTO();
+        tagFilter.setTagId(refs.tags().get(0).getId());
+        moduleId = refs.modules().get(0).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPageDTO<TestCaseSummaryDTO> firstPage() {
+        return testCaseService.getTestCasePage(noFilter, "testcaseId", "asc", null, TestCaseService.DEFAULT_PAGE_SIZE, false,
+                null);
+    }
+
+    @Benchmark
+    public CursorPageDTO<TestCaseSummaryDTO> firstPageWithText() {
+        return testCaseService.getTestCasePage(noFilter, "testcaseId", "asc", null, TestCaseService.DEFAULT_PAGE_SIZE, false,
+                ALL_TEXT_FIELDS);
+    }
+
+    @Benchmark
+    public CursorPageDTO<TestCaseSummaryDTO> firstPageWithTotal() {
+        return testCaseService.getTestCasePage(noFilter, "testcaseId", "asc", null, TestCaseService.DEFAULT_PAGE_SIZE, true,
+                null);
+    }
+
+    @Benchmark
+    public CursorPageDTO<TestCaseSummaryDTO> firstPageByTag() {
+        return testCaseService.getTestCasePage(tagFilter, "testcaseId", "asc", null, TestCaseService.DEFAULT_PAGE_SIZE, false,
+                null);
+    }
+
+    @Benchmark
+    public List<TestCaseSummaryDTO> byModule() {
+        return testCaseService.getTestCasesByModuleId(moduleId, null);
+    }
+
+    @Benchmark
+    public List<TestCaseSummaryDTO> all() {
+        return testCaseService.getAllTestCases(null);
+    }
+
+    @Benchmark
+    public List<TestCase> repositoryFindByModuleId() {
+        return testCaseRepository.findByModuleId(moduleId);
+    }
+}
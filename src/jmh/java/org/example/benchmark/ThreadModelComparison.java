@@ -0,0 +1,117 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares the platform thread-pool request model with the
+ * {@code virtual-threads} profile under the {@link LoadTest} workload.
+ * <p>
+ * For every client count each mode gets a freshly booted and seeded
+ * application, so runs do not see each other's writes or warm caches. Prints
+ * throughput, error rate (including requests shed with 503 by the
+ * concurrency limit) and p99/p999 of a read and a write per run, and writes
+ * all results as JSON. Virtual-thread runs are skipped below Java 21.
+ * <p>
+ * Options, with defaults: {@code --clients=50,500,5000 --modes=platform,virtual
+ * --out=target/thread-model.json}; every other option (e.g.
+ * {@code --duration}, {@code --test-cases}, {@code --mix}) and application
+ * argument is passed to each {@link LoadTest} run.
+ */
+public final class ThreadModelComparison {
+
+    /** Request execution models under comparison, with the application arguments selecting them. */
+    enum Mode {
+        PLATFORM("platform", List.of("--spring.threads.virtual.enabled=false")),
+        VIRTUAL("virtual", List.of("--spring.profiles.active=virtual-threads"));
+
+        private final String key;
+        private final List<String> applicationArgs;
+
+        Mode(String key, List<String> applicationArgs) {
+            this.key = key;
+            this.applicationArgs = applicationArgs;
+        }
+
+        static Mode fromKey(String key) {
+            return Arrays.stream(values())
+                    .filter(mode -> mode.key.equals(key))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown mode in --modes: " + key));
+        }
+    }
+
+    private static final List<String> REPORTED_OPERATIONS = List.of("get", "update");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        LoadTest.parseArgs(args, options, applicationArgs);
+        String clientCounts = options.getOrDefault("clients", "50,500,5000");
+        String modes = options.getOrDefault("modes", "platform,virtual");
+        File out = new File(options.getOrDefault("out", "target/thread-model.json"));
+        options.remove("modes");
+        options.remove("out");
+        options.putIfAbsent("warmup", "10");
+        options.putIfAbsent("duration", "30");
+
+        Map<String, LoadTest.RunResult> results = new LinkedHashMap<>();
+        for (String clients : clientCounts.split(",")) {
+            for (String modeKey : modes.split(",")) {
+                Mode mode = Mode.fromKey(modeKey.trim());
+                if (mode == Mode.VIRTUAL && Runtime.version().feature() < 21) {
+                    System.out.printf("Skipping virtual threads: Java %d has none (needs 21+)%n",
+                            Runtime.version().feature());
+                    continue;
+                }
+                Map<String, String> runOptions = new HashMap<>(options);
+                runOptions.put("clients", clients.trim());
+                List<String> runArgs = new ArrayList<>(applicationArgs);
+                runArgs.addAll(mode.applicationArgs);
+
+                System.out.printf("%n=== %s threads, %s clients ===%n", mode.key, clients.trim());
+                LoadTest.RunResult result = new LoadTest(runOptions, runArgs).measure();
+                LoadTest.print(result);
+                results.put(mode.key + "-" + clients.trim(), result);
+            }
+        }
+
+        summarize(results);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, results);
+        System.out.println("Results written to " + out);
+        System.exit(0);
+    }
+
+    private static void summarize(Map<String, LoadTest.RunResult> results) {
+        StringBuilder header = new StringBuilder(String.format("%-16s %9s %8s", "run", "req/s", "errors"));
+        for (String operation : REPORTED_OPERATIONS) {
+            header.append(String.format(" %12s %12s", operation + " p99", operation + " p999"));
+        }
+        System.out.printf("%n%s%n", header);
+        for (Map.Entry<String, LoadTest.RunResult> entry : results.entrySet()) {
+            Map<String, LoadTest.OperationResult> operations = entry.getValue().operations();
+            double throughput = operations.values().stream().mapToDouble(LoadTest.OperationResult::throughput).sum();
+            long count = operations.values().stream().mapToLong(LoadTest.OperationResult::count).sum();
+            long errors = operations.values().stream().mapToLong(LoadTest.OperationResult::errors).sum();
+            StringBuilder row = new StringBuilder(String.format("%-16s %9.1f %7.2f%%", entry.getKey(), throughput,
+                    count + errors == 0 ? 0.0 : 100.0 * errors / (count + errors)));
+            for (String operation : REPORTED_OPERATIONS) {
+                LoadTest.OperationResult result = operations.get(operation);
+                row.append(result == null
+                        ? String.format(" %12s %12s", "-", "-")
+                        : String.format(" %12.2f %12.2f", result.p99Ms(), result.p999Ms()));
+            }
+            System.out.println(row);
+        }
+        System.out.println();
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.service;
+
+import org.example.benchmark.BenchmarkContext;
+import org.example.dto.TestCaseDTO;
+import org.example.model.TestCase;
+import org.example.seed.SyntheticCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO mapping of {@link TestCaseService} on a rotating set of
+ * synthetic test cases. References resolve from a warm
+ * {@link ReferenceDataCache}, as on the write path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestCaseMappingBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private ConfigurableApplicationContext context;
+    private TestCaseService testCaseService;
+    private TestCaseDTO[] dtos;
+    private TestCase[] entities;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        SyntheticCatalog catalog = new SyntheticCatalog(BenchmarkContext.SEED, SyntheticCatalog.Spec.small());
+        SyntheticCatalog.References refs = BenchmarkContext.seedReferences(context, catalog);
+        // The package-private mappers are not proxied; call them on the target
+        testCaseService = (TestCaseService) AopProxyUtils.getSingletonTarget(context.getBean(TestCaseService.class));
+
+        List<TestCaseDTO> testCases = catalog.testCases(0, SAMPLES, refs);
+        dtos = testCases.toArray(new TestCaseDTO[0]);
+        entities = new TestCase[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            entities[i] = new TestCase();
+            testCaseService.updateTestCaseFromDTO(entities[i], dtos[i]);
+            entities[i].setId((long) i + 1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TestCaseDTO convertToDTO() {
+        return testCaseService.convertToDTO(entities[next++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public TestCase updateTestCaseFromDTO() {
+        TestCase testCase = new TestCase();
+        testCaseService.updateTestCaseFromDTO(testCase, dtos[next++ & (SAMPLES - 1)]);
+        return testCase;
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.dto.AutomatedByDTO;
 import org.example.service.AutomatedByService;
+import org.example.web.DataSet;
+import org.example.web.Versioned;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,11 +20,13 @@ public class AutomatedByController {
 
     private final AutomatedByService automatedByService;
 
+    @Versioned(DataSet.AUTOMATED_BY)
     @GetMapping
     public ResponseEntity<List<AutomatedByDTO>> getAllAutomatedBy() {
         return ResponseEntity.ok(automatedByService.getAllAutomatedBy());
     }
 
+    @Versioned(DataSet.AUTOMATED_BY)
     @GetMapping("/{id}")
     public ResponseEntity<AutomatedByDTO> getAutomatedByById(@PathVariable Long id) {
         return ResponseEntity.ok(automatedByService.getAutomatedByById(id));
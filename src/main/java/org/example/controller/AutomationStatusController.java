@@ -4,6 +4,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.dto.AutomationStatusDTO;
 import org.example.service.AutomationStatusService;
+import org.example.web.DataSet;
+import org.example.web.Versioned;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,11 +20,13 @@ public class AutomationStatusController {
 
     private final AutomationStatusService statusService;
 
+    @Versioned(DataSet.AUTOMATION_STATUSES)
     @GetMapping
     public ResponseEntity<List<AutomationStatusDTO>> getAllStatuses() {
         return ResponseEntity.ok(statusService.getAllStatuses());
     }
 
+    @Versioned(DataSet.AUTOMATION_STATUSES)
     @GetMapping("/{id}")
     public ResponseEntity<AutomationStatusDTO> getStatusById(@PathVariable Long id) {
         return ResponseEntity.ok(statusService.getStatusById(id));
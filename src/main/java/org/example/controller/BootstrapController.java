@@ -0,0 +1,34 @@
+package org.example.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.service.BootstrapCache;
+import org.example.web.ContentCodings;
+import org.example.web.DataSet;
+import org.example.web.Versioned;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/bootstrap")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class BootstrapController {
+
+    private final BootstrapCache bootstrapCache;
+
+    @Versioned(value = {DataSet.MODULES, DataSet.SUB_MODULES, DataSet.PRIORITIES, DataSet.AUTOMATION_STATUSES,
+            DataSet.AUTOMATED_BY, DataSet.TAGS}, gzip = true)
+    @GetMapping
+    public ResponseEntity<byte[]> getBootstrap(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        BootstrapCache.Payload payload = bootstrapCache.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON);
+        if (ContentCodings.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzipped());
+        }
+        return response.body(payload.json());
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.dto.ChangeFeedStatsDTO;
+import org.example.web.ChangeFeed;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ChangeFeedController {
+
+    private final ChangeFeed changeFeed;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(changeFeed.subscribe());
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ChangeFeedStatsDTO> getStats() {
+        return ResponseEntity.ok(changeFeed.getStats());
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.dto.DashboardCounterStatsDTO;
+import org.example.dto.DashboardDTO;
+import org.example.service.DashboardService;
+import org.example.web.Versioned;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @Versioned
+    @GetMapping
+    public ResponseEntity<DashboardDTO> getDashboard() {
+        return ResponseEntity.ok(dashboardService.getDashboard());
+    }
+
+    @GetMapping("/counters")
+    public ResponseEntity<DashboardCounterStatsDTO> getCounterStats() {
+        return ResponseEntity.ok(dashboardService.getCounterStats());
+    }
+}
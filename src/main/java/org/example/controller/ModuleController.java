@@ -4,6 +4,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.dto.ModuleDTO;
 import org.example.service.ModuleService;
+import org.example.web.DataSet;
+import org.example.web.Versioned;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,11 +20,13 @@ public class ModuleController {
 
     private final ModuleService moduleService;
 
+    @Versioned(DataSet.MODULES)
     @GetMapping
     public ResponseEntity<List<ModuleDTO>> getAllModules() {
         return ResponseEntity.ok(moduleService.getAllModules());
     }
 
+    @Versioned(DataSet.MODULES)
     @GetMapping("/{id}")
     public ResponseEntity<ModuleDTO> getModuleById(@PathVariable Long id) {
         return ResponseEntity.ok(moduleService.getModuleById(id));
@@ -0,0 +1,34 @@
+package org.example.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.dto.ReferenceCacheStatsDTO;
+import org.example.dto.ReferenceDataChangesDTO;
+import org.example.service.ReferenceDataCache;
+import org.example.service.ReferenceDataSyncService;
+import org.example.service.TestCaseService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reference-data")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ReferenceDataController {
+
+    private final ReferenceDataCache referenceDataCache;
+    private final ReferenceDataSyncService referenceDataSyncService;
+
+    @GetMapping("/cache")
+    public ResponseEntity<List<ReferenceCacheStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(referenceDataCache.getStats());
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ReferenceDataChangesDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "" + TestCaseService.DEFAULT_CHANGES_LIMIT) int limit) {
+        return ResponseEntity.ok(referenceDataSyncService.getChanges(since, limit));
+    }
+}
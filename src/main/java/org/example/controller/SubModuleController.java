@@ -4,6 +4,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.dto.SubModuleDTO;
 import org.example.service.SubModuleService;
+import org.example.web.DataSet;
+import org.example.web.Versioned;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,16 +20,19 @@ public class SubModuleController {
 
     private final SubModuleService subModuleService;
 
+    @Versioned({DataSet.SUB_MODULES, DataSet.MODULES})
     @GetMapping
     public ResponseEntity<List<SubModuleDTO>> getAllSubModules() {
         return ResponseEntity.ok(subModuleService.getAllSubModules());
     }
 
+    @Versioned({DataSet.SUB_MODULES, DataSet.MODULES})
     @GetMapping("/{id}")
     public ResponseEntity<SubModuleDTO> getSubModuleById(@PathVariable Long id) {
         return ResponseEntity.ok(subModuleService.getSubModuleById(id));
     }
 
+    @Versioned({DataSet.SUB_MODULES, DataSet.MODULES})
     @GetMapping("/module/{moduleId}")
     public ResponseEntity<List<SubModuleDTO>> getSubModulesByModuleId(@PathVariable Long moduleId) {
         return ResponseEntity.ok(subModuleService.getSubModulesByModuleId(moduleId));
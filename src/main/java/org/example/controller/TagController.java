@@ -2,8 +2,13 @@ package org.example.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.dto.TagAssignmentRequestDTO;
+import org.example.dto.TagAssignmentResultDTO;
 import org.example.dto.TagDTO;
+import org.example.service.TagAssignmentService;
 import org.example.service.TagService;
+import org.example.web.DataSet;
+import org.example.web.Versioned;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,12 +22,15 @@ import java.util.List;
 public class TagController {
 
     private final TagService tagService;
+    private final TagAssignmentService tagAssignmentService;
 
+    @Versioned(DataSet.TAGS)
     @GetMapping
     public ResponseEntity<List<TagDTO>> getAllTags() {
         return ResponseEntity.ok(tagService.getAllTags());
     }
 
+    @Versioned(DataSet.TAGS)
     @GetMapping("/{id}")
     public ResponseEntity<TagDTO> getTagById(@PathVariable Long id) {
         return ResponseEntity.ok(tagService.getTagById(id));
@@ -43,5 +51,16 @@ public class TagController {
         tagService.deleteTag(id);
         return ResponseEntity.noContent().build();
     }
-}
 
+    @PostMapping("/{id}/assign")
+    public ResponseEntity<TagAssignmentResultDTO> assignTag(@PathVariable Long id,
+                                                            @RequestBody TagAssignmentRequestDTO request) {
+        return ResponseEntity.ok(tagAssignmentService.assign(id, request));
+    }
+
+    @PostMapping("/{id}/unassign")
+    public ResponseEntity<TagAssignmentResultDTO> unassignTag(@PathVariable Long id,
+                                                              @RequestBody TagAssignmentRequestDTO request) {
+        return ResponseEntity.ok(tagAssignmentService.unassign(id, request));
+    }
+}
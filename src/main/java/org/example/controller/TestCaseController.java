@@ -2,12 +2,39 @@ package org.example.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.dto.ChangesDTO;
+import org.example.dto.ClubSuggestionsDTO;
+import org.example.dto.CursorPageDTO;
+import org.example.dto.ImportResultDTO;
+import org.example.dto.SearchResultDTO;
+import org.example.dto.SimilarTestCasesDTO;
+import org.example.dto.TestCaseBatchResultDTO;
+import org.example.dto.TestCaseBulkPatchRequestDTO;
+import org.example.dto.TestCaseBulkResultDTO;
 import org.example.dto.TestCaseDTO;
+import org.example.dto.TestCaseFilterDTO;
+import org.example.dto.TestCaseHistoryDTO;
+import org.example.dto.TestCaseSelectionDTO;
+import org.example.dto.TestCaseSummaryDTO;
+import org.example.dto.TestCaseVersionDTO;
+import org.example.service.ClubSuggestionService;
+import org.example.service.TestCaseBatchService;
+import org.example.service.TestCaseBulkService;
+import org.example.service.TestCaseExportService;
+import org.example.service.TestCaseHistoryService;
+import org.example.service.TestCaseImportService;
 import org.example.service.TestCaseService;
+import org.example.web.Versioned;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -17,20 +44,122 @@ import java.util.List;
 public class TestCaseController {
 
     private final TestCaseService testCaseService;
+    private final TestCaseImportService testCaseImportService;
+    private final TestCaseBatchService testCaseBatchService;
+    private final TestCaseBulkService testCaseBulkService;
+    private final TestCaseExportService testCaseExportService;
+    private final ClubSuggestionService clubSuggestionService;
+    private final TestCaseHistoryService testCaseHistoryService;
 
+    @Versioned
     @GetMapping
-    public ResponseEntity<List<TestCaseDTO>> getAllTestCases() {
-        return ResponseEntity.ok(testCaseService.getAllTestCases());
+    public ResponseEntity<CursorPageDTO<TestCaseSummaryDTO>> getTestCasePage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TestCaseService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String fields,
+            TestCaseFilterDTO filter) {
+        return ResponseEntity.ok(testCaseService.getTestCasePage(filter, sort, direction, cursor, limit, includeTotal,
+                fields));
     }
 
+    @Versioned
+    @GetMapping(params = "all=true")
+    public ResponseEntity<List<TestCaseSummaryDTO>> getAllTestCases(@RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(testCaseService.getAllTestCases(fields));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchResultDTO> searchTestCases(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "" + TestCaseService.DEFAULT_SEARCH_LIMIT) int limit) {
+        return ResponseEntity.ok(testCaseService.searchTestCases(q, limit));
+    }
+
+    @GetMapping("/club-suggestions")
+    public ResponseEntity<ClubSuggestionsDTO> suggestClubs(
+            @RequestParam(required = false) Float minSimilarity,
+            @RequestParam(defaultValue = "" + ClubSuggestionService.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(clubSuggestionService.suggestClubs(minSimilarity, limit));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ChangesDTO<TestCaseDTO>> getTestCaseChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "" + TestCaseService.DEFAULT_CHANGES_LIMIT) int limit) {
+        return ResponseEntity.ok(testCaseService.getTestCaseChanges(since, limit));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTestCases(
+            @RequestParam(defaultValue = "csv") String format,
+            TestCaseFilterDTO filter) {
+        TestCaseExportService.Format exportFormat = TestCaseExportService.Format.fromParam(format);
+        StreamingResponseBody body = out -> testCaseExportService.export(exportFormat, filter, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"testcases_export." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    @Versioned
     @GetMapping("/{id}")
     public ResponseEntity<TestCaseDTO> getTestCaseById(@PathVariable Long id) {
         return ResponseEntity.ok(testCaseService.getTestCaseById(id));
     }
 
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<SimilarTestCasesDTO> getSimilarTestCases(
+            @PathVariable Long id,
+            @RequestParam(required = false) Float minSimilarity,
+            @RequestParam(defaultValue = "" + TestCaseService.DEFAULT_SIMILAR_LIMIT) int limit) {
+        return ResponseEntity.ok(testCaseService.findSimilarTestCases(id, minSimilarity, limit));
+    }
+
+    @GetMapping("/{id}/history")
+    public ResponseEntity<TestCaseHistoryDTO> getTestCaseHistory(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "" + TestCaseHistoryService.DEFAULT_HISTORY_LIMIT) int limit) {
+        return ResponseEntity.ok(testCaseHistoryService.getHistory(id, limit));
+    }
+
+    @GetMapping("/{id}/history/as-of")
+    public ResponseEntity<TestCaseVersionDTO> getTestCaseVersionAsOf(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime time) {
+        return ResponseEntity.ok(testCaseHistoryService.getVersionAsOf(id, time));
+    }
+
+    @GetMapping("/{id}/history/{version}")
+    public ResponseEntity<TestCaseVersionDTO> getTestCaseVersion(@PathVariable Long id, @PathVariable int version) {
+        return ResponseEntity.ok(testCaseHistoryService.getVersion(id, version));
+    }
+
+    @Versioned
     @GetMapping("/module/{moduleId}")
-    public ResponseEntity<List<TestCaseDTO>> getTestCasesByModuleId(@PathVariable Long moduleId) {
-        return ResponseEntity.ok(testCaseService.getTestCasesByModuleId(moduleId));
+    public ResponseEntity<CursorPageDTO<TestCaseSummaryDTO>> getTestCasePageByModuleId(
+            @PathVariable Long moduleId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + TestCaseService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) String fields,
+            TestCaseFilterDTO filter) {
+        filter.setModuleId(moduleId);
+        return ResponseEntity.ok(testCaseService.getTestCasePage(filter, sort, direction, cursor, limit, includeTotal,
+                fields));
+    }
+
+    @Versioned
+    @GetMapping(value = "/module/{moduleId}", params = "all=true")
+    public ResponseEntity<List<TestCaseSummaryDTO>> getTestCasesByModuleId(
+            @PathVariable Long moduleId,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(testCaseService.getTestCasesByModuleId(moduleId, fields));
     }
 
     @PostMapping
@@ -38,6 +167,28 @@ public class TestCaseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(testCaseService.createTestCase(testCaseDTO));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<TestCaseBatchResultDTO> upsertTestCases(@RequestBody List<TestCaseDTO> testCases) {
+        return ResponseEntity.ok(testCaseBatchService.upsertTestCases(testCases));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultDTO> importTestCases(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "true") boolean skipHeader) {
+        return ResponseEntity.ok(testCaseImportService.importTestCases(file, skipHeader));
+    }
+
+    @PatchMapping("/bulk")
+    public ResponseEntity<TestCaseBulkResultDTO> patchTestCases(@RequestBody TestCaseBulkPatchRequestDTO request) {
+        return ResponseEntity.ok(testCaseBulkService.patch(request));
+    }
+
+    @DeleteMapping("/bulk")
+    public ResponseEntity<TestCaseBulkResultDTO> deleteTestCases(@RequestBody TestCaseSelectionDTO request) {
+        return ResponseEntity.ok(testCaseBulkService.delete(request));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TestCaseDTO> updateTestCase(@PathVariable Long id, @Valid @RequestBody TestCaseDTO testCaseDTO) {
         return ResponseEntity.ok(testCaseService.updateTestCase(id, testCaseDTO));
@@ -4,6 +4,8 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.dto.TestCasePriorityDTO;
 import org.example.service.TestCasePriorityService;
+import org.example.web.DataSet;
+import org.example.web.Versioned;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,11 +20,13 @@ public class TestCasePriorityController {
 
     private final TestCasePriorityService priorityService;
 
+    @Versioned(DataSet.PRIORITIES)
     @GetMapping
     public ResponseEntity<List<TestCasePriorityDTO>> getAllPriorities() {
         return ResponseEntity.ok(priorityService.getAllPriorities());
     }
 
+    @Versioned(DataSet.PRIORITIES)
     @GetMapping("/{id}")
     public ResponseEntity<TestCasePriorityDTO> getPriorityById(@PathVariable Long id) {
         return ResponseEntity.ok(priorityService.getPriorityById(id));
@@ -0,0 +1,19 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BootstrapDTO {
+    private List<ModuleDTO> modules;
+    private List<SubModuleDTO> subModules;
+    private List<TestCasePriorityDTO> priorities;
+    private List<AutomationStatusDTO> automationStatuses;
+    private List<AutomatedByDTO> automatedBy;
+    private List<TagDTO> tags;
+}
@@ -0,0 +1,19 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Stacked bar chart data: one series per category, each holding one count
+ * per label in {@code labels} order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BreakdownDTO {
+    private List<String> labels;
+    private List<BreakdownSeriesDTO> series;
+}
@@ -0,0 +1,26 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.event.BulkOperation;
+import org.example.event.ChangeType;
+import org.example.event.EntityType;
+
+/**
+ * One change pushed on the live feed. A single write carries {@code change}
+ * and {@code id}; a bulk operation carries {@code operation}; a coalesced
+ * burst carries only the entity and how many records changed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeFeedEventDTO {
+    private EntityType entity;
+    private ChangeType change;
+    private Long id;
+    private BulkOperation operation;
+    private int count;
+}
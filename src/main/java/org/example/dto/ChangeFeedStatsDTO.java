@@ -0,0 +1,20 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedStatsDTO {
+    private int subscribers;
+    private long received;
+    private long sent;
+
+    /** Changes folded into a summary event instead of being sent one by one. */
+    private long coalesced;
+
+    /** Changes that arrived while a subscriber's buffer was full. */
+    private long overflowed;
+}
@@ -0,0 +1,20 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangesDTO<T> {
+    /** Current state of every record created or updated after the cursor. */
+    private List<T> upserted;
+    private List<TombstoneDTO> deleted;
+
+    /** Pass as {@code since} on the next call. */
+    private String cursor;
+    private boolean hasMore;
+}
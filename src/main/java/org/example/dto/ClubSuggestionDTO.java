@@ -0,0 +1,22 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClubSuggestionDTO {
+    /** The club id most members already carry, otherwise the test case id of the oldest member. */
+    private String suggestedClubbedTcId;
+
+    private List<Long> ids = new ArrayList<>();
+    private List<String> testcaseIds = new ArrayList<>();
+
+    /** Distinct club ids the members carry today. */
+    private List<String> currentClubbedTcIds = new ArrayList<>();
+}
@@ -0,0 +1,25 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClubSuggestionsDTO {
+    private float minSimilarity;
+
+    /** Number of groups found; {@code suggestions} holds the largest of them. */
+    private int total;
+
+    private long tookMillis;
+
+    /** True while the similarity index is being built, when results may be incomplete. */
+    private boolean indexing;
+
+    private List<ClubSuggestionDTO> suggestions = new ArrayList<>();
+}
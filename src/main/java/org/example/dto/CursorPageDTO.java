@@ -0,0 +1,21 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;
+
+    /** Opaque token for the next page, or {@code null} on the last page. */
+    private String nextCursor;
+    private boolean hasMore;
+
+    /** Only populated when the caller asks for it, since it costs a count query. */
+    private Long totalCount;
+}
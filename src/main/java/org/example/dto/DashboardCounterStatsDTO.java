@@ -0,0 +1,22 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardCounterStatsDTO {
+    private int groups;
+    private long reconciliations;
+    private LocalDateTime lastReconciledAt;
+
+    /** Sum of absolute per-group differences found by the last scheduled reconciliation. */
+    private long lastDrift;
+
+    /** Sum of {@code lastDrift} over all scheduled reconciliations since startup. */
+    private long totalDrift;
+}
@@ -0,0 +1,25 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDTO {
+    private long totalTestCases;
+    private long totalModules;
+    private long totalSubModules;
+    private long automatedTestCases;
+
+    /** Percentage of automated test cases, rounded to one decimal place. */
+    private double automationRate;
+
+    private List<NamedCountDTO> byStatus;
+    private List<NamedCountDTO> byPriority;
+    private BreakdownDTO subModuleByStatus;
+    private BreakdownDTO subModuleByPriority;
+}
@@ -0,0 +1,15 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceCacheStatsDTO {
+    private String referenceType;
+    private int size;
+    private long hits;
+    private long misses;
+}
@@ -0,0 +1,25 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceDataChangesDTO {
+    private List<ModuleDTO> modules = new ArrayList<>();
+    private List<SubModuleDTO> subModules = new ArrayList<>();
+    private List<TestCasePriorityDTO> priorities = new ArrayList<>();
+    private List<AutomationStatusDTO> automationStatuses = new ArrayList<>();
+    private List<AutomatedByDTO> automatedBy = new ArrayList<>();
+    private List<TagDTO> tags = new ArrayList<>();
+    private List<TombstoneDTO> deleted = new ArrayList<>();
+
+    /** Pass as {@code since} on the next call. */
+    private String cursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,13 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDTO {
+    private float score;
+    private TestCaseDTO testCase;
+}
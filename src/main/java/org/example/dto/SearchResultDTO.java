@@ -0,0 +1,26 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDTO {
+    private String query;
+
+    /** Number of test cases matching the query; {@code hits} holds the best of them. */
+    private int total;
+
+    /** Time spent in the search index, excluding loading the hits. */
+    private long tookMillis;
+
+    /** True while the index is being built, when results may be incomplete. */
+    private boolean indexing;
+
+    private List<SearchHitDTO> hits = new ArrayList<>();
+}
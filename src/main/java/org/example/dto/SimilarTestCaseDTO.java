@@ -0,0 +1,14 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarTestCaseDTO {
+    /** Estimated Jaccard similarity of the script and description word shingles, 0 to 1. */
+    private float similarity;
+    private TestCaseDTO testCase;
+}
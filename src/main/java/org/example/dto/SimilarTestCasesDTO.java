@@ -0,0 +1,21 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimilarTestCasesDTO {
+    private Long testCaseId;
+    private float minSimilarity;
+
+    /** True while the similarity index is being built, when results may be incomplete. */
+    private boolean indexing;
+
+    private List<SimilarTestCaseDTO> hits = new ArrayList<>();
+}
@@ -0,0 +1,18 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Selects the test cases to tag or untag: either explicit ids or a filter.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagAssignmentRequestDTO {
+    private List<Long> testCaseIds;
+    private TestCaseFilterDTO filter;
+}
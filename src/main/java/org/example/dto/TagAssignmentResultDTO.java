@@ -0,0 +1,20 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagAssignmentResultDTO {
+    private Long tagId;
+
+    /** Existing test cases selected by the request; unknown ids are not counted. */
+    private int matched;
+
+    /** Test cases that gained (assign) or lost (unassign) the tag. */
+    private int changed;
+
+    private long durationMillis;
+}
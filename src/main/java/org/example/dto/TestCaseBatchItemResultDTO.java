@@ -0,0 +1,20 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseBatchItemResultDTO {
+
+    public enum Status { CREATED, UPDATED, FAILED }
+
+    /** Position of the item in the request array. */
+    private int index;
+    private String testcaseId;
+    private Long id;
+    private Status status;
+    private String message;
+}
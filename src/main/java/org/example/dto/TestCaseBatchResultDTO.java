@@ -0,0 +1,20 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseBatchResultDTO {
+    private int total;
+    private int created;
+    private int updated;
+    private int failed;
+    private long durationMillis;
+    private List<TestCaseBatchItemResultDTO> items = new ArrayList<>();
+}
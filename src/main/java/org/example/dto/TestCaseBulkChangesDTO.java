@@ -0,0 +1,30 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Partial change set for a bulk patch. Fields left {@code null} are not
+ * changed; the {@code clear} flags remove the optional references.
+ * <p>
+ * Setting only {@code subModuleId} also moves the test cases to that
+ * sub-module's module. Setting only {@code moduleId} clears the sub-module,
+ * which belongs to the old module.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseBulkChangesDTO {
+    private Long moduleId;
+    private Long subModuleId;
+    private boolean clearSubModule;
+    private Long priorityId;
+    private Long automationStatusId;
+    private Long automatedById;
+    private boolean clearAutomatedBy;
+    private List<Long> addTagIds;
+    private List<Long> removeTagIds;
+}
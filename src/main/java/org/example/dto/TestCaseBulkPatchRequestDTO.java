@@ -0,0 +1,20 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The test cases to patch, selected as in {@link TestCaseSelectionDTO}, and
+ * the changes to apply to them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseBulkPatchRequestDTO {
+    private List<Long> testCaseIds;
+    private TestCaseFilterDTO filter;
+    private TestCaseBulkChangesDTO changes;
+}
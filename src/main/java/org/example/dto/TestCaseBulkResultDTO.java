@@ -0,0 +1,19 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseBulkResultDTO {
+
+    /** Test cases selected by the request. */
+    private int matched;
+
+    /** Test case rows updated or deleted. */
+    private int affected;
+
+    private long durationMillis;
+}
@@ -0,0 +1,18 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseFilterDTO {
+    private Long moduleId;
+    private Long subModuleId;
+    private Long priorityId;
+    private Long automationStatusId;
+    private Long automatedById;
+    private Long tagId;
+    private String testcaseIdPrefix;
+}
@@ -0,0 +1,20 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseHistoryDTO {
+    private Long testCaseId;
+
+    /** Number of stored versions; {@code versions} holds the newest of them. */
+    private long total;
+
+    private List<TestCaseVersionSummaryDTO> versions = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Selects the test cases for a bulk operation: explicit ids, a filter, or
+ * both (ids that also match the filter). At least one must be given.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseSelectionDTO {
+    private List<Long> testCaseIds;
+    private TestCaseFilterDTO filter;
+}
@@ -0,0 +1,39 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * A test case as returned by listings: every short column, without the large
+ * text columns unless they were selected with {@code ?fields=}. The full test
+ * case is {@code GET /api/testcases/{id}}.
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class TestCaseSummaryDTO extends TestCaseDTO {
+
+    @Override
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getPreConditions() {
+        return super.getPreConditions();
+    }
+
+    @Override
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getTestScript() {
+        return super.getTestScript();
+    }
+
+    @Override
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getExpectedResult() {
+        return super.getExpectedResult();
+    }
+
+    @Override
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getAutomationComments() {
+        return super.getAutomationComments();
+    }
+}
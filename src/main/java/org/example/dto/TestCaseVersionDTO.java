@@ -0,0 +1,36 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A test case as it was at one version. References are given by id only:
+ * they may have been renamed or deleted since.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseVersionDTO {
+    private Long id;
+    private int version;
+    private String kind;
+    private LocalDateTime changedAt;
+
+    private String testcaseId;
+    private Long moduleId;
+    private Long subModuleId;
+    private String testCaseDescription;
+    private String preConditions;
+    private String testScript;
+    private String expectedResult;
+    private Long priorityId;
+    private Long automationStatusId;
+    private Long automatedById;
+    private String automationComments;
+    private String clubbedTcId;
+    private List<Long> tagIds;
+}
@@ -0,0 +1,27 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseVersionSummaryDTO {
+    private int version;
+
+    /** {@code BASELINE} or {@code UPDATE}. */
+    private String kind;
+
+    private boolean keyframe;
+    private List<String> changedFields = new ArrayList<>();
+
+    /** Compressed size of the stored version. */
+    private int storedBytes;
+
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,14 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.event.EntityType;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TombstoneDTO {
+    private EntityType type;
+    private Long id;
+}
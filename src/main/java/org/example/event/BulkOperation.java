@@ -0,0 +1,29 @@
+package org.example.event;
+
+/**
+ * Bulk operations that publish a {@link TestCasesBulkChangedEvent}.
+ */
+public enum BulkOperation {
+    IMPORT,
+    UPSERT,
+    PATCH,
+    DELETE,
+    TAG_ASSIGN,
+    TAG_UNASSIGN;
+
+    /**
+     * Whether the operation only touched tag assignments, leaving the test
+     * case rows themselves unchanged.
+     */
+    public boolean isTagsOnly() {
+        return this == TAG_ASSIGN || this == TAG_UNASSIGN;
+    }
+
+    /**
+     * Whether the operation may have added, removed or rewritten the free
+     * text of test cases.
+     */
+    public boolean affectsText() {
+        return this == IMPORT || this == UPSERT || this == DELETE;
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
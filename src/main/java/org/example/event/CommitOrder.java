@@ -0,0 +1,22 @@
+package org.example.event;
+
+/**
+ * {@code @Order} values of after-commit listeners. In-memory state that
+ * responses are served from is updated first, then the ETag versions are
+ * bumped, then clients are notified. A request that sees a new ETag, or is
+ * sent after a change notification, therefore also sees the new data.
+ */
+public final class CommitOrder {
+
+    /** Caches and counters that responses are built from. */
+    public static final int STATE = 0;
+
+    /** ETag versions, bumped once the state they guard is current. */
+    public static final int VERSIONS = 100;
+
+    /** Change notifications to clients. */
+    public static final int NOTIFICATIONS = 200;
+
+    private CommitOrder() {
+    }
+}
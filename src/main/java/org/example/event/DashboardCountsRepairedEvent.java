@@ -0,0 +1,9 @@
+package org.example.event;
+
+/**
+ * Published when a reconciliation found the dashboard counters had drifted
+ * from the database and replaced them, so responses built from the old
+ * counts can no longer be revalidated.
+ */
+public record DashboardCountsRepairedEvent(long drift) {
+}
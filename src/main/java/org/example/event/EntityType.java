@@ -0,0 +1,25 @@
+package org.example.event;
+
+/**
+ * Entities whose writes are recorded in the change log.
+ */
+public enum EntityType {
+    TEST_CASE,
+    MODULE,
+    SUB_MODULE,
+    PRIORITY,
+    AUTOMATION_STATUS,
+    AUTOMATED_BY,
+    TAG;
+
+    public static EntityType of(ReferenceType type) {
+        return switch (type) {
+            case MODULE -> MODULE;
+            case SUB_MODULE -> SUB_MODULE;
+            case PRIORITY -> PRIORITY;
+            case AUTOMATION_STATUS -> AUTOMATION_STATUS;
+            case AUTOMATED_BY -> AUTOMATED_BY;
+            case TAG -> TAG;
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.event;
+
+/**
+ * Published by the reference data services whenever a row is created,
+ * updated or deleted.
+ */
+public record ReferenceDataChangedEvent(ReferenceType referenceType, ChangeType changeType, Long id) {
+}
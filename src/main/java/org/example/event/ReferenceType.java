@@ -0,0 +1,13 @@
+package org.example.event;
+
+/**
+ * The reference (master data) tables a test case points at.
+ */
+public enum ReferenceType {
+    MODULE,
+    SUB_MODULE,
+    PRIORITY,
+    AUTOMATION_STATUS,
+    AUTOMATED_BY,
+    TAG
+}
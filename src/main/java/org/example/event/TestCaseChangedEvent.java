@@ -0,0 +1,10 @@
+package org.example.event;
+
+/**
+ * Published by {@code TestCaseService} for every single test case write.
+ * {@code before} is {@code null} for creates and {@code after} is
+ * {@code null} for deletes.
+ */
+public record TestCaseChangedEvent(ChangeType changeType, Long testCaseId,
+                                   TestCaseDimensions before, TestCaseDimensions after) {
+}
@@ -0,0 +1,20 @@
+package org.example.event;
+
+import org.example.model.TestCase;
+
+/**
+ * The reference ids a test case is grouped by. Null ids stand for an unset
+ * optional reference (sub-module, automated by).
+ */
+public record TestCaseDimensions(Long moduleId, Long subModuleId, Long priorityId,
+                                 Long automationStatusId, Long automatedById) {
+
+    public static TestCaseDimensions of(TestCase testCase) {
+        return new TestCaseDimensions(
+                testCase.getModule().getId(),
+                testCase.getSubModule() != null ? testCase.getSubModule().getId() : null,
+                testCase.getPriority().getId(),
+                testCase.getAutomationStatus().getId(),
+                testCase.getAutomatedBy() != null ? testCase.getAutomatedBy().getId() : null);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.event;
+
+/**
+ * Published once by bulk operations (imports and the like) instead of one
+ * {@link TestCaseChangedEvent} per row.
+ */
+public record TestCasesBulkChangedEvent(BulkOperation operation, int affected) {
+}
@@ -0,0 +1,7 @@
+package org.example.exception;
+
+public class CursorExpiredException extends RuntimeException {
+    public CursorExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.exception;
+
+public class ServerBusyException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServerBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.history;
+
+/**
+ * The fields of a test case kept in its version history, by their
+ * {@code TestCaseDTO} property names. Ordinals fix the position of each field
+ * in stored versions: append new fields, never reorder.
+ */
+public enum HistoryField {
+    TESTCASE_ID("testcaseId"),
+    MODULE_ID("moduleId"),
+    SUB_MODULE_ID("subModuleId"),
+    TEST_CASE_DESCRIPTION("testCaseDescription"),
+    PRE_CONDITIONS("preConditions"),
+    TEST_SCRIPT("testScript"),
+    EXPECTED_RESULT("expectedResult"),
+    PRIORITY_ID("priorityId"),
+    AUTOMATION_STATUS_ID("automationStatusId"),
+    AUTOMATED_BY_ID("automatedById"),
+    AUTOMATION_COMMENTS("automationComments"),
+    CLUBBED_TC_ID("clubbedTcId"),
+    TAG_IDS("tagIds");
+
+    private final String property;
+
+    HistoryField(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+}
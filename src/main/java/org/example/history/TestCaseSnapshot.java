@@ -0,0 +1,126 @@
+package org.example.history;
+
+import org.example.model.Tag;
+import org.example.model.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link HistoryField} values of one test case version, with references
+ * by id and ids stored as decimal strings. Tags are stored as their ids in
+ * ascending order, comma-separated, or {@code null} when there are none.
+ */
+public record TestCaseSnapshot(String[] values) {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    public TestCaseSnapshot {
+        if (values.length != HistoryField.values().length) {
+            throw new IllegalArgumentException("Expected " + HistoryField.values().length + " values");
+        }
+    }
+
+    /** Reads the current state of a managed test case; references other than tags are not initialized. */
+    public static TestCaseSnapshot of(TestCase testCase) {
+        String[] values = new String[HistoryField.values().length];
+        values[HistoryField.TESTCASE_ID.ordinal()] = testCase.getTestcaseId();
+        values[HistoryField.MODULE_ID.ordinal()] = id(testCase.getModule() != null ? testCase.getModule().getId() : null);
+        values[HistoryField.SUB_MODULE_ID.ordinal()] =
+                id(testCase.getSubModule() != null ? testCase.getSubModule().getId() : null);
+        values[HistoryField.TEST_CASE_DESCRIPTION.ordinal()] = testCase.getTestCaseDescription();
+        values[HistoryField.PRE_CONDITIONS.ordinal()] = testCase.getPreConditions();
+        values[HistoryField.TEST_SCRIPT.ordinal()] = testCase.getTestScript();
+        values[HistoryField.EXPECTED_RESULT.ordinal()] = testCase.getExpectedResult();
+        values[HistoryField.PRIORITY_ID.ordinal()] =
+                id(testCase.getPriority() != null ? testCase.getPriority().getId() : null);
+        values[HistoryField.AUTOMATION_STATUS_ID.ordinal()] =
+                id(testCase.getAutomationStatus() != null ? testCase.getAutomationStatus().getId() : null);
+        values[HistoryField.AUTOMATED_BY_ID.ordinal()] =
+                id(testCase.getAutomatedBy() != null ? testCase.getAutomatedBy().getId() : null);
+        values[HistoryField.AUTOMATION_COMMENTS.ordinal()] = testCase.getAutomationComments();
+        values[HistoryField.CLUBBED_TC_ID.ordinal()] = testCase.getClubbedTcId();
+        values[HistoryField.TAG_IDS.ordinal()] = tagIds(testCase.getTags());
+        return new TestCaseSnapshot(values);
+    }
+
+    public String get(HistoryField field) {
+        return values[field.ordinal()];
+    }
+
+    public Long getId(HistoryField field) {
+        String value = get(field);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    /** The ids of a list field such as {@link HistoryField#TAG_IDS}; empty when null. */
+    public List<Long> getIds(HistoryField field) {
+        String value = get(field);
+        if (value == null) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(value.split(",")).map(Long::valueOf).collect(Collectors.toList());
+    }
+
+    /** Fields whose value differs from {@code other}, in field order. */
+    public List<HistoryField> changedFrom(TestCaseSnapshot other) {
+        List<HistoryField> changed = new ArrayList<>();
+        for (HistoryField field : HistoryField.values()) {
+            if (!Objects.equals(get(field), other.get(field))) {
+                changed.add(field);
+            }
+        }
+        return changed;
+    }
+
+    /** 64-bit FNV-1a over all values, to tell whether a stored version still matches the row. */
+    public long stateHash() {
+        long hash = FNV_OFFSET;
+        for (String value : values) {
+            if (value == null) {
+                hash = (hash ^ 0xFF) * FNV_PRIME;
+                continue;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+            }
+            hash = (hash ^ 0xFE) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TestCaseSnapshot other && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "TestCaseSnapshot" + Arrays.toString(values);
+    }
+
+    private static String id(Long id) {
+        return id != null ? id.toString() : null;
+    }
+
+    private static String tagIds(Set<Tag> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+        return tags.stream()
+                .map(Tag::getId)
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.history;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Copy/insert delta between two strings, in the style of VCDIFF.
+ * <p>
+ * The base is indexed by the hash of every aligned {@value #BLOCK}-char
+ * block. The target is scanned with a rolling hash; a window that matches a
+ * base block is extended both ways and emitted as a copy of the base, and
+ * everything between copies is emitted as literal text. Encoding is linear
+ * in the length of both strings, and an edit anywhere in a long script
+ * costs about the size of the edit.
+ * <p>
+ * Ops are a varint header, {@code length << 1 | type}, followed by a varint
+ * base offset for copies or the chars for literals. Literals are written as
+ * modified UTF-8, which keeps lone surrogates intact at op boundaries.
+ */
+final class TextDelta {
+
+    static final int BLOCK = 16;
+
+    private static final int COPY = 0;
+    private static final int LITERAL = 1;
+    private static final int END = 0;
+    /** Keeps every writeUTF chunk below its 64 KB limit at up to 3 bytes a char. */
+    static final int UTF_CHUNK = 16_384;
+    private static final long BASE = 1_000_003L;
+    private static final long BASE_POW;
+
+    static {
+        long pow = 1;
+        for (int i = 0; i < BLOCK - 1; i++) {
+            pow *= BASE;
+        }
+        BASE_POW = pow;
+    }
+
+    private TextDelta() {
+    }
+
+    static void encode(String base, String target, DataOutput out) throws IOException {
+        Map<Long, Integer> blocks = new HashMap<>(Math.max(16, base.length() / BLOCK * 2));
+        for (int offset = 0; offset + BLOCK <= base.length(); offset += BLOCK) {
+            blocks.putIfAbsent(hash(base, offset), offset);
+        }
+
+        int literalStart = 0;
+        int pos = 0;
+        long hash = target.length() >= BLOCK ? hash(target, 0) : 0;
+        while (pos + BLOCK <= target.length()) {
+            Integer candidate = blocks.get(hash);
+            if (candidate != null && base.regionMatches(candidate, target, pos, BLOCK)) {
+                int baseStart = candidate;
+                int targetStart = pos;
+                while (targetStart > literalStart && baseStart > 0
+                        && base.charAt(baseStart - 1) == target.charAt(targetStart - 1)) {
+                    baseStart--;
+                    targetStart--;
+                }
+                int end = pos + BLOCK;
+                int baseEnd = candidate + BLOCK;
+                while (end < target.length() && baseEnd < base.length()
+                        && base.charAt(baseEnd) == target.charAt(end)) {
+                    end++;
+                    baseEnd++;
+                }
+                writeLiteral(target, literalStart, targetStart, out);
+                writeVarint(out, (long) (end - targetStart) << 1 | COPY);
+                writeVarint(out, baseStart);
+                literalStart = end;
+                pos = end;
+                if (pos + BLOCK <= target.length()) {
+                    hash = hash(target, pos);
+                }
+                continue;
+            }
+            if (pos + BLOCK < target.length()) {
+                hash = (hash - target.charAt(pos) * BASE_POW) * BASE + target.charAt(pos + BLOCK);
+            }
+            pos++;
+        }
+        writeLiteral(target, literalStart, target.length(), out);
+        writeVarint(out, END);
+    }
+
+    static String decode(String base, DataInput in) throws IOException {
+        StringBuilder target = new StringBuilder();
+        long header;
+        while ((header = readVarint(in)) != END) {
+            int length = (int) (header >>> 1);
+            if ((header & 1) == COPY) {
+                int offset = (int) readVarint(in);
+                target.append(base, offset, offset + length);
+            } else {
+                int end = target.length() + length;
+                while (target.length() < end) {
+                    target.append(in.readUTF());
+                }
+            }
+        }
+        return target.toString();
+    }
+
+    private static void writeLiteral(String target, int from, int to, DataOutput out) throws IOException {
+        if (from >= to) {
+            return;
+        }
+        writeVarint(out, (long) (to - from) << 1 | LITERAL);
+        for (int chunk = from; chunk < to; chunk += UTF_CHUNK) {
+            out.writeUTF(target.substring(chunk, Math.min(to, chunk + UTF_CHUNK)));
+        }
+    }
+
+    private static long hash(String text, int offset) {
+        long hash = 0;
+        for (int i = offset; i < offset + BLOCK; i++) {
+            hash = hash * BASE + text.charAt(i);
+        }
+        return hash;
+    }
+
+    static void writeVarint(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarint(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.history;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encodes test case versions as Deflate-compressed payloads: a keyframe
+ * holds every field, a delta holds only what changed against the previous
+ * version.
+ * <p>
+ * Each field is one tag byte followed by its data: unchanged (deltas only),
+ * null, the full value, or a {@link TextDelta} against the previous value.
+ * A delta field is written only when it is smaller than the full value, so
+ * short values such as ids are always stored whole.
+ */
+public final class VersionCodec {
+
+    private static final int FORMAT = 1;
+    private static final int SAME = 0;
+    private static final int NULL = 1;
+    private static final int FULL = 2;
+    private static final int DELTA = 3;
+
+    private VersionCodec() {
+    }
+
+    public static byte[] keyframe(TestCaseSnapshot snapshot) {
+        return encode(null, snapshot);
+    }
+
+    public static byte[] delta(TestCaseSnapshot base, TestCaseSnapshot target) {
+        return encode(base, target);
+    }
+
+    public static TestCaseSnapshot decodeKeyframe(byte[] payload) {
+        return decode(null, payload);
+    }
+
+    public static TestCaseSnapshot applyDelta(TestCaseSnapshot base, byte[] payload) {
+        return decode(base, payload);
+    }
+
+    private static byte[] encode(TestCaseSnapshot base, TestCaseSnapshot target) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeByte(FORMAT);
+            for (HistoryField field : HistoryField.values()) {
+                String value = target.get(field);
+                String previous = base != null ? base.get(field) : null;
+                if (base != null && Objects.equals(value, previous)) {
+                    out.writeByte(SAME);
+                } else if (value == null) {
+                    out.writeByte(NULL);
+                } else if (previous != null && previous.length() >= TextDelta.BLOCK) {
+                    writeSmaller(previous, value, out);
+                } else {
+                    writeFull(value, out);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeSmaller(String previous, String value, DataOutputStream out) throws IOException {
+        ByteArrayOutputStream delta = new ByteArrayOutputStream();
+        TextDelta.encode(previous, value, new DataOutputStream(delta));
+        // Full values cost about one byte per char before compression
+        if (delta.size() < value.length()) {
+            out.writeByte(DELTA);
+            delta.writeTo(out);
+        } else {
+            writeFull(value, out);
+        }
+    }
+
+    private static void writeFull(String value, DataOutputStream out) throws IOException {
+        out.writeByte(FULL);
+        TextDelta.writeVarint(out, value.length());
+        for (int chunk = 0; chunk < value.length(); chunk += TextDelta.UTF_CHUNK) {
+            out.writeUTF(value.substring(chunk, Math.min(value.length(), chunk + TextDelta.UTF_CHUNK)));
+        }
+    }
+
+    private static TestCaseSnapshot decode(TestCaseSnapshot base, byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(payload)))) {
+            int format = in.readUnsignedByte();
+            if (format != FORMAT) {
+                throw new IllegalStateException("Unknown test case version format " + format);
+            }
+            String[] values = new String[HistoryField.values().length];
+            for (HistoryField field : HistoryField.values()) {
+                int tag = in.readUnsignedByte();
+                values[field.ordinal()] = switch (tag) {
+                    case SAME -> requireBase(base).get(field);
+                    case NULL -> null;
+                    case FULL -> readFull(in);
+                    case DELTA -> TextDelta.decode(requireBase(base).get(field), in);
+                    default -> throw new IllegalStateException("Unknown field tag " + tag);
+                };
+            }
+            return new TestCaseSnapshot(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readFull(DataInputStream in) throws IOException {
+        int length = (int) TextDelta.readVarint(in);
+        StringBuilder value = new StringBuilder(length);
+        while (value.length() < length) {
+            value.append(in.readUTF());
+        }
+        return value.toString();
+    }
+
+    private static TestCaseSnapshot requireBase(TestCaseSnapshot base) {
+        if (base == null) {
+            throw new IllegalStateException("Keyframe refers to a previous version");
+        }
+        return base;
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.metrics;
+
+import io.micrometer.common.KeyValues;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the controller method ({@code handler}) and the query budget outcome
+ * ({@code query.budget}: {@code ok}, {@code exceeded} or {@code none}) to
+ * the {@code http.server.requests} metrics.
+ */
+@Component
+public class HandlerObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        HttpServletRequest request = context.getCarrier();
+        String handler = QueryMetricsFilter.handlerName(request);
+        Object budget = request.getAttribute(QueryMetricsFilter.QUERY_BUDGET_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context)
+                .and("handler", handler != null ? handler : "none")
+                .and("query.budget", budget != null ? budget.toString() : "none");
+    }
+}
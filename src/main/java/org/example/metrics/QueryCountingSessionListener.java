@@ -0,0 +1,34 @@
+package org.example.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Feeds {@link RequestQueryStats} from Hibernate's JDBC execution events.
+ * Registered per session through {@code hibernate.session.events.auto}; a
+ * session is used by one thread at a time, so plain fields are enough.
+ */
+public class QueryCountingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestQueryStats.record(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestQueryStats.record(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how many JDBC statements each request ran and how long they took,
+ * per controller method, and flags requests over the query budget.
+ * <p>
+ * Publishes {@code scriptsync.request.queries} and
+ * {@code scriptsync.request.query.time} tagged with the handler, counts
+ * over-budget requests in {@code scriptsync.request.query.budget.exceeded}
+ * and leaves the outcome on the request for
+ * {@link HandlerObservationConvention} to tag {@code http.server.requests}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    static final String QUERY_BUDGET_ATTRIBUTE = QueryMetricsFilter.class.getName() + ".queryBudget";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scriptsync.metrics.query-budget:20}")
+    private int queryBudget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.stop();
+            String handler = handlerName(request);
+            if (handler != null) {
+                record(request, handler, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, String handler, RequestQueryStats stats) {
+        Tags tags = Tags.of("handler", handler);
+        meterRegistry.summary("scriptsync.request.queries", tags).record(stats.statements());
+        meterRegistry.timer("scriptsync.request.query.time", tags).record(stats.nanos(), TimeUnit.NANOSECONDS);
+
+        boolean exceeded = stats.statements() > queryBudget;
+        request.setAttribute(QUERY_BUDGET_ATTRIBUTE, exceeded ? "exceeded" : "ok");
+        if (exceeded) {
+            meterRegistry.counter("scriptsync.request.query.budget.exceeded", tags).increment();
+            log.warn("{} {} ran {} statements ({} ms), over the budget of {}", request.getMethod(), handler,
+                    stats.statements(), TimeUnit.NANOSECONDS.toMillis(stats.nanos()), queryBudget);
+        }
+    }
+
+    /** {@code Controller.method} of the handler that served the request, or {@code null}. */
+    static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return null;
+    }
+}
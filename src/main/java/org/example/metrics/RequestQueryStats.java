@@ -0,0 +1,45 @@
+package org.example.metrics;
+
+/**
+ * JDBC statements Hibernate executed on the current request thread, and
+ * their execution time. Started and stopped by {@link QueryMetricsFilter};
+ * statements run on other threads (streamed exports, background rebuilds)
+ * are not attributed to the request.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    private RequestQueryStats() {
+    }
+
+    static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /** Called by {@link QueryCountingSessionListener} after each statement or batch. */
+    static void record(long elapsedNanos) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += elapsedNanos;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+}
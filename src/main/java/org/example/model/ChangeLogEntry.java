@@ -0,0 +1,40 @@
+package org.example.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.event.ChangeType;
+import org.example.event.EntityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * One committed write to one entity. {@code seq} is assigned in commit order
+ * (see {@link ChangeLogHead}), so readers can page through changes with a
+ * plain "seq greater than" cursor.
+ */
+@Entity
+@Table(name = "change_log", indexes = @Index(name = "idx_change_log_entity_type", columnList = "entity_type, seq"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogEntry {
+
+    @Id
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 32)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,37 @@
+package org.example.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The single row that hands out change log sequence numbers.
+ * <p>
+ * Writers lock this row to reserve numbers and hold the lock until commit, so
+ * numbers become visible in the order they were handed out. {@code epoch}
+ * identifies the database, so cursors from a recreated one are rejected.
+ */
+@Entity
+@Table(name = "change_log_head")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogHead {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false, length = 32)
+    private String epoch;
+
+    /** Highest sequence number handed out. */
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+
+    /** Highest sequence number removed by retention; older cursors have expired. */
+    @Column(name = "purged_seq", nullable = false)
+    private long purgedSeq;
+}
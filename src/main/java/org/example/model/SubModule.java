@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "sub_modules")
+@Table(name = "sub_modules", indexes = @Index(name = "idx_sub_modules_module", columnList = "module_id, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -4,20 +4,53 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.LazyGroup;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "test_cases")
+@Table(name = "test_cases", indexes = {
+    @Index(name = "idx_test_cases_module", columnList = "module_id, id"),
+    @Index(name = "idx_test_cases_sub_module", columnList = "sub_module_id, id"),
+    @Index(name = "idx_test_cases_priority", columnList = "priority_id, id"),
+    @Index(name = "idx_test_cases_automation_status", columnList = "automation_status_id, id"),
+    @Index(name = "idx_test_cases_automated_by", columnList = "automated_by_id, id")
+})
+@NamedEntityGraph(
+    name = TestCase.GRAPH_DETAIL,
+    attributeNodes = {
+        @NamedAttributeNode("module"),
+        @NamedAttributeNode("subModule"),
+        @NamedAttributeNode("priority"),
+        @NamedAttributeNode("automationStatus"),
+        @NamedAttributeNode("automatedBy"),
+        @NamedAttributeNode("tags"),
+        @NamedAttributeNode("preConditions"),
+        @NamedAttributeNode("testScript"),
+        @NamedAttributeNode("expectedResult"),
+        @NamedAttributeNode("automationComments")
+    }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TestCase {
 
+    /** Fetch plan with every reference including tags, and the lazy text columns. */
+    public static final String GRAPH_DETAIL = "TestCase.detail";
+
+    /**
+     * Lazy group of the large text columns, which listings never read. They
+     * load together on first access, or with the row through an entity graph.
+     */
+    public static final String TEXT_GROUP = "text";
+
+    /** Pooled sequence ids let Hibernate batch inserts; IDENTITY would force one insert per statement. */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "test_cases_seq")
+    @SequenceGenerator(name = "test_cases_seq", sequenceName = "test_cases_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "testcase_id", nullable = false, unique = true)
@@ -34,12 +67,18 @@ public class TestCase {
     @Column(name = "test_case_description", nullable = false, columnDefinition = "TEXT")
     private String testCaseDescription;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(TEXT_GROUP)
     @Column(name = "pre_conditions", columnDefinition = "TEXT")
     private String preConditions;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(TEXT_GROUP)
     @Column(name = "test_script", nullable = false, columnDefinition = "TEXT")
     private String testScript;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(TEXT_GROUP)
     @Column(name = "expected_result", nullable = false, columnDefinition = "TEXT")
     private String expectedResult;
 
@@ -55,6 +94,8 @@ public class TestCase {
     @JoinColumn(name = "automated_by_id")
     private AutomatedBy automatedBy;
 
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup(TEXT_GROUP)
     @Column(name = "automation_comments", columnDefinition = "TEXT")
     private String automationComments;
 
@@ -65,7 +106,9 @@ public class TestCase {
     @JoinTable(
         name = "test_case_tags",
         joinColumns = @JoinColumn(name = "test_case_id"),
-        inverseJoinColumns = @JoinColumn(name = "tag_id")
+        inverseJoinColumns = @JoinColumn(name = "tag_id"),
+        // The primary key is (test_case_id, tag_id); this serves lookups by tag
+        indexes = @Index(name = "idx_test_case_tags_tag", columnList = "tag_id, test_case_id")
     )
     private Set<Tag> tags = new HashSet<>();
 
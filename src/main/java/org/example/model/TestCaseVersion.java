@@ -0,0 +1,70 @@
+package org.example.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One stored version of a test case: a keyframe with every field, or a delta
+ * against the previous version (see {@code VersionCodec}). Every version
+ * names the keyframe its delta chain starts from, so any version is rebuilt
+ * from the rows {@code keyframeVersion..version}.
+ */
+@Entity
+@Table(name = "test_case_versions",
+       uniqueConstraints = @UniqueConstraint(name = "uk_test_case_versions_version",
+                                             columnNames = {"test_case_id", "version"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestCaseVersion {
+
+    /** Why a version was recorded. */
+    public enum Kind {
+        /** The state before the first recorded update, or after changes made outside single updates. */
+        BASELINE,
+        UPDATE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "test_case_id", nullable = false)
+    private Long testCaseId;
+
+    @Column(nullable = false)
+    private int version;
+
+    @Column(name = "keyframe_version", nullable = false)
+    private int keyframeVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Kind kind;
+
+    /** Comma-separated {@code HistoryField} properties that changed; empty for baselines. */
+    @Column(name = "changed_fields", nullable = false, length = 512)
+    private String changedFields;
+
+    /** {@code TestCaseSnapshot.stateHash()} of this version. */
+    @Column(name = "state_hash", nullable = false)
+    private long stateHash;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(name = "payload_size", nullable = false)
+    private int payloadSize;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public boolean isKeyframe() {
+        return version == keyframeVersion;
+    }
+}
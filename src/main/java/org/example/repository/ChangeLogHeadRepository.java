@@ -0,0 +1,18 @@
+package org.example.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.model.ChangeLogHead;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ChangeLogHeadRepository extends JpaRepository<ChangeLogHead, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM ChangeLogHead h WHERE h.id = :id")
+    Optional<ChangeLogHead> lockById(Integer id);
+}
@@ -0,0 +1,27 @@
+package org.example.repository;
+
+import org.example.event.EntityType;
+import org.example.model.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    List<ChangeLogEntry> findByEntityTypeInAndSeqGreaterThanOrderBySeq(Collection<EntityType> entityTypes, long seq,
+                                                                       Pageable pageable);
+
+    @Query("SELECT MAX(c.seq) FROM ChangeLogEntry c WHERE c.changedAt < :cutoff")
+    Long findMaxSeqBefore(LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.seq <= :seq")
+    int deleteUpTo(long seq);
+}
@@ -1,13 +1,28 @@
 package org.example.repository;
 
 import org.example.model.SubModule;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SubModuleRepository extends JpaRepository<SubModule, Long> {
+    @Override
+    @EntityGraph(attributePaths = "module")
+    List<SubModule> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "module")
+    Optional<SubModule> findById(Long id);
+
+    @EntityGraph(attributePaths = "module")
     List<SubModule> findByModuleId(Long moduleId);
+
+    @EntityGraph(attributePaths = "module")
+    List<SubModule> findByIdIn(Collection<Long> ids);
 }
 
@@ -0,0 +1,20 @@
+package org.example.repository;
+
+import lombok.Data;
+
+/**
+ * Column changes applied to many test cases by one UPDATE statement.
+ * <p>
+ * A {@code null} id leaves the column unchanged; the {@code clear} flags set
+ * the optional references to {@code null}. {@code updatedAt} is always set.
+ */
+@Data
+public class TestCaseChanges {
+    private Long moduleId;
+    private Long subModuleId;
+    private boolean clearSubModule;
+    private Long priorityId;
+    private Long automationStatusId;
+    private Long automatedById;
+    private boolean clearAutomatedBy;
+}
@@ -0,0 +1,7 @@
+package org.example.repository;
+
+/**
+ * The identifying columns of a test case and its club, for club suggestions.
+ */
+public record TestCaseClubRow(Long id, String testcaseId, String clubbedTcId) {
+}
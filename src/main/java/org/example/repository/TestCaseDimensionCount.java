@@ -0,0 +1,8 @@
+package org.example.repository;
+
+/**
+ * Number of test cases sharing one combination of reference ids.
+ */
+public record TestCaseDimensionCount(Long moduleId, Long subModuleId, Long priorityId,
+                                     Long automationStatusId, Long automatedById, long count) {
+}
@@ -0,0 +1,8 @@
+package org.example.repository;
+
+/**
+ * Number of test cases sharing one sub-module, automation status and priority.
+ * {@code subModuleName} is {@code null} for test cases without a sub-module.
+ */
+public record TestCaseGroupCount(String subModuleName, String automationStatusName, String priorityName, long count) {
+}
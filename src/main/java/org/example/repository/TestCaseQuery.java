@@ -0,0 +1,37 @@
+package org.example.repository;
+
+import lombok.Data;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Criteria for a test case listing.
+ * <p>
+ * When {@code afterId} is set, only rows strictly after
+ * ({@code afterValue}, {@code afterId}) in the requested order are returned.
+ * A {@code limit} of 0 returns every matching row. Text columns not in
+ * {@code textFields} are not read and come back {@code null}.
+ */
+@Data
+public class TestCaseQuery {
+    private Long moduleId;
+    private Long subModuleId;
+    private Long priorityId;
+    private Long automationStatusId;
+    private Long automatedById;
+    private Long tagId;
+    private String testcaseIdPrefix;
+    private Collection<Long> ids;
+
+    private Set<TestCaseTextField> textFields = EnumSet.allOf(TestCaseTextField.class);
+
+    private TestCaseSortField sortField = TestCaseSortField.ID;
+    private boolean ascending = true;
+
+    private Comparable<?> afterValue;
+    private Long afterId;
+
+    private int limit;
+}
@@ -1,23 +1,118 @@
 package org.example.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.example.model.TestCase;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TestCaseRepository extends JpaRepository<TestCase, Long> {
+public interface TestCaseRepository extends JpaRepository<TestCase, Long>, TestCaseRepositoryCustom {
     Optional<TestCase> findByTestcaseId(String testcaseId);
     boolean existsByTestcaseId(String testcaseId);
+    List<TestCase> findByTestcaseIdIn(Collection<String> testcaseIds);
+
+    @EntityGraph(attributePaths = "tags")
+    List<TestCase> findWithTagsByTestcaseIdIn(Collection<String> testcaseIds);
+
+    @EntityGraph(TestCase.GRAPH_DETAIL)
+    Optional<TestCase> findDetailedById(Long id);
+
+    /**
+     * Locks the row so concurrent updates of one test case record history in
+     * order. The text columns are fetched with it, since the update reads them.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = {"preConditions", "testScript", "expectedResult", "automationComments"})
+    @Query("SELECT t FROM TestCase t WHERE t.id = :id")
+    Optional<TestCase> findForUpdateById(Long id);
+
+    @EntityGraph(TestCase.GRAPH_DETAIL)
     List<TestCase> findByModuleId(Long moduleId);
+
     List<TestCase> findBySubModuleId(Long subModuleId);
     List<TestCase> findByAutomationStatusId(Long automationStatusId);
     List<TestCase> findByPriorityId(Long priorityId);
 
     @Query("SELECT t FROM TestCase t JOIN t.tags tag WHERE tag.id = :tagId")
     List<TestCase> findByTagId(Long tagId);
+
+    @Query("SELECT new org.example.repository.TestCaseGroupCount(sm.name, s.name, p.name, COUNT(t)) " +
+           "FROM TestCase t LEFT JOIN t.subModule sm JOIN t.automationStatus s JOIN t.priority p " +
+           "GROUP BY sm.name, s.name, p.name")
+    List<TestCaseGroupCount> countBySubModuleStatusAndPriority();
+
+    @Query("SELECT new org.example.repository.TestCaseDimensionCount(" +
+           "t.module.id, t.subModule.id, t.priority.id, t.automationStatus.id, t.automatedBy.id, COUNT(t)) " +
+           "FROM TestCase t " +
+           "GROUP BY t.module.id, t.subModule.id, t.priority.id, t.automationStatus.id, t.automatedBy.id")
+    List<TestCaseDimensionCount> countByDimensions();
+
+    @Query("SELECT new org.example.repository.TestCaseText(" +
+           "t.id, t.testCaseDescription, t.preConditions, t.testScript, t.expectedResult) " +
+           "FROM TestCase t WHERE t.id = :id")
+    Optional<TestCaseText> findTextById(Long id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new org.example.repository.TestCaseText(" +
+           "t.id, t.testCaseDescription, t.preConditions, t.testScript, t.expectedResult) " +
+           "FROM TestCase t")
+    Stream<TestCaseText> streamAllText();
+
+    @Query("SELECT new org.example.repository.TestCaseClubRow(t.id, t.testcaseId, t.clubbedTcId) " +
+           "FROM TestCase t WHERE t.id IN :ids")
+    List<TestCaseClubRow> findClubRowsByIdIn(Collection<Long> ids);
+
+    /** Stamps updated_at on the test cases that {@link #assignTag} will change; run it first. */
+    @Modifying
+    @Query(value = "UPDATE test_cases t SET updated_at = :now " +
+                   "WHERE t.id IN (:testCaseIds) AND NOT EXISTS (" +
+                   "SELECT 1 FROM test_case_tags x WHERE x.test_case_id = t.id AND x.tag_id = :tagId)",
+           nativeQuery = true)
+    int touchUntagged(Long tagId, Collection<Long> testCaseIds, LocalDateTime now);
+
+    /** Stamps updated_at on the test cases that {@link #unassignTag} will change; run it first. */
+    @Modifying
+    @Query(value = "UPDATE test_cases t SET updated_at = :now " +
+                   "WHERE t.id IN (:testCaseIds) AND EXISTS (" +
+                   "SELECT 1 FROM test_case_tags x WHERE x.test_case_id = t.id AND x.tag_id = :tagId)",
+           nativeQuery = true)
+    int touchTagged(Long tagId, Collection<Long> testCaseIds, LocalDateTime now);
+
+    @Modifying
+    @Query(value = "INSERT INTO test_case_tags (test_case_id, tag_id) " +
+                   "SELECT t.id, :tagId FROM test_cases t " +
+                   "WHERE t.id IN (:testCaseIds) AND NOT EXISTS (" +
+                   "SELECT 1 FROM test_case_tags x WHERE x.test_case_id = t.id AND x.tag_id = :tagId)",
+           nativeQuery = true)
+    int assignTag(Long tagId, Collection<Long> testCaseIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM test_case_tags WHERE tag_id = :tagId AND test_case_id IN (:testCaseIds)",
+           nativeQuery = true)
+    int unassignTag(Long tagId, Collection<Long> testCaseIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM test_case_tags WHERE test_case_id IN (:testCaseIds)", nativeQuery = true)
+    int unassignAllTags(Collection<Long> testCaseIds);
+
+    @Modifying
+    @Query("DELETE FROM TestCase t WHERE t.id IN :testCaseIds")
+    int deleteByIds(Collection<Long> testCaseIds);
 }
 
@@ -0,0 +1,47 @@
+package org.example.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TestCaseRepositoryCustom {
+
+    /**
+     * Returns matching rows as projections. A limit of 0 means unlimited.
+     */
+    List<TestCaseRow> findRows(TestCaseQuery query);
+
+    /**
+     * Streams matching rows from a forward-only cursor. Must be consumed and
+     * closed inside a transaction.
+     */
+    Stream<TestCaseRow> streamRows(TestCaseQuery query);
+
+    /**
+     * Returns the tags of the given test cases, or of every test case matching
+     * the query when {@code testCaseIds} is {@code null}.
+     */
+    List<TestCaseTagRow> findTagRows(TestCaseQuery query, Collection<Long> testCaseIds);
+
+    /**
+     * Streams the tags of every test case matching the query, ordered by test
+     * case id and tag name.
+     */
+    Stream<TestCaseTagRow> streamTagRows(TestCaseQuery query);
+
+    /**
+     * Returns the ids of matching test cases in the query's order. A limit of 0
+     * means unlimited.
+     */
+    List<Long> findIds(TestCaseQuery query);
+
+    long countMatching(TestCaseQuery query);
+
+    /**
+     * Applies {@code changes} to the given test cases with one UPDATE
+     * statement, bypassing the persistence context.
+     *
+     * @return the number of rows updated
+     */
+    int updateColumns(Collection<Long> testCaseIds, TestCaseChanges changes);
+}
@@ -0,0 +1,307 @@
+package org.example.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.example.model.AutomatedBy;
+import org.example.model.AutomationStatus;
+import org.example.model.Module;
+import org.example.model.SubModule;
+import org.example.model.Tag;
+import org.example.model.TestCase;
+import org.example.model.TestCasePriority;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read-side queries for test case listings.
+ * <p>
+ * Rows are selected as {@link TestCaseRow} constructor projections, so no
+ * entity is hydrated, snapshotted for dirty checking or kept in the
+ * persistence context. Pagination uses keyset ("seek") predicates: each page
+ * is a single indexed range scan, so page N costs the same as page 1, and
+ * tags for the page are fetched in one follow-up query. Large text columns
+ * are only read when the query selects them.
+ * <p>
+ * Bulk column changes are single criteria UPDATE statements for the same reason.
+ */
+public class TestCaseRepositoryImpl implements TestCaseRepositoryCustom {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TestCaseRow> findRows(TestCaseQuery query) {
+        return rowsQuery(query).getResultList();
+    }
+
+    @Override
+    public Stream<TestCaseRow> streamRows(TestCaseQuery query) {
+        return forwardOnly(rowsQuery(query)).getResultStream();
+    }
+
+    private TypedQuery<TestCaseRow> rowsQuery(TestCaseQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TestCaseRow> cq = cb.createQuery(TestCaseRow.class);
+        Root<TestCase> root = cq.from(TestCase.class);
+        Join<TestCase, Module> module = root.join("module");
+        Join<TestCase, SubModule> subModule = root.join("subModule", JoinType.LEFT);
+        Join<TestCase, TestCasePriority> priority = root.join("priority");
+        Join<TestCase, AutomationStatus> status = root.join("automationStatus");
+        Join<TestCase, AutomatedBy> automatedBy = root.join("automatedBy", JoinType.LEFT);
+
+        cq.select(cb.construct(TestCaseRow.class,
+                root.get("id"),
+                root.get("testcaseId"),
+                module.get("id"),
+                module.get("name"),
+                subModule.get("id"),
+                subModule.get("name"),
+                root.get("testCaseDescription"),
+                textColumn(cb, root, query, TestCaseTextField.PRE_CONDITIONS),
+                textColumn(cb, root, query, TestCaseTextField.TEST_SCRIPT),
+                textColumn(cb, root, query, TestCaseTextField.EXPECTED_RESULT),
+                priority.get("id"),
+                priority.get("name"),
+                status.get("id"),
+                status.get("name"),
+                automatedBy.get("id"),
+                automatedBy.get("name"),
+                textColumn(cb, root, query, TestCaseTextField.AUTOMATION_COMMENTS),
+                root.get("clubbedTcId")));
+
+        List<Predicate> predicates = filterPredicates(cb, cq, root, query);
+        if (query.getAfterId() != null) {
+            predicates.add(seekPredicate(cb, root, query));
+        }
+        cq.where(predicates.toArray(new Predicate[0]));
+        cq.orderBy(orderBy(cb, root, query));
+
+        TypedQuery<TestCaseRow> typedQuery = entityManager.createQuery(cq);
+        if (query.getLimit() > 0) {
+            typedQuery.setMaxResults(query.getLimit());
+        }
+        return typedQuery;
+    }
+
+    @Override
+    public List<TestCaseTagRow> findTagRows(TestCaseQuery query, Collection<Long> testCaseIds) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TestCaseTagRow> cq = cb.createQuery(TestCaseTagRow.class);
+        Root<TestCase> root = cq.from(TestCase.class);
+        Join<TestCase, Tag> tag = root.join("tags");
+        cq.select(cb.construct(TestCaseTagRow.class, root.get("id"), tag.get("id"), tag.get("name")));
+
+        List<Predicate> predicates;
+        if (testCaseIds != null) {
+            predicates = new ArrayList<>();
+            predicates.add(root.get("id").in(testCaseIds));
+        } else {
+            predicates = filterPredicates(cb, cq, root, query);
+        }
+        cq.where(predicates.toArray(new Predicate[0]));
+        cq.orderBy(cb.asc(tag.get("name")));
+        return entityManager.createQuery(cq).getResultList();
+    }
+
+    @Override
+    public Stream<TestCaseTagRow> streamTagRows(TestCaseQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TestCaseTagRow> cq = cb.createQuery(TestCaseTagRow.class);
+        Root<TestCase> root = cq.from(TestCase.class);
+        Join<TestCase, Tag> tag = root.join("tags");
+        cq.select(cb.construct(TestCaseTagRow.class, root.get("id"), tag.get("id"), tag.get("name")));
+        cq.where(filterPredicates(cb, cq, root, query).toArray(new Predicate[0]));
+        cq.orderBy(cb.asc(root.get("id")), cb.asc(tag.get("name")));
+        return forwardOnly(entityManager.createQuery(cq)).getResultStream();
+    }
+
+    @Override
+    public List<Long> findIds(TestCaseQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<TestCase> root = cq.from(TestCase.class);
+        cq.select(root.get("id"));
+
+        List<Predicate> predicates = filterPredicates(cb, cq, root, query);
+        if (query.getAfterId() != null) {
+            predicates.add(seekPredicate(cb, root, query));
+        }
+        cq.where(predicates.toArray(new Predicate[0]));
+        cq.orderBy(orderBy(cb, root, query));
+
+        TypedQuery<Long> typedQuery = entityManager.createQuery(cq);
+        if (query.getLimit() > 0) {
+            typedQuery.setMaxResults(query.getLimit());
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public long countMatching(TestCaseQuery query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<TestCase> root = cq.from(TestCase.class);
+        cq.select(cb.count(root));
+        cq.where(filterPredicates(cb, cq, root, query).toArray(new Predicate[0]));
+        return entityManager.createQuery(cq).getSingleResult();
+    }
+
+    @Override
+    public int updateColumns(Collection<Long> testCaseIds, TestCaseChanges changes) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<TestCase> cu = cb.createCriteriaUpdate(TestCase.class);
+        Root<TestCase> root = cu.from(TestCase.class);
+        if (changes.getModuleId() != null) {
+            cu.set(root.<Module>get("module"), entityManager.getReference(Module.class, changes.getModuleId()));
+        }
+        if (changes.getSubModuleId() != null) {
+            cu.set(root.<SubModule>get("subModule"), entityManager.getReference(SubModule.class, changes.getSubModuleId()));
+        } else if (changes.isClearSubModule()) {
+            cu.set(root.<SubModule>get("subModule"), cb.nullLiteral(SubModule.class));
+        }
+        if (changes.getPriorityId() != null) {
+            cu.set(root.<TestCasePriority>get("priority"),
+                    entityManager.getReference(TestCasePriority.class, changes.getPriorityId()));
+        }
+        if (changes.getAutomationStatusId() != null) {
+            cu.set(root.<AutomationStatus>get("automationStatus"),
+                    entityManager.getReference(AutomationStatus.class, changes.getAutomationStatusId()));
+        }
+        if (changes.getAutomatedById() != null) {
+            cu.set(root.<AutomatedBy>get("automatedBy"),
+                    entityManager.getReference(AutomatedBy.class, changes.getAutomatedById()));
+        } else if (changes.isClearAutomatedBy()) {
+            cu.set(root.<AutomatedBy>get("automatedBy"), cb.nullLiteral(AutomatedBy.class));
+        }
+        cu.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        cu.where(root.get("id").in(testCaseIds));
+        return entityManager.createQuery(cu).executeUpdate();
+    }
+
+    /** Selects a NULL literal in place of a text column the query does not need. */
+    private static Expression<String> textColumn(CriteriaBuilder cb, Root<TestCase> root, TestCaseQuery query,
+                                                 TestCaseTextField field) {
+        return query.getTextFields().contains(field)
+                ? root.get(field.getProperty())
+                : cb.nullLiteral(String.class);
+    }
+
+    private static <T> TypedQuery<T> forwardOnly(TypedQuery<T> query) {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query;
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, AbstractQuery<?> cq, Root<TestCase> root,
+                                             TestCaseQuery query) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (query.getIds() != null) {
+            predicates.add(root.get("id").in(query.getIds()));
+        }
+        if (query.getModuleId() != null) {
+            predicates.add(cb.equal(root.get("module").get("id"), query.getModuleId()));
+        }
+        if (query.getSubModuleId() != null) {
+            predicates.add(cb.equal(root.get("subModule").get("id"), query.getSubModuleId()));
+        }
+        if (query.getPriorityId() != null) {
+            predicates.add(cb.equal(root.get("priority").get("id"), query.getPriorityId()));
+        }
+        if (query.getAutomationStatusId() != null) {
+            predicates.add(cb.equal(root.get("automationStatus").get("id"), query.getAutomationStatusId()));
+        }
+        if (query.getAutomatedById() != null) {
+            predicates.add(cb.equal(root.get("automatedBy").get("id"), query.getAutomatedById()));
+        }
+        if (query.getTagId() != null) {
+            // EXISTS rather than a join, so a test case is never returned twice
+            Subquery<Long> tagged = cq.subquery(Long.class);
+            Root<TestCase> correlated = tagged.correlate(root);
+            Join<TestCase, Tag> tag = correlated.join("tags");
+            tagged.select(tag.get("id")).where(cb.equal(tag.get("id"), query.getTagId()));
+            predicates.add(cb.exists(tagged));
+        }
+        if (query.getTestcaseIdPrefix() != null) {
+            predicates.add(cb.like(root.get("testcaseId"), escapeLike(query.getTestcaseIdPrefix()) + "%", '\\'));
+        }
+        return predicates;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate seekPredicate(CriteriaBuilder cb, Root<TestCase> root, TestCaseQuery query) {
+        Expression<Long> id = root.get("id");
+        boolean asc = query.isAscending();
+        Predicate afterId = asc ? cb.greaterThan(id, query.getAfterId()) : cb.lessThan(id, query.getAfterId());
+        if (query.getSortField() == TestCaseSortField.ID) {
+            return afterId;
+        }
+
+        Expression<Comparable> sort = (Expression<Comparable>) sortExpression(root, query.getSortField());
+        Comparable value = (Comparable) query.getAfterValue();
+        if (value == null) {
+            // Nulls sort first ascending, last descending
+            Predicate afterNull = cb.and(cb.isNull(sort), afterId);
+            return asc ? cb.or(afterNull, cb.isNotNull(sort)) : afterNull;
+        }
+
+        // (sort > v) OR (sort = v AND id > lastId), mirrored for descending
+        Predicate beyond = asc ? cb.greaterThan(sort, value) : cb.lessThan(sort, value);
+        Predicate seek = cb.or(beyond, cb.and(cb.equal(sort, value), afterId));
+        return asc ? seek : cb.or(seek, cb.isNull(sort));
+    }
+
+    private List<Order> orderBy(CriteriaBuilder cb, Root<TestCase> root, TestCaseQuery query) {
+        List<Order> orders = new ArrayList<>();
+        if (query.getSortField() != TestCaseSortField.ID) {
+            // Explicit null precedence, so the order is the same on every database
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            Expression<?> sort = sortExpression(root, query.getSortField());
+            orders.add(query.isAscending() ? hcb.asc(sort, true) : hcb.desc(sort, false));
+        }
+        Expression<?> id = root.get("id");
+        orders.add(query.isAscending() ? cb.asc(id) : cb.desc(id));
+        return orders;
+    }
+
+    /**
+     * Reference sorts reuse the query's join to the association when there is
+     * one, otherwise add a left join so optional references keep their rows.
+     * No index orders test cases by a reference name, so each such page joins
+     * and sorts every matching row; only id and testcaseId pages are read
+     * from an index.
+     */
+    private Expression<?> sortExpression(Root<TestCase> root, TestCaseSortField field) {
+        if (!field.isReference()) {
+            return root.get(field.getProperty());
+        }
+        Join<TestCase, ?> join = root.getJoins().stream()
+                .filter(existing -> existing.getAttribute().getName().equals(field.getProperty()))
+                .findFirst()
+                .orElseGet(() -> root.join(field.getProperty(), JoinType.LEFT));
+        return join.<String>get("name");
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
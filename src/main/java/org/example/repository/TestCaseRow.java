@@ -0,0 +1,26 @@
+package org.example.repository;
+
+/**
+ * Read-only projection of a test case and the names of its references,
+ * built straight from a query result without hydrating any entity.
+ */
+public record TestCaseRow(
+        Long id,
+        String testcaseId,
+        Long moduleId,
+        String moduleName,
+        Long subModuleId,
+        String subModuleName,
+        String testCaseDescription,
+        String preConditions,
+        String testScript,
+        String expectedResult,
+        Long priorityId,
+        String priorityName,
+        Long automationStatusId,
+        String automationStatusName,
+        Long automatedById,
+        String automatedByName,
+        String automationComments,
+        String clubbedTcId) {
+}
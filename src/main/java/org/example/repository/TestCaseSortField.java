@@ -0,0 +1,56 @@
+package org.example.repository;
+
+import org.example.exception.InvalidRequestException;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Columns test case listings can be ordered by. Every sort is completed with
+ * the primary key as a tie-breaker so keyset pagination stays stable.
+ * <p>
+ * Reference columns sort by the referenced entity's name. Test cases without
+ * an optional reference sort first ascending and last descending.
+ */
+public enum TestCaseSortField {
+    ID("id", Long.class, false),
+    TESTCASE_ID("testcaseId", String.class, false),
+    MODULE("module", String.class, true),
+    SUB_MODULE("subModule", String.class, true),
+    PRIORITY("priority", String.class, true),
+    AUTOMATION_STATUS("automationStatus", String.class, true),
+    AUTOMATED_BY("automatedBy", String.class, true);
+
+    private final String property;
+    private final Class<? extends Comparable<?>> type;
+    private final boolean reference;
+
+    TestCaseSortField(String property, Class<? extends Comparable<?>> type, boolean reference) {
+        this.property = property;
+        this.type = type;
+        this.reference = reference;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Class<? extends Comparable<?>> getType() {
+        return type;
+    }
+
+    /**
+     * Whether {@link #getProperty()} is an association sorted by its name.
+     */
+    public boolean isReference() {
+        return reference;
+    }
+
+    public static TestCaseSortField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equalsIgnoreCase(property))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("Unsupported sort field: " + property
+                        + ". Supported: " + Arrays.stream(values()).map(f -> f.property).collect(Collectors.joining(", "))));
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.repository;
+
+/**
+ * One row of the test_case_tags join table with the tag name resolved.
+ */
+public record TestCaseTagRow(Long testCaseId, Long tagId, String tagName) {
+}
@@ -0,0 +1,8 @@
+package org.example.repository;
+
+/**
+ * The free-text columns of a test case, as indexed for search.
+ */
+public record TestCaseText(Long id, String testCaseDescription, String preConditions,
+                           String testScript, String expectedResult) {
+}
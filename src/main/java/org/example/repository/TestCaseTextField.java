@@ -0,0 +1,54 @@
+package org.example.repository;
+
+import org.example.exception.InvalidRequestException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The large text columns of a test case. Listings leave them out unless
+ * selected with {@code ?fields=}; the description is always included.
+ */
+public enum TestCaseTextField {
+    PRE_CONDITIONS("preConditions"),
+    TEST_SCRIPT("testScript"),
+    EXPECTED_RESULT("expectedResult"),
+    AUTOMATION_COMMENTS("automationComments");
+
+    private final String property;
+
+    TestCaseTextField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Parses a comma-separated list of properties; {@code null} or blank
+     * selects none.
+     */
+    public static Set<TestCaseTextField> parse(String fields) {
+        Set<TestCaseTextField> selected = EnumSet.noneOf(TestCaseTextField.class);
+        if (fields == null || fields.isBlank()) {
+            return selected;
+        }
+        for (String property : fields.split(",")) {
+            if (!property.isBlank()) {
+                selected.add(fromProperty(property.trim()));
+            }
+        }
+        return selected;
+    }
+
+    public static TestCaseTextField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equalsIgnoreCase(property))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("Unsupported field: " + property
+                        + ". Supported: " + Arrays.stream(values()).map(f -> f.property).collect(Collectors.joining(", "))));
+    }
+}
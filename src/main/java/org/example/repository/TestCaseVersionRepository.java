@@ -0,0 +1,37 @@
+package org.example.repository;
+
+import org.example.model.TestCaseVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TestCaseVersionRepository extends JpaRepository<TestCaseVersion, Long> {
+
+    Optional<TestCaseVersion> findTopByTestCaseIdOrderByVersionDesc(Long testCaseId);
+
+    Optional<TestCaseVersion> findByTestCaseIdAndVersion(Long testCaseId, int version);
+
+    Optional<TestCaseVersion> findTopByTestCaseIdAndChangedAtLessThanEqualOrderByVersionDesc(Long testCaseId,
+                                                                                           LocalDateTime time);
+
+    List<TestCaseVersion> findByTestCaseIdAndVersionBetweenOrderByVersion(Long testCaseId, int from, int to);
+
+    @Query("SELECT new org.example.repository.TestCaseVersionSummary(" +
+           "v.version, v.keyframeVersion, v.kind, v.changedFields, v.payloadSize, v.changedAt) " +
+           "FROM TestCaseVersion v WHERE v.testCaseId = :testCaseId ORDER BY v.version DESC")
+    List<TestCaseVersionSummary> findSummaries(Long testCaseId, Pageable pageable);
+
+    long countByTestCaseId(Long testCaseId);
+
+    @Modifying
+    @Query("DELETE FROM TestCaseVersion v WHERE v.testCaseId IN :testCaseIds")
+    int deleteByTestCaseIds(Collection<Long> testCaseIds);
+}
@@ -0,0 +1,12 @@
+package org.example.repository;
+
+import org.example.model.TestCaseVersion;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stored test case version without its payload, for listing history.
+ */
+public record TestCaseVersionSummary(int version, int keyframeVersion, TestCaseVersion.Kind kind,
+                                     String changedFields, int payloadSize, LocalDateTime changedAt) {
+}
@@ -0,0 +1,752 @@
+package org.example.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the {@link SearchField}s of test cases,
+ * ranked with BM25 and per-field boosts.
+ * <p>
+ * Documents get an internal, ever-increasing document number. Each term keeps
+ * a postings list of document numbers (therefore sorted) with the term's
+ * frequency in every field packed into one int, plus its positions in each
+ * field as varint deltas for phrase queries. Each document keeps the
+ * ordinals of its distinct terms so removal knows which postings to update.
+ * <p>
+ * Updating a document marks its old number deleted and appends it under a new
+ * one, so postings stay append-only. Deleted numbers are dropped by
+ * {@link #compact()} once they outnumber the live documents.
+ * <p>
+ * Thread-safe: searches share a read lock, writes take the write lock.
+ */
+public class InvertedIndex {
+
+    private static final int FIELDS = SearchField.values().length;
+    private static final int MAX_FREQ = 0xFF;
+    private static final int MAX_LENGTH = 0xFFFF;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    /** Upper bound on the terms a single {@code prefix*} clause expands to. */
+    static final int MAX_PREFIX_EXPANSIONS = 1024;
+
+    private final float[] boosts;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private Postings[] byOrdinal = new Postings[1024];
+    private int nextOrdinal;
+
+    // Indexed by document number
+    private long[] ids = new long[1024];
+    private byte[][] termSets = new byte[1024][];
+    private long[] lengths = new long[1024];
+    private final BitSet deleted = new BitSet();
+    private int docCount;
+    private int deletedCount;
+
+    private final Map<Long, Integer> docNumbers = new HashMap<>();
+    private final long[] totalLengths = new long[FIELDS];
+
+    public record Hit(long id, float score) {
+    }
+
+    public record Hits(int total, List<Hit> hits) {
+    }
+
+    /**
+     * @param boosts score multiplier per {@link SearchField}, by ordinal
+     */
+    public InvertedIndex(float[] boosts) {
+        if (boosts.length != FIELDS) {
+            throw new IllegalArgumentException("Expected " + FIELDS + " boosts");
+        }
+        this.boosts = boosts.clone();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docNumbers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a document.
+     *
+     * @param fieldTexts text per {@link SearchField}, by ordinal; entries may be {@code null}
+     */
+    public void put(long id, String[] fieldTexts) {
+        List<List<String>> analyzed = new ArrayList<>(FIELDS);
+        for (int f = 0; f < FIELDS; f++) {
+            analyzed.add(TextAnalyzer.analyze(fieldTexts[f]));
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            int doc = docCount++;
+            ensureDocCapacity(doc + 1);
+
+            Map<Postings, TermOccurrences> occurrences = new HashMap<>();
+            long packedLengths = 0;
+            for (int f = 0; f < FIELDS; f++) {
+                List<String> fieldTerms = analyzed.get(f);
+                int length = Math.min(fieldTerms.size(), MAX_LENGTH);
+                packedLengths |= (long) length << (16 * f);
+                totalLengths[f] += length;
+
+                for (int position = 0; position < fieldTerms.size(); position++) {
+                    Postings postings = terms.computeIfAbsent(fieldTerms.get(position), key -> newPostings());
+                    occurrences.computeIfAbsent(postings, key -> new TermOccurrences()).add(f, position);
+                }
+            }
+
+            int[] ordinals = new int[occurrences.size()];
+            int next = 0;
+            for (Map.Entry<Postings, TermOccurrences> entry : occurrences.entrySet()) {
+                Postings postings = entry.getKey();
+                TermOccurrences termOccurrences = entry.getValue();
+                postings.append(doc, pack(termOccurrences.counts), termOccurrences.encodePositions());
+                postings.docFreq++;
+                ordinals[next++] = postings.ordinal;
+            }
+
+            Arrays.sort(ordinals);
+            VarintWriter termSet = new VarintWriter();
+            termSet.write(ordinals.length);
+            int previous = 0;
+            for (int ordinal : ordinals) {
+                termSet.write(ordinal - previous);
+                previous = ordinal;
+            }
+            ids[doc] = id;
+            termSets[doc] = termSet.toByteArray();
+            lengths[doc] = packedLengths;
+            docNumbers.put(id, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the {@code limit} best documents matching every clause, and
+     * the total number of matches.
+     */
+    public Hits search(SearchQuery query, int limit) {
+        lock.readLock().lock();
+        try {
+            int liveDocs = docNumbers.size();
+            if (query.isEmpty() || liveDocs == 0) {
+                return new Hits(0, List.of());
+            }
+
+            List<ClauseMatch> matches = new ArrayList<>(query.clauses().size());
+            for (SearchQuery.Clause clause : query.clauses()) {
+                ClauseMatch match = match(clause, liveDocs);
+                if (match.size == 0) {
+                    return new Hits(0, List.of());
+                }
+                matches.add(match);
+            }
+
+            // Intersect starting from the most selective clause
+            matches.sort(Comparator.comparingInt(match -> match.size));
+            int[] candidates = Arrays.copyOf(matches.get(0).docs, matches.get(0).size);
+            int candidateCount = candidates.length;
+            for (int i = 1; i < matches.size() && candidateCount > 0; i++) {
+                ClauseMatch match = matches.get(i);
+                candidateCount = intersect(candidates, candidateCount, match.docs, match.size);
+            }
+
+            float[] averageLengths = new float[FIELDS];
+            for (int f = 0; f < FIELDS; f++) {
+                averageLengths[f] = Math.max(1f, (float) totalLengths[f] / liveDocs);
+            }
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::score));
+            // Candidates and every clause's docs are ascending: walk them together
+            int[] cursors = new int[matches.size()];
+            for (int c = 0; c < candidateCount; c++) {
+                int doc = candidates[c];
+                float score = 0;
+                for (int m = 0; m < matches.size(); m++) {
+                    ClauseMatch match = matches.get(m);
+                    while (match.docs[cursors[m]] < doc) {
+                        cursors[m]++;
+                    }
+                    score += score(match.idf, match.frequencies[cursors[m]], lengths[doc], averageLengths);
+                }
+                if (top.size() < limit) {
+                    top.add(new Hit(ids[doc], score));
+                } else if (limit > 0 && score > top.peek().score()) {
+                    top.poll();
+                    top.add(new Hit(ids[doc], score));
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+            return new Hits(candidateCount, hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drops deleted document numbers and terms no live document uses.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            compactLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Integer doc = docNumbers.remove(id);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        deletedCount++;
+
+        for (int f = 0; f < FIELDS; f++) {
+            totalLengths[f] -= (lengths[doc] >>> (16 * f)) & MAX_LENGTH;
+        }
+        VarintReader reader = new VarintReader(termSets[doc], 0);
+        int ordinal = 0;
+        for (int i = reader.read(); i > 0; i--) {
+            ordinal += reader.read();
+            byOrdinal[ordinal].docFreq--;
+        }
+        termSets[doc] = null;
+
+        if (deletedCount > Math.max(1024, docNumbers.size())) {
+            compactLocked();
+        }
+    }
+
+    private void compactLocked() {
+        if (deletedCount == 0) {
+            return;
+        }
+        int[] remap = new int[docCount];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            remap[doc] = deleted.get(doc) ? -1 : live++;
+        }
+
+        Iterator<Postings> iterator = terms.values().iterator();
+        while (iterator.hasNext()) {
+            Postings postings = iterator.next();
+            postings.compact(remap);
+            if (postings.size == 0) {
+                byOrdinal[postings.ordinal] = null;
+                iterator.remove();
+            }
+        }
+
+        for (int doc = 0; doc < docCount; doc++) {
+            int target = remap[doc];
+            if (target >= 0) {
+                ids[target] = ids[doc];
+                termSets[target] = termSets[doc];
+                lengths[target] = lengths[doc];
+            }
+        }
+        Arrays.fill(termSets, live, docCount, null);
+        docNumbers.replaceAll((id, doc) -> remap[doc]);
+        deleted.clear();
+        deletedCount = 0;
+        docCount = live;
+    }
+
+    private ClauseMatch match(SearchQuery.Clause clause, int liveDocs) {
+        if (clause.prefix()) {
+            return matchPrefix(clause.terms().get(0), clause.fieldMask(), liveDocs);
+        }
+        if (clause.terms().size() == 1) {
+            return matchTerm(clause.terms().get(0), clause.fieldMask(), liveDocs);
+        }
+        return matchPhrase(clause.terms(), clause.fieldMask(), liveDocs);
+    }
+
+    private ClauseMatch matchTerm(String term, int fieldMask, int liveDocs) {
+        Postings postings = terms.get(term);
+        if (postings == null) {
+            return ClauseMatch.EMPTY;
+        }
+        ClauseMatch match = new ClauseMatch(postings.size, idf(postings.docFreq, liveDocs));
+        int packedMask = packedMask(fieldMask);
+        for (int i = 0; i < postings.size; i++) {
+            int frequency = postings.frequencies[i] & packedMask;
+            if (frequency != 0 && !deleted.get(postings.docs[i])) {
+                match.add(postings.docs[i], frequency);
+            }
+        }
+        return match;
+    }
+
+    private ClauseMatch matchPrefix(String prefix, int fieldMask, int liveDocs) {
+        int[] accumulated = new int[docCount];
+        int packedMask = packedMask(fieldMask);
+        int expansions = 0;
+        for (Postings postings : terms.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+            if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            for (int i = 0; i < postings.size; i++) {
+                int frequency = postings.frequencies[i] & packedMask;
+                if (frequency != 0) {
+                    int doc = postings.docs[i];
+                    accumulated[doc] = addPacked(accumulated[doc], frequency);
+                }
+            }
+        }
+
+        int matched = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (accumulated[doc] != 0 && !deleted.get(doc)) {
+                matched++;
+            }
+        }
+        ClauseMatch match = new ClauseMatch(matched, idf(matched, liveDocs));
+        for (int doc = 0; doc < docCount; doc++) {
+            if (accumulated[doc] != 0 && !deleted.get(doc)) {
+                match.add(doc, accumulated[doc]);
+            }
+        }
+        return match;
+    }
+
+    private ClauseMatch matchPhrase(List<String> phrase, int fieldMask, int liveDocs) {
+        int length = phrase.size();
+        Postings[] postings = new Postings[length];
+        float idf = 0;
+        int driver = 0;
+        for (int t = 0; t < length; t++) {
+            postings[t] = terms.get(phrase.get(t));
+            if (postings[t] == null) {
+                return ClauseMatch.EMPTY;
+            }
+            idf += idf(postings[t].docFreq, liveDocs);
+            if (postings[t].size < postings[driver].size) {
+                driver = t;
+            }
+        }
+
+        // Walk the rarest term's postings and advance the others alongside
+        int packedMask = packedMask(fieldMask);
+        ClauseMatch match = new ClauseMatch(postings[driver].size, idf);
+        int[] cursors = new int[length];
+        int[][][] positions = new int[FIELDS][length][16];
+        int[][] positionCounts = new int[FIELDS][length];
+        int[] phraseCursors = new int[length];
+        int[] counts = new int[FIELDS];
+        candidates:
+        for (int i = 0; i < postings[driver].size; i++) {
+            int doc = postings[driver].docs[i];
+            if (deleted.get(doc)) {
+                continue;
+            }
+            int commonFields = packedMask;
+            for (int t = 0; t < length; t++) {
+                Postings termPostings = postings[t];
+                while (cursors[t] < termPostings.size && termPostings.docs[cursors[t]] < doc) {
+                    cursors[t]++;
+                }
+                if (cursors[t] == termPostings.size) {
+                    break candidates;
+                }
+                if (termPostings.docs[cursors[t]] != doc) {
+                    continue candidates;
+                }
+                commonFields &= fieldPresence(termPostings.frequencies[cursors[t]]);
+            }
+            if (commonFields == 0) {
+                continue;
+            }
+
+            for (int t = 0; t < length; t++) {
+                postings[t].decodePositions(cursors[t], t, positions, positionCounts);
+            }
+            for (int f = 0; f < FIELDS; f++) {
+                counts[f] = (commonFields & (MAX_FREQ << (8 * f))) == 0
+                        ? 0
+                        : countPhrases(positions[f], positionCounts[f], phraseCursors);
+            }
+            int frequency = pack(counts);
+            if (frequency != 0) {
+                match.add(doc, frequency);
+            }
+        }
+        return match;
+    }
+
+    private float score(float idf, int frequencies, long packedLengths, float[] averageLengths) {
+        float score = 0;
+        for (int f = 0; f < FIELDS; f++) {
+            int tf = (frequencies >>> (8 * f)) & MAX_FREQ;
+            if (tf > 0) {
+                int length = (int) ((packedLengths >>> (16 * f)) & MAX_LENGTH);
+                float norm = K1 * (1 - B + B * length / averageLengths[f]);
+                score += boosts[f] * idf * tf * (K1 + 1) / (tf + norm);
+            }
+        }
+        return score;
+    }
+
+    private static float idf(int docFreq, int liveDocs) {
+        return (float) Math.log(1 + (liveDocs - docFreq + 0.5) / (docFreq + 0.5));
+    }
+
+    /**
+     * Counts the positions p where term t of the phrase occurs at p + t, for
+     * every t, within one field. Each positions array is ascending.
+     */
+    private static int countPhrases(int[][] positions, int[] counts, int[] cursors) {
+        int[] first = positions[0];
+        int firstCount = counts[0];
+        int phrases = 0;
+        Arrays.fill(cursors, 0);
+        starts:
+        for (int i = 0; i < firstCount; i++) {
+            int start = first[i];
+            for (int t = 1; t < positions.length; t++) {
+                int[] termPositions = positions[t];
+                int count = counts[t];
+                int wanted = start + t;
+                int cursor = cursors[t];
+                while (cursor < count && termPositions[cursor] < wanted) {
+                    cursor++;
+                }
+                cursors[t] = cursor;
+                if (cursor == count) {
+                    break starts;
+                }
+                if (termPositions[cursor] != wanted) {
+                    continue starts;
+                }
+            }
+            phrases++;
+        }
+        return phrases;
+    }
+
+    /**
+     * Packed-frequency mask of the fields in which {@code frequencies} is non-zero.
+     */
+    private static int fieldPresence(int frequencies) {
+        int mask = 0;
+        for (int f = 0; f < FIELDS; f++) {
+            if (((frequencies >>> (8 * f)) & MAX_FREQ) != 0) {
+                mask |= MAX_FREQ << (8 * f);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Keeps the entries of {@code a} also present in {@code b}, in place;
+     * returns the new length of {@code a}.
+     */
+    private static int intersect(int[] a, int aSize, int[] b, int bSize) {
+        int kept = 0;
+        int i = 0;
+        int j = 0;
+        while (i < aSize && j < bSize) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                a[kept++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return kept;
+    }
+
+    private static int pack(int[] counts) {
+        int packed = 0;
+        for (int f = 0; f < FIELDS; f++) {
+            packed |= Math.min(counts[f], MAX_FREQ) << (8 * f);
+        }
+        return packed;
+    }
+
+    private static int addPacked(int a, int b) {
+        int packed = 0;
+        for (int f = 0; f < FIELDS; f++) {
+            int sum = ((a >>> (8 * f)) & MAX_FREQ) + ((b >>> (8 * f)) & MAX_FREQ);
+            packed |= Math.min(sum, MAX_FREQ) << (8 * f);
+        }
+        return packed;
+    }
+
+    private static int packedMask(int fieldMask) {
+        int mask = 0;
+        for (int f = 0; f < FIELDS; f++) {
+            if ((fieldMask & (1 << f)) != 0) {
+                mask |= MAX_FREQ << (8 * f);
+            }
+        }
+        return mask;
+    }
+
+    private Postings newPostings() {
+        if (nextOrdinal == byOrdinal.length) {
+            byOrdinal = Arrays.copyOf(byOrdinal, byOrdinal.length * 2);
+        }
+        Postings postings = new Postings(nextOrdinal++);
+        byOrdinal[postings.ordinal] = postings;
+        return postings;
+    }
+
+    private void ensureDocCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int grown = Math.max(capacity, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, grown);
+            termSets = Arrays.copyOf(termSets, grown);
+            lengths = Arrays.copyOf(lengths, grown);
+        }
+    }
+
+    private static final class Postings {
+        final int ordinal;
+        int[] docs = new int[2];
+        int[] frequencies = new int[2];
+        int size;
+        int docFreq;
+
+        /** Per entry, for each field the term occurs in: count, then position deltas. */
+        byte[] positions = new byte[8];
+        int[] positionStarts = new int[2];
+        int positionsLength;
+
+        Postings(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        void append(int doc, int frequency, byte[] encodedPositions) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+                positionStarts = Arrays.copyOf(positionStarts, size * 2);
+            }
+            if (positionsLength + encodedPositions.length > positions.length) {
+                positions = Arrays.copyOf(positions,
+                        Math.max(positionsLength + encodedPositions.length, positions.length * 2));
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            positionStarts[size] = positionsLength;
+            System.arraycopy(encodedPositions, 0, positions, positionsLength, encodedPositions.length);
+            positionsLength += encodedPositions.length;
+            size++;
+        }
+
+        /**
+         * Decodes the positions of entry {@code index} into
+         * {@code buffers[field][term]}, growing buffers as needed, and their
+         * lengths into {@code counts[field][term]}.
+         */
+        void decodePositions(int index, int term, int[][][] buffers, int[][] counts) {
+            int position = positionStarts[index];
+            int frequency = frequencies[index];
+            for (int f = 0; f < FIELDS; f++) {
+                if (((frequency >>> (8 * f)) & MAX_FREQ) == 0) {
+                    counts[f][term] = 0;
+                    continue;
+                }
+                int count = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = positions[position++];
+                    count |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                int[] buffer = buffers[f][term];
+                if (buffer.length < count) {
+                    buffer = new int[Math.max(count, buffer.length * 2)];
+                    buffers[f][term] = buffer;
+                }
+                int value = 0;
+                for (int i = 0; i < count; i++) {
+                    b = positions[position++];
+                    if (b >= 0) {
+                        value += b;
+                    } else {
+                        int delta = b & 0x7F;
+                        shift = 7;
+                        do {
+                            b = positions[position++];
+                            delta |= (b & 0x7F) << shift;
+                            shift += 7;
+                        } while (b < 0);
+                        value += delta;
+                    }
+                    buffer[i] = value;
+                }
+                counts[f][term] = count;
+            }
+        }
+
+        /**
+         * Renumbers entries with {@code remap}, dropping those mapped to -1.
+         */
+        void compact(int[] remap) {
+            int kept = 0;
+            int keptLength = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc < 0) {
+                    continue;
+                }
+                int start = positionStarts[i];
+                int end = i + 1 < size ? positionStarts[i + 1] : positionsLength;
+                System.arraycopy(positions, start, positions, keptLength, end - start);
+                docs[kept] = doc;
+                frequencies[kept] = frequencies[i];
+                positionStarts[kept] = keptLength;
+                keptLength += end - start;
+                kept++;
+            }
+            size = kept;
+            positionsLength = keptLength;
+            if (docs.length > kept * 2) {
+                docs = Arrays.copyOf(docs, Math.max(kept, 2));
+                frequencies = Arrays.copyOf(frequencies, Math.max(kept, 2));
+                positionStarts = Arrays.copyOf(positionStarts, Math.max(kept, 2));
+            }
+            if (positions.length > keptLength * 2) {
+                positions = Arrays.copyOf(positions, Math.max(keptLength, 8));
+            }
+        }
+    }
+
+    /**
+     * Positions of one term within one document being indexed, per field.
+     */
+    private static final class TermOccurrences {
+        final int[] counts = new int[FIELDS];
+        final int[][] positions = new int[FIELDS][];
+
+        void add(int field, int position) {
+            if (positions[field] == null) {
+                positions[field] = new int[4];
+            } else if (counts[field] == positions[field].length) {
+                positions[field] = Arrays.copyOf(positions[field], counts[field] * 2);
+            }
+            positions[field][counts[field]++] = position;
+        }
+
+        byte[] encodePositions() {
+            VarintWriter writer = new VarintWriter();
+            for (int f = 0; f < FIELDS; f++) {
+                if (counts[f] == 0) {
+                    continue;
+                }
+                writer.write(counts[f]);
+                int previous = 0;
+                for (int i = 0; i < counts[f]; i++) {
+                    writer.write(positions[f][i] - previous);
+                    previous = positions[f][i];
+                }
+            }
+            return writer.toByteArray();
+        }
+    }
+
+    private static final class ClauseMatch {
+        static final ClauseMatch EMPTY = new ClauseMatch(0, 0);
+
+        final int[] docs;
+        final int[] frequencies;
+        final float idf;
+        int size;
+
+        ClauseMatch(int capacity, float idf) {
+            this.docs = new int[capacity];
+            this.frequencies = new int[capacity];
+            this.idf = idf;
+        }
+
+        void add(int doc, int frequency) {
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+
+    private static final class VarintWriter {
+        private byte[] buffer = new byte[64];
+        private int length;
+
+        void write(int value) {
+            while (true) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                if ((value & ~0x7F) == 0) {
+                    buffer[length++] = (byte) value;
+                    return;
+                }
+                buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+
+    private static final class VarintReader {
+        private final byte[] buffer;
+        private int position;
+
+        VarintReader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int read() {
+            int value = 0;
+            int shift = 0;
+            while (true) {
+                byte b = buffer[position++];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+    }
+}
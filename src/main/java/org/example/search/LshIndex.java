@@ -0,0 +1,381 @@
+package org.example.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Locality-sensitive hashing index over {@link MinHasher} signatures.
+ * <p>
+ * Each signature is cut into bands of equal rows; two documents are
+ * candidates when all rows of at least one band agree, which for
+ * {@code b} bands of {@code r} rows happens with probability
+ * {@code 1 - (1 - J^r)^b} at Jaccard similarity {@code J}. Candidates are then
+ * ranked by their estimated similarity, so lookups and clustering touch only
+ * the documents sharing a bucket instead of every pair.
+ * <p>
+ * Documents live in reusable slots of flat arrays. A bucket is a linked list
+ * through the slots, with its head in an open-addressing table keyed by band
+ * and band hash, so the index costs a few bytes per document and band.
+ * <p>
+ * Thread-safe: lookups share a read lock, writes take the write lock.
+ */
+public class LshIndex {
+
+    private static final int NONE = -1;
+    private static final int MAX_BANDS = 255;
+
+    private final int hashes;
+    private final int bands;
+    private final int rows;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Indexed by slot
+    private long[] ids = new long[1024];
+    private char[] signatures;
+    private int[] next;
+    private int slotCount;
+    private int[] freeSlots = new int[64];
+    private int freeCount;
+
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final BucketTable heads = new BucketTable();
+
+    public record Match(long id, float similarity) {
+    }
+
+    public LshIndex(int hashes, int bands) {
+        if (bands < 1 || bands > MAX_BANDS || hashes % bands != 0) {
+            throw new IllegalArgumentException("bands must be between 1 and " + MAX_BANDS
+                    + " and divide hashes");
+        }
+        this.hashes = hashes;
+        this.bands = bands;
+        this.rows = hashes / bands;
+        this.signatures = new char[ids.length * hashes];
+        this.next = new int[ids.length * bands];
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return slots.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Adds or replaces the signature of {@code id}. */
+    public void put(long id, char[] signature) {
+        if (signature.length != hashes) {
+            throw new IllegalArgumentException("Expected a signature of " + hashes + " hashes");
+        }
+        lock.writeLock().lock();
+        try {
+            Integer existing = slots.remove(id);
+            if (existing != null) {
+                unlink(existing);
+            }
+            int slot = allocate();
+            ids[slot] = id;
+            System.arraycopy(signature, 0, signatures, slot * hashes, hashes);
+            for (int band = 0; band < bands; band++) {
+                long key = bandKey(slot, band);
+                next[slot * bands + band] = heads.get(key);
+                heads.put(key, slot);
+            }
+            slots.put(id, slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(id);
+            if (slot != null) {
+                unlink(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the documents whose estimated similarity to {@code id} is at
+     * least {@code minSimilarity}, most similar first, or {@code null} when
+     * {@code id} is not indexed.
+     */
+    public List<Match> similar(long id, float minSimilarity, int limit) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slots.get(id);
+            if (slot == null) {
+                return null;
+            }
+            List<Match> matches = new ArrayList<>();
+            BitSet seen = new BitSet(slotCount);
+            seen.set(slot);
+            for (int band = 0; band < bands; band++) {
+                for (int other = heads.get(bandKey(slot, band)); other != NONE; other = next[other * bands + band]) {
+                    if (seen.get(other)) {
+                        continue;
+                    }
+                    seen.set(other);
+                    float similarity = similarity(slot, other);
+                    if (similarity >= minSimilarity) {
+                        matches.add(new Match(ids[other], similarity));
+                    }
+                }
+            }
+            matches.sort(Comparator.comparingDouble(Match::similarity).reversed()
+                    .thenComparingLong(Match::id));
+            return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Groups documents into clusters of near-duplicates, largest first; each
+     * cluster's ids are sorted. Within every bucket each member is compared
+     * with the bucket's head and with its predecessor and joined to them at
+     * {@code minSimilarity} or above, so the work is linear in documents times
+     * bands. Clusters are transitive: their ends may be less similar than the
+     * threshold.
+     */
+    public List<long[]> clusters(float minSimilarity) {
+        lock.readLock().lock();
+        try {
+            int[] parent = new int[slotCount];
+            for (int i = 0; i < slotCount; i++) {
+                parent[i] = i;
+            }
+            heads.forEach((key, head) -> {
+                int band = heads.band(key);
+                int previous = head;
+                for (int member = next[head * bands + band]; member != NONE; member = next[member * bands + band]) {
+                    if (similarity(head, member) >= minSimilarity) {
+                        union(parent, head, member);
+                    }
+                    if (previous != head && similarity(previous, member) >= minSimilarity) {
+                        union(parent, previous, member);
+                    }
+                    previous = member;
+                }
+            });
+
+            // Free slots are their own roots and never counted
+            int[] sizes = new int[slotCount];
+            for (int slot : slots.values()) {
+                sizes[find(parent, slot)]++;
+            }
+            Map<Integer, List<Long>> byRoot = new HashMap<>();
+            for (int slot : slots.values()) {
+                int root = find(parent, slot);
+                if (sizes[root] > 1) {
+                    byRoot.computeIfAbsent(root, r -> new ArrayList<>(sizes[r])).add(ids[slot]);
+                }
+            }
+            List<long[]> clusters = new ArrayList<>(byRoot.size());
+            for (List<Long> members : byRoot.values()) {
+                clusters.add(members.stream().mapToLong(Long::longValue).sorted().toArray());
+            }
+            clusters.sort(Comparator.<long[]>comparingInt(cluster -> cluster.length).reversed()
+                    .thenComparingLong(cluster -> cluster[0]));
+            return clusters;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private float similarity(int a, int b) {
+        int equal = 0;
+        int offsetA = a * hashes;
+        int offsetB = b * hashes;
+        for (int i = 0; i < hashes; i++) {
+            if (signatures[offsetA + i] == signatures[offsetB + i]) {
+                equal++;
+            }
+        }
+        return (float) equal / hashes;
+    }
+
+    private long bandKey(int slot, int band) {
+        long hash = MinHasher.mix(band + 1L);
+        int offset = slot * hashes + band * rows;
+        for (int row = 0; row < rows; row++) {
+            hash = MinHasher.mix(hash + signatures[offset + row]);
+        }
+        return BucketTable.key(band, hash);
+    }
+
+    private void unlink(int slot) {
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(slot, band);
+            int successor = next[slot * bands + band];
+            int head = heads.get(key);
+            if (head == slot) {
+                if (successor == NONE) {
+                    heads.remove(key);
+                } else {
+                    heads.put(key, successor);
+                }
+                continue;
+            }
+            int previous = head;
+            while (next[previous * bands + band] != slot) {
+                previous = next[previous * bands + band];
+            }
+            next[previous * bands + band] = successor;
+        }
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            signatures = Arrays.copyOf(signatures, capacity * hashes);
+            next = Arrays.copyOf(next, capacity * bands);
+        }
+        return slotCount++;
+    }
+
+    private static int find(int[] parent, int slot) {
+        while (parent[slot] != slot) {
+            parent[slot] = parent[parent[slot]];
+            slot = parent[slot];
+        }
+        return slot;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    /**
+     * Open-addressing map from bucket key to the bucket's head slot, with
+     * linear probing and backward-shift deletion. A key carries its band in
+     * the top byte; 0 marks an empty cell.
+     */
+    private static final class BucketTable {
+
+        private long[] keys = new long[1 << 12];
+        private int[] values = new int[1 << 12];
+        private int size;
+
+        static long key(int band, long hash) {
+            long key = ((long) band << 56) | (hash & 0x00FF_FFFF_FFFF_FFFFL);
+            return key == 0 ? 1 : key;
+        }
+
+        int band(long key) {
+            return (int) (key >>> 56);
+        }
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = index(key, mask); keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return NONE;
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                grow();
+            }
+            int mask = keys.length - 1;
+            int i = index(key, mask);
+            while (keys[i] != 0 && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == 0) {
+                keys[i] = key;
+                size++;
+            }
+            values[i] = value;
+        }
+
+        void remove(long key) {
+            int mask = keys.length - 1;
+            int i = index(key, mask);
+            while (keys[i] != key) {
+                if (keys[i] == 0) {
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            // Shift later entries of the probe run back into the gap
+            int gap = i;
+            for (int j = (gap + 1) & mask; keys[j] != 0; j = (j + 1) & mask) {
+                int home = index(keys[j], mask);
+                if (((j - home) & mask) >= ((j - gap) & mask)) {
+                    keys[gap] = keys[j];
+                    values[gap] = values[j];
+                    gap = j;
+                }
+            }
+            keys[gap] = 0;
+            size--;
+        }
+
+        void forEach(BucketConsumer consumer) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0) {
+                    consumer.accept(keys[i], values[i]);
+                }
+            }
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int index(long key, int mask) {
+            return (int) MinHasher.mix(key) & mask;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BucketConsumer {
+        void accept(long key, int head);
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Computes MinHash signatures over word shingles, so that the share of equal
+ * signature positions of two texts estimates the Jaccard similarity of their
+ * shingle sets.
+ * <p>
+ * Texts are split into terms with {@link TextAnalyzer} and each text is
+ * shingled on its own, so no shingle spans two fields; a text shorter than
+ * the shingle size contributes itself as one shingle. Every shingle is hashed
+ * once to 64 bits and then remixed per signature position. Only the top 16
+ * bits of each minimum are kept: two different minima collide with
+ * probability 2<sup>-16</sup>, far below the estimate's own error.
+ */
+public final class MinHasher {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int shingleSize;
+    private final long[] seeds;
+
+    public MinHasher(int hashes, int shingleSize, long seed) {
+        if (hashes < 1 || shingleSize < 1) {
+            throw new IllegalArgumentException("hashes and shingleSize must be positive");
+        }
+        this.shingleSize = shingleSize;
+        this.seeds = new SplittableRandom(seed).longs(hashes).toArray();
+    }
+
+    public int hashes() {
+        return seeds.length;
+    }
+
+    /**
+     * Returns the signature of the given texts taken together, or {@code null}
+     * when none of them contains a term.
+     */
+    public char[] signature(String... texts) {
+        long[] minima = new long[seeds.length];
+        Arrays.fill(minima, Long.MAX_VALUE);
+        boolean empty = true;
+        for (String text : texts) {
+            List<String> terms = TextAnalyzer.analyze(text);
+            if (terms.isEmpty()) {
+                continue;
+            }
+            empty = false;
+            int width = Math.min(shingleSize, terms.size());
+            for (int start = 0; start + width <= terms.size(); start++) {
+                long shingle = hash(terms, start, width);
+                for (int i = 0; i < seeds.length; i++) {
+                    // Compare as unsigned so the kept top bits are uniformly distributed
+                    long value = mix(shingle ^ seeds[i]) >>> 1;
+                    if (value < minima[i]) {
+                        minima[i] = value;
+                    }
+                }
+            }
+        }
+        if (empty) {
+            return null;
+        }
+        char[] signature = new char[seeds.length];
+        for (int i = 0; i < seeds.length; i++) {
+            signature[i] = (char) (minima[i] >>> 47);
+        }
+        return signature;
+    }
+
+    /** Share of equal positions, the estimated Jaccard similarity. */
+    public static float similarity(char[] a, char[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (float) equal / a.length;
+    }
+
+    private static long hash(List<String> terms, int start, int width) {
+        long hash = FNV_OFFSET;
+        for (int t = start; t < start + width; t++) {
+            String term = terms.get(t);
+            for (int i = 0; i < term.length(); i++) {
+                hash = (hash ^ term.charAt(i)) * FNV_PRIME;
+            }
+            // Separator, so "ab c" and "a bc" differ
+            hash = (hash ^ ' ') * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /** SplitMix64 finalizer. */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
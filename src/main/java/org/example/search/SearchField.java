@@ -0,0 +1,52 @@
+package org.example.search;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Test case text fields covered by the search index, in index order.
+ */
+public enum SearchField {
+    DESCRIPTION("testCaseDescription"),
+    PRE_CONDITIONS("preConditions"),
+    TEST_SCRIPT("testScript"),
+    EXPECTED_RESULT("expectedResult");
+
+    /** Bit mask selecting every field. */
+    public static final int ALL = (1 << values().length) - 1;
+
+    private final String property;
+
+    SearchField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Resolves a query field prefix such as {@code testScript:} or the short
+     * forms {@code description:}, {@code script:}, {@code pre:} and {@code expected:}.
+     */
+    public static Optional<SearchField> fromQueryName(String name) {
+        String lower = name.toLowerCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(field -> field.property.equalsIgnoreCase(name) || field.shortName().equals(lower))
+                .findFirst();
+    }
+
+    private String shortName() {
+        return switch (this) {
+            case DESCRIPTION -> "description";
+            case PRE_CONDITIONS -> "pre";
+            case TEST_SCRIPT -> "script";
+            case EXPECTED_RESULT -> "expected";
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parsed search query: every clause must match (AND).
+ * <p>
+ * Syntax: bare words, {@code "quoted phrases"}, {@code prefix*} and an
+ * optional field restriction such as {@code script:login} or
+ * {@code description:"reset password"}. A {@code word:} prefix that is not a
+ * field name is searched as ordinary text. A bare word the analyzer splits into
+ * several terms (for example {@code user-login}) is treated as a phrase.
+ */
+public record SearchQuery(List<Clause> clauses) {
+
+    private static final Pattern CLAUSE = Pattern.compile("(?:([A-Za-z]+):)?(?:\"([^\"]*)\"?|(\\S+))");
+
+    /**
+     * Consecutive terms, or a single term when {@code terms} has one entry.
+     * {@code prefix} expands the last term to every indexed term it starts.
+     */
+    public record Clause(List<String> terms, boolean prefix, int fieldMask) {
+    }
+
+    public static SearchQuery parse(String text) {
+        List<Clause> clauses = new ArrayList<>();
+        Matcher matcher = CLAUSE.matcher(text == null ? "" : text);
+        while (matcher.find()) {
+            Optional<SearchField> field = matcher.group(1) != null
+                    ? SearchField.fromQueryName(matcher.group(1))
+                    : Optional.empty();
+            int fieldMask = field.map(SearchField::mask).orElse(SearchField.ALL);
+
+            boolean prefix = false;
+            String body;
+            if (matcher.group(1) != null && field.isEmpty()) {
+                // Not a field name, e.g. "error:timeout" or a URL: search the whole token
+                body = matcher.group();
+                prefix = body.endsWith("*");
+            } else if (matcher.group(2) != null) {
+                body = matcher.group(2);
+            } else {
+                body = matcher.group(3);
+                prefix = body.endsWith("*");
+            }
+
+            List<String> terms = TextAnalyzer.analyze(body);
+            if (!terms.isEmpty()) {
+                clauses.add(new Clause(terms, prefix && terms.size() == 1, fieldMask));
+            }
+        }
+        return new SearchQuery(clauses);
+    }
+
+    public boolean isEmpty() {
+        return clauses.isEmpty();
+    }
+}
@@ -0,0 +1,195 @@
+package org.example.seed;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.AutomatedByDTO;
+import org.example.dto.AutomationStatusDTO;
+import org.example.dto.ModuleDTO;
+import org.example.dto.SubModuleDTO;
+import org.example.dto.TagDTO;
+import org.example.dto.TestCaseDTO;
+import org.example.dto.TestCasePriorityDTO;
+import org.example.model.AutomatedBy;
+import org.example.model.AutomationStatus;
+import org.example.model.Module;
+import org.example.model.SubModule;
+import org.example.model.Tag;
+import org.example.model.TestCase;
+import org.example.model.TestCasePriority;
+import org.example.repository.ModuleRepository;
+import org.example.repository.TestCaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fills an empty database with a {@link SyntheticCatalog} at startup, for
+ * load tests and local profiling. Enabled by {@code scriptsync.seed.enabled}.
+ * <p>
+ * Runs as an {@link ApplicationRunner}, i.e. before the search index,
+ * dashboard counters and change log initialise on
+ * {@code ApplicationReadyEvent}, so they all start from the seeded data.
+ * Entities are persisted directly in chunked transactions and go out as JDBC
+ * batches; no change events are published. A database that already holds
+ * modules or test cases is left alone.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "scriptsync.seed.enabled", havingValue = "true")
+public class CatalogSeeder implements ApplicationRunner {
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ModuleRepository moduleRepository;
+    private final TestCaseRepository testCaseRepository;
+
+    @Value("${scriptsync.seed.random-seed:1}")
+    private long randomSeed;
+
+    @Value("${scriptsync.seed.modules:500}")
+    private int modules;
+
+    @Value("${scriptsync.seed.sub-modules:5000}")
+    private int subModules;
+
+    @Value("${scriptsync.seed.tags:300}")
+    private int tags;
+
+    @Value("${scriptsync.seed.users:50}")
+    private int users;
+
+    @Value("${scriptsync.seed.test-cases:1000000}")
+    private int testCases;
+
+    @Value("${scriptsync.seed.mean-tags:2.0}")
+    private double meanTags;
+
+    @Value("${scriptsync.seed.tag-skew:1.1}")
+    private double tagSkew;
+
+    @Value("${scriptsync.seed.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (moduleRepository.count() > 0 || testCaseRepository.count() > 0) {
+            log.info("Database already holds data; skipping catalog seeding");
+            return;
+        }
+
+        SyntheticCatalog catalog = new SyntheticCatalog(randomSeed,
+                new SyntheticCatalog.Spec(modules, subModules, tags, users, testCases, meanTags, tagSkew));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long start = System.currentTimeMillis();
+        SyntheticCatalog.References refs = transactionTemplate.execute(status -> persistReferences(catalog));
+
+        int reportEvery = Math.max(chunkSize, testCases / 10);
+        int nextReport = reportEvery;
+        for (int from = 0; from < testCases; from += chunkSize) {
+            int chunkStart = from;
+            int chunkEnd = Math.min(testCases, from + chunkSize);
+            transactionTemplate.executeWithoutResult(status ->
+                    persistTestCases(catalog.testCases(chunkStart, chunkEnd, refs)));
+            if (chunkEnd >= nextReport && chunkEnd < testCases) {
+                log.info("Seeded {} of {} test cases", chunkEnd, testCases);
+                nextReport += reportEvery;
+            }
+        }
+        log.info("Seeded {} modules, {} sub-modules, {} tags, {} users and {} test cases in {} ms",
+                modules, subModules, tags, users, testCases, System.currentTimeMillis() - start);
+    }
+
+    private SyntheticCatalog.References persistReferences(SyntheticCatalog catalog) {
+        List<ModuleDTO> moduleDTOs = catalog.modules();
+        for (ModuleDTO dto : moduleDTOs) {
+            Module module = new Module();
+            module.setName(dto.getName());
+            module.setDescription(dto.getDescription());
+            entityManager.persist(module);
+            dto.setId(module.getId());
+        }
+        List<SubModuleDTO> subModuleDTOs = catalog.subModules(moduleDTOs);
+        for (SubModuleDTO dto : subModuleDTOs) {
+            SubModule subModule = new SubModule();
+            subModule.setName(dto.getName());
+            subModule.setDescription(dto.getDescription());
+            subModule.setModule(entityManager.getReference(Module.class, dto.getModuleId()));
+            entityManager.persist(subModule);
+            dto.setId(subModule.getId());
+        }
+        List<TestCasePriorityDTO> priorityDTOs = catalog.priorities();
+        for (TestCasePriorityDTO dto : priorityDTOs) {
+            TestCasePriority priority = new TestCasePriority();
+            priority.setName(dto.getName());
+            priority.setDescription(dto.getDescription());
+            priority.setLevel(dto.getLevel());
+            entityManager.persist(priority);
+            dto.setId(priority.getId());
+        }
+        List<AutomationStatusDTO> statusDTOs = catalog.statuses();
+        for (AutomationStatusDTO dto : statusDTOs) {
+            AutomationStatus status = new AutomationStatus();
+            status.setName(dto.getName());
+            status.setDescription(dto.getDescription());
+            entityManager.persist(status);
+            dto.setId(status.getId());
+        }
+        List<AutomatedByDTO> userDTOs = catalog.users();
+        for (AutomatedByDTO dto : userDTOs) {
+            AutomatedBy automatedBy = new AutomatedBy();
+            automatedBy.setName(dto.getName());
+            automatedBy.setEmail(dto.getEmail());
+            automatedBy.setTeam(dto.getTeam());
+            entityManager.persist(automatedBy);
+            dto.setId(automatedBy.getId());
+        }
+        List<TagDTO> tagDTOs = catalog.tags();
+        for (TagDTO dto : tagDTOs) {
+            Tag tag = new Tag();
+            tag.setName(dto.getName());
+            tag.setDescription(dto.getDescription());
+            tag.setColor(dto.getColor());
+            entityManager.persist(tag);
+            dto.setId(tag.getId());
+        }
+        return new SyntheticCatalog.References(moduleDTOs, subModuleDTOs, priorityDTOs, statusDTOs, userDTOs, tagDTOs);
+    }
+
+    private void persistTestCases(List<TestCaseDTO> dtos) {
+        for (TestCaseDTO dto : dtos) {
+            TestCase testCase = new TestCase();
+            testCase.setTestcaseId(dto.getTestcaseId());
+            testCase.setModule(entityManager.getReference(Module.class, dto.getModuleId()));
+            if (dto.getSubModuleId() != null) {
+                testCase.setSubModule(entityManager.getReference(SubModule.class, dto.getSubModuleId()));
+            }
+            testCase.setTestCaseDescription(dto.getTestCaseDescription());
+            testCase.setPreConditions(dto.getPreConditions());
+            testCase.setTestScript(dto.getTestScript());
+            testCase.setExpectedResult(dto.getExpectedResult());
+            testCase.setPriority(entityManager.getReference(TestCasePriority.class, dto.getPriorityId()));
+            testCase.setAutomationStatus(entityManager.getReference(AutomationStatus.class, dto.getAutomationStatusId()));
+            if (dto.getAutomatedById() != null) {
+                testCase.setAutomatedBy(entityManager.getReference(AutomatedBy.class, dto.getAutomatedById()));
+            }
+            testCase.setAutomationComments(dto.getAutomationComments());
+            testCase.setClubbedTcId(dto.getClubbedTcId());
+            Set<Tag> testCaseTags = new HashSet<>();
+            for (Long tagId : dto.getTagIds()) {
+                testCaseTags.add(entityManager.getReference(Tag.class, tagId));
+            }
+            testCase.setTags(testCaseTags);
+            entityManager.persist(testCase);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package org.example.seed;
+
+import org.example.dto.AutomatedByDTO;
+import org.example.dto.AutomationStatusDTO;
+import org.example.dto.ModuleDTO;
+import org.example.dto.SubModuleDTO;
+import org.example.dto.TagDTO;
+import org.example.dto.TestCaseDTO;
+import org.example.dto.TestCasePriorityDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Reproducible synthetic test case catalog for benchmarks and load tests.
+ * <p>
+ * Everything is derived from the seed, so the same seed and {@link Spec}
+ * give the same catalog on every machine. Test case {@code n} comes from its
+ * own random stream and can be generated in any order, or regenerated later
+ * without keeping the catalog in memory.
+ * <p>
+ * Text sizes are log-normal: most scripts are a page of steps, a few run to
+ * many kilobytes. Tags per test case are geometric around
+ * {@link Spec#meanTagsPerTestCase()}, and which tags follows a Zipf
+ * distribution, so a handful of tags cover most of the catalog.
+ */
+public class SyntheticCatalog {
+
+    /** Catalog dimensions. Sub-modules are spread evenly over the modules. */
+    public record Spec(int modules, int subModules, int tags, int users, int testCases,
+                       double meanTagsPerTestCase, double tagSkew) {
+
+        public static Spec small() {
+            return new Spec(20, 100, 50, 25, 10_000, 2.0, 1.1);
+        }
+    }
+
+    /** Persisted reference data a catalog's test cases point at, ids included. */
+    public record References(List<ModuleDTO> modules, List<SubModuleDTO> subModules,
+                             List<TestCasePriorityDTO> priorities, List<AutomationStatusDTO> statuses,
+                             List<AutomatedByDTO> users, List<TagDTO> tags) {
+    }
+
+    private static final String[] AREAS = {
+            "Checkout", "Login", "Search", "Payments", "Profile", "Catalog", "Orders", "Shipping",
+            "Notifications", "Reports", "Admin", "Inventory", "Billing", "Onboarding", "Settings"};
+    private static final String[] FEATURES = {
+            "Validation", "Happy Path", "Error Handling", "Permissions", "Localization", "Pagination",
+            "Filters", "Export", "Import", "Audit Trail", "Caching", "Accessibility"};
+    private static final String[] TAG_WORDS = {
+            "smoke", "regression", "sanity", "ui", "api", "mobile", "web", "critical-path", "flaky",
+            "security", "performance", "data-driven", "e2e", "integration", "manual-only"};
+    private static final String[] COLORS = {
+            "#ef4444", "#f97316", "#eab308", "#22c55e", "#14b8a6", "#3b82f6", "#8b5cf6", "#ec4899"};
+    private static final String[] TEAMS = {"Web QA", "Mobile QA", "API QA", "Platform", "Payments QA"};
+    private static final String[] FIRST_NAMES = {
+            "Asha", "Ben", "Chen", "Divya", "Elena", "Farid", "Grace", "Hiro", "Isha", "Jonas",
+            "Kavya", "Liam", "Maya", "Nikhil", "Olga", "Priya", "Quinn", "Ravi", "Sara", "Tomas"};
+    private static final String[] LAST_NAMES = {
+            "Rao", "Smith", "Wang", "Iyer", "Petrova", "Khan", "Lee", "Tanaka", "Shah", "Berg"};
+
+    private static final String[] ACTIONS = {
+            "Navigate to", "Click", "Enter", "Select", "Open", "Submit", "Upload", "Refresh",
+            "Search for", "Clear", "Scroll to", "Hover over", "Log in to", "Close", "Expand"};
+    private static final String[] TARGETS = {
+            "the login page", "the Save button", "a valid email address", "the order summary",
+            "the payment form", "the search box", "the first result", "the settings menu",
+            "an expired card number", "the shipping address", "the confirmation dialog",
+            "the export link", "a CSV file with 500 rows", "the user profile", "the filter panel",
+            "the notification bell", "the admin console", "a coupon code", "the cart icon",
+            "the date picker"};
+    private static final String[] OUTCOMES = {
+            "is displayed", "is saved", "shows a validation message", "is disabled",
+            "updates within two seconds", "matches the stored value", "is sent by email",
+            "appears in the audit log", "returns HTTP 200", "redirects to the dashboard",
+            "lists the new record first", "keeps the previous selection"};
+
+    private final long seed;
+    private final Spec spec;
+    private final double[] tagCdf;
+
+    public SyntheticCatalog(long seed, Spec spec) {
+        this.seed = seed;
+        this.spec = spec;
+        this.tagCdf = zipfCdf(spec.tags(), spec.tagSkew());
+    }
+
+    public Spec getSpec() {
+        return spec;
+    }
+
+    public List<ModuleDTO> modules() {
+        List<ModuleDTO> modules = new ArrayList<>(spec.modules());
+        for (int i = 0; i < spec.modules(); i++) {
+            String area = AREAS[i % AREAS.length];
+            modules.add(new ModuleDTO(null, String.format("%s %03d", area, i + 1), area + " module"));
+        }
+        return modules;
+    }
+
+    /** Sub-modules of the given persisted modules, dealt out round-robin. */
+    public List<SubModuleDTO> subModules(List<ModuleDTO> modules) {
+        List<SubModuleDTO> subModules = new ArrayList<>(spec.subModules());
+        for (int i = 0; i < spec.subModules(); i++) {
+            ModuleDTO module = modules.get(i % modules.size());
+            String name = String.format("%s %03d", FEATURES[i % FEATURES.length], i / modules.size() + 1);
+            subModules.add(new SubModuleDTO(null, name, null, module.getId(), module.getName()));
+        }
+        return subModules;
+    }
+
+    public List<TestCasePriorityDTO> priorities() {
+        return List.of(
+                new TestCasePriorityDTO(null, "Critical", "Blocks a release", 1),
+                new TestCasePriorityDTO(null, "High", "Core functionality", 2),
+                new TestCasePriorityDTO(null, "Medium", "Secondary functionality", 3),
+                new TestCasePriorityDTO(null, "Low", "Cosmetic or rare paths", 4));
+    }
+
+    public List<AutomationStatusDTO> statuses() {
+        return List.of(
+                new AutomationStatusDTO(null, "Automated", "Runs in CI"),
+                new AutomationStatusDTO(null, "Not Automated", "Manual only"),
+                new AutomationStatusDTO(null, "In Progress", "Being automated"),
+                new AutomationStatusDTO(null, "Not Feasible", "Cannot be automated"));
+    }
+
+    public List<AutomatedByDTO> users() {
+        List<AutomatedByDTO> users = new ArrayList<>(spec.users());
+        for (int i = 0; i < spec.users(); i++) {
+            String first = FIRST_NAMES[i % FIRST_NAMES.length];
+            String last = LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length];
+            String name = first + " " + last + (i >= FIRST_NAMES.length * LAST_NAMES.length ? " " + i : "");
+            String email = (first + "." + last + i + "@example.com").toLowerCase();
+            users.add(new AutomatedByDTO(null, name, email, TEAMS[i % TEAMS.length]));
+        }
+        return users;
+    }
+
+    /** Tags in popularity order: the first is the most used. */
+    public List<TagDTO> tags() {
+        List<TagDTO> tags = new ArrayList<>(spec.tags());
+        for (int i = 0; i < spec.tags(); i++) {
+            String word = TAG_WORDS[i % TAG_WORDS.length];
+            String name = i < TAG_WORDS.length ? word : word + "-" + (i / TAG_WORDS.length + 1);
+            tags.add(new TagDTO(null, name, null, COLORS[i % COLORS.length]));
+        }
+        return tags;
+    }
+
+    /**
+     * Reference data with the ids a fresh database would assign, for
+     * benchmarks that never touch one.
+     */
+    public References sequentialReferences() {
+        List<ModuleDTO> modules = numbered(modules(), ModuleDTO::setId);
+        return new References(modules, numbered(subModules(modules), SubModuleDTO::setId),
+                numbered(priorities(), TestCasePriorityDTO::setId), numbered(statuses(), AutomationStatusDTO::setId),
+                numbered(users(), AutomatedByDTO::setId), numbered(tags(), TagDTO::setId));
+    }
+
+    /**
+     * Test case {@code n} (0-based). Both ids and names of its references are
+     * set, so the result reads like an API response as well as a request.
+     */
+    public TestCaseDTO testCase(long n, References refs) {
+        SplittableRandom random = new SplittableRandom(seed ^ (n * 0x9E3779B97F4A7C15L));
+        TestCaseDTO dto = new TestCaseDTO();
+        dto.setTestcaseId(String.format("TC-%07d", n + 1));
+
+        // Most test cases sit in a sub-module; the rest hang off a module directly
+        if (!refs.subModules().isEmpty() && random.nextInt(100) < 85) {
+            SubModuleDTO subModule = pick(random, refs.subModules());
+            dto.setSubModuleId(subModule.getId());
+            dto.setSubModuleName(subModule.getName());
+            dto.setModuleId(subModule.getModuleId());
+            dto.setModuleName(subModule.getModuleName());
+        } else {
+            ModuleDTO module = pick(random, refs.modules());
+            dto.setModuleId(module.getId());
+            dto.setModuleName(module.getName());
+        }
+
+        dto.setTestCaseDescription(sentence(random, logNormal(random, 90, 0.5, 500)));
+        if (random.nextInt(100) < 60) {
+            dto.setPreConditions(sentence(random, logNormal(random, 150, 0.6, 2_000)));
+        }
+        dto.setTestScript(steps(random, logNormal(random, 1_200, 0.8, 32_000)));
+        dto.setExpectedResult(sentence(random, logNormal(random, 200, 0.6, 4_000)));
+
+        TestCasePriorityDTO priority = refs.priorities().get(weighted(random, 10, 30, 45, 15));
+        dto.setPriorityId(priority.getId());
+        dto.setPriorityName(priority.getName());
+        AutomationStatusDTO status = refs.statuses().get(weighted(random, 45, 35, 12, 8));
+        dto.setAutomationStatusId(status.getId());
+        dto.setAutomationStatusName(status.getName());
+        if (status.getName().equals("Automated") || status.getName().equals("In Progress")) {
+            AutomatedByDTO user = pick(random, refs.users());
+            dto.setAutomatedById(user.getId());
+            dto.setAutomatedByName(user.getName());
+            if (random.nextInt(100) < 30) {
+                dto.setAutomationComments(sentence(random, logNormal(random, 80, 0.5, 1_000)));
+            }
+        }
+        if (random.nextInt(100) < 5 && n > 0) {
+            dto.setClubbedTcId(String.format("TC-%07d", random.nextLong(n) + 1));
+        }
+
+        List<TagDTO> tags = pickTags(random, refs.tags());
+        dto.setTagIds(tags.stream().map(TagDTO::getId).collect(Collectors.toList()));
+        dto.setTagNames(tags.stream().map(TagDTO::getName).collect(Collectors.toList()));
+        return dto;
+    }
+
+    /** Test cases {@code from} (inclusive) to {@code to} (exclusive). */
+    public List<TestCaseDTO> testCases(long from, long to, References refs) {
+        List<TestCaseDTO> testCases = new ArrayList<>((int) (to - from));
+        for (long n = from; n < to; n++) {
+            testCases.add(testCase(n, refs));
+        }
+        return testCases;
+    }
+
+    private List<TagDTO> pickTags(SplittableRandom random, List<TagDTO> tags) {
+        if (tags.isEmpty()) {
+            return List.of();
+        }
+        // Geometric count with the configured mean
+        double p = 1.0 / (spec.meanTagsPerTestCase() + 1.0);
+        int count = (int) Math.min(Math.floor(Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - p)),
+                Math.min(tags.size(), 12));
+        Set<TagDTO> picked = new LinkedHashSet<>();
+        while (picked.size() < count) {
+            int index = Arrays.binarySearch(tagCdf, random.nextDouble());
+            picked.add(tags.get(Math.min(index < 0 ? -index - 1 : index, tags.size() - 1)));
+        }
+        return new ArrayList<>(picked);
+    }
+
+    private static String steps(SplittableRandom random, int length) {
+        StringBuilder script = new StringBuilder(length + 80);
+        int step = 1;
+        while (script.length() < length) {
+            script.append(step++).append(". ").append(pick(random, ACTIONS)).append(' ')
+                    .append(pick(random, TARGETS)).append('.');
+            if (random.nextInt(4) == 0) {
+                script.append(" Verify that ").append(pick(random, TARGETS)).append(' ')
+                        .append(pick(random, OUTCOMES)).append('.');
+            }
+            script.append('\n');
+        }
+        return script.toString();
+    }
+
+    private static String sentence(SplittableRandom random, int length) {
+        StringBuilder text = new StringBuilder(length + 80);
+        while (text.length() < length) {
+            if (!text.isEmpty()) {
+                text.append(' ');
+            }
+            String target = pick(random, TARGETS);
+            text.append(Character.toUpperCase(target.charAt(0))).append(target, 1, target.length())
+                    .append(' ').append(pick(random, OUTCOMES)).append('.');
+        }
+        return text.toString();
+    }
+
+    /** Log-normal length with the given median, at least 10 and at most {@code max}. */
+    private static int logNormal(SplittableRandom random, int median, double sigma, int max) {
+        double value = median * Math.exp(sigma * random.nextGaussian());
+        return (int) Math.max(10, Math.min(max, value));
+    }
+
+    private static int weighted(SplittableRandom random, int... weights) {
+        int total = Arrays.stream(weights).sum();
+        int r = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static <T> List<T> numbered(List<T> values, BiConsumer<T, Long> setId) {
+        List<T> copy = new ArrayList<>(values);
+        for (int i = 0; i < copy.size(); i++) {
+            setId.accept(copy.get(i), (long) i + 1);
+        }
+        return copy;
+    }
+}
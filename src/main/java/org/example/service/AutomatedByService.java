@@ -2,12 +2,17 @@ package org.example.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.dto.AutomatedByDTO;
+import org.example.event.ChangeType;
+import org.example.event.ReferenceDataChangedEvent;
+import org.example.event.ReferenceType;
 import org.example.exception.ResourceNotFoundException;
 import org.example.model.AutomatedBy;
 import org.example.repository.AutomatedByRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,6 +22,7 @@ import java.util.stream.Collectors;
 public class AutomatedByService {
 
     private final AutomatedByRepository automatedByRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<AutomatedByDTO> getAllAutomatedBy() {
         return automatedByRepository.findAll().stream()
@@ -24,6 +30,12 @@ public class AutomatedByService {
                 .collect(Collectors.toList());
     }
 
+    public List<AutomatedByDTO> getAutomatedByByIds(Collection<Long> ids) {
+        return automatedByRepository.findAllById(ids).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
     public AutomatedByDTO getAutomatedByById(Long id) {
         AutomatedBy automatedBy = automatedByRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("AutomatedBy not found with id: " + id));
@@ -33,6 +45,7 @@ public class AutomatedByService {
     public AutomatedByDTO createAutomatedBy(AutomatedByDTO automatedByDTO) {
         AutomatedBy automatedBy = convertToEntity(automatedByDTO);
         AutomatedBy savedAutomatedBy = automatedByRepository.save(automatedBy);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.AUTOMATED_BY, ChangeType.CREATED, savedAutomatedBy.getId()));
         return convertToDTO(savedAutomatedBy);
     }
 
@@ -44,6 +57,7 @@ public class AutomatedByService {
         automatedBy.setEmail(automatedByDTO.getEmail());
         automatedBy.setTeam(automatedByDTO.getTeam());
         AutomatedBy updatedAutomatedBy = automatedByRepository.save(automatedBy);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.AUTOMATED_BY, ChangeType.UPDATED, id));
         return convertToDTO(updatedAutomatedBy);
     }
 
@@ -52,6 +66,7 @@ public class AutomatedByService {
             throw new ResourceNotFoundException("AutomatedBy not found with id: " + id);
         }
         automatedByRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.AUTOMATED_BY, ChangeType.DELETED, id));
     }
 
     private AutomatedByDTO convertToDTO(AutomatedBy automatedBy) {
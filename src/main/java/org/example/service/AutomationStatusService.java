@@ -2,13 +2,18 @@ package org.example.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.dto.AutomationStatusDTO;
+import org.example.event.ChangeType;
+import org.example.event.ReferenceDataChangedEvent;
+import org.example.event.ReferenceType;
 import org.example.exception.DuplicateResourceException;
 import org.example.exception.ResourceNotFoundException;
 import org.example.model.AutomationStatus;
 import org.example.repository.AutomationStatusRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,6 +23,7 @@ import java.util.stream.Collectors;
 public class AutomationStatusService {
 
     private final AutomationStatusRepository statusRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<AutomationStatusDTO> getAllStatuses() {
         return statusRepository.findAll().stream()
@@ -25,6 +31,12 @@ public class AutomationStatusService {
                 .collect(Collectors.toList());
     }
 
+    public List<AutomationStatusDTO> getStatusesByIds(Collection<Long> ids) {
+        return statusRepository.findAllById(ids).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
     public AutomationStatusDTO getStatusById(Long id) {
         AutomationStatus status = statusRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Automation status not found with id: " + id));
@@ -37,6 +49,7 @@ public class AutomationStatusService {
         }
         AutomationStatus status = convertToEntity(statusDTO);
         AutomationStatus savedStatus = statusRepository.save(status);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.AUTOMATION_STATUS, ChangeType.CREATED, savedStatus.getId()));
         return convertToDTO(savedStatus);
     }
 
@@ -52,6 +65,7 @@ public class AutomationStatusService {
         status.setName(statusDTO.getName());
         status.setDescription(statusDTO.getDescription());
         AutomationStatus updatedStatus = statusRepository.save(status);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.AUTOMATION_STATUS, ChangeType.UPDATED, id));
         return convertToDTO(updatedStatus);
     }
 
@@ -60,6 +74,7 @@ public class AutomationStatusService {
             throw new ResourceNotFoundException("Automation status not found with id: " + id);
         }
         statusRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.AUTOMATION_STATUS, ChangeType.DELETED, id));
     }
 
     private AutomationStatusDTO convertToDTO(AutomationStatus status) {
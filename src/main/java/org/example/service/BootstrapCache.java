@@ -0,0 +1,113 @@
+package org.example.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.BootstrapDTO;
+import org.example.event.CommitOrder;
+import org.example.event.ReferenceDataChangedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Every reference data collection as one JSON document, serialized once and
+ * kept both plain and gzipped, so serving it is a byte copy.
+ * <p>
+ * Reference writes only bump a generation counter after commit; the next
+ * request rebuilds the document with one read-only transaction and one
+ * Jackson pass. A build that overlaps a write is stamped with the generation
+ * read before it started, so it is rebuilt again on the following request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BootstrapCache {
+
+    private final ModuleService moduleService;
+    private final SubModuleService subModuleService;
+    private final TestCasePriorityService priorityService;
+    private final AutomationStatusService statusService;
+    private final AutomatedByService automatedByService;
+    private final TagService tagService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private volatile Payload payload;
+
+    /** The serialized document and its gzipped form. */
+    public record Payload(long generation, byte[] json, byte[] gzipped) {
+    }
+
+    public Payload get() {
+        Payload current = payload;
+        if (current != null && current.generation() == generation.get()) {
+            return current;
+        }
+        // One build at a time; requests that queued behind it reuse its result
+        buildLock.lock();
+        try {
+            long currentGeneration = generation.get();
+            current = payload;
+            if (current == null || current.generation() != currentGeneration) {
+                current = build(currentGeneration);
+                payload = current;
+            }
+            return current;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    @Order(CommitOrder.STATE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    private Payload build(long forGeneration) {
+        long start = System.nanoTime();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        BootstrapDTO data = readOnly.execute(status -> new BootstrapDTO(
+                moduleService.getAllModules(),
+                subModuleService.getAllSubModules(),
+                priorityService.getAllPriorities(),
+                statusService.getAllStatuses(),
+                automatedByService.getAllAutomatedBy(),
+                tagService.getAllTags()));
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize bootstrap data", e);
+        }
+        byte[] gzipped = gzip(json);
+        log.debug("Bootstrap payload rebuilt: {} bytes, {} gzipped, {} ms", json.length, gzipped.length,
+                (System.nanoTime() - start) / 1_000_000);
+        return new Payload(forGeneration, json, gzipped);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
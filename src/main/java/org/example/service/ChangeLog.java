@@ -0,0 +1,186 @@
+package org.example.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.event.ChangeType;
+import org.example.event.EntityType;
+import org.example.event.ReferenceDataChangedEvent;
+import org.example.event.TestCaseChangedEvent;
+import org.example.exception.CursorExpiredException;
+import org.example.exception.InvalidRequestException;
+import org.example.model.ChangeLogEntry;
+import org.example.model.ChangeLogHead;
+import org.example.repository.ChangeLogHeadRepository;
+import org.example.repository.ChangeLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Append-only log of committed writes behind the delta sync endpoints.
+ * <p>
+ * Writers append inside their own transaction, as its last step: single
+ * writes through the change events at {@code BEFORE_COMMIT}, bulk operations
+ * directly at the end of each chunk. Appending locks the {@link ChangeLogHead}
+ * row until commit, so sequence numbers become visible strictly in order and
+ * a reader that has seen number N can never later find a smaller one.
+ * <p>
+ * Cursors are {@code <epoch>.<seq>}. Entries, including delete tombstones,
+ * are kept for {@code scriptsync.sync.retention-days}; cursors older than
+ * that, or from another database, are rejected and the client must reload.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChangeLog {
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeLogHeadRepository headRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${scriptsync.sync.retention-days:30}")
+    private int retentionDays;
+
+    /** The net changes after a cursor: the last change per entity, in log order. */
+    public record Changes(List<ChangeLogEntry> entries, String cursor, boolean hasMore) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createHead() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (!headRepository.existsById(ChangeLogHead.ID)) {
+                String epoch = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+                headRepository.save(new ChangeLogHead(ChangeLogHead.ID, epoch, 0, 0));
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTestCaseChanged(TestCaseChangedEvent event) {
+        record(EntityType.TEST_CASE, List.of(event.testCaseId()), event.changeType());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        record(EntityType.of(event.referenceType()), List.of(event.id()), event.changeType());
+    }
+
+    /**
+     * Appends one entry per id. Call as the last statement of the writing
+     * transaction: from here until commit, other writers wait.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(EntityType entityType, Collection<Long> ids, ChangeType changeType) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        ChangeLogHead head = headRepository.lockById(ChangeLogHead.ID)
+                .orElseThrow(() -> new IllegalStateException("Change log head row is missing"));
+        long seq = head.getLastSeq();
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : ids) {
+            entityManager.persist(new ChangeLogEntry(++seq, entityType, id, changeType, now));
+        }
+        head.setLastSeq(seq);
+    }
+
+    /**
+     * Returns up to {@code limit} log entries of the given types after
+     * {@code cursor}, collapsed to the last entry per entity. Without a cursor
+     * nothing is returned but the current position, to be taken before a full
+     * reload.
+     */
+    @Transactional(readOnly = true)
+    public Changes changesSince(Collection<EntityType> entityTypes, String cursor, int limit) {
+        // Read the head first: every entry up to its lastSeq is already committed
+        ChangeLogHead head = headRepository.findById(ChangeLogHead.ID)
+                .orElseThrow(() -> new IllegalStateException("Change log head row is missing"));
+        if (cursor == null || cursor.isBlank()) {
+            return new Changes(List.of(), encode(head, head.getLastSeq()), false);
+        }
+        long since = decode(head, cursor);
+
+        List<ChangeLogEntry> entries = changeLogRepository.findByEntityTypeInAndSeqGreaterThanOrderBySeq(
+                entityTypes, since, PageRequest.of(0, limit + 1));
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+        long next = entries.isEmpty() ? since : entries.get(entries.size() - 1).getSeq();
+        if (!hasMore) {
+            // Skip past entries of other types too
+            next = Math.max(next, head.getLastSeq());
+        }
+
+        Map<String, ChangeLogEntry> latest = new LinkedHashMap<>();
+        for (ChangeLogEntry entry : entries) {
+            String key = entry.getEntityType() + ":" + entry.getEntityId();
+            latest.remove(key);
+            latest.put(key, entry);
+        }
+        return new Changes(new ArrayList<>(latest.values()), encode(head, next), hasMore);
+    }
+
+    /**
+     * Drops entries older than the retention window. Expires the cursors
+     * first, in its own short transaction, so no reader sees a partial gap.
+     */
+    @Scheduled(fixedDelayString = "${scriptsync.sync.purge-interval-ms:3600000}")
+    public void purge() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long upTo = transactionTemplate.execute(status -> {
+            Long maxSeq = changeLogRepository.findMaxSeqBefore(LocalDateTime.now().minusDays(retentionDays));
+            if (maxSeq == null) {
+                return null;
+            }
+            ChangeLogHead head = headRepository.lockById(ChangeLogHead.ID).orElse(null);
+            if (head == null || maxSeq <= head.getPurgedSeq()) {
+                return null;
+            }
+            head.setPurgedSeq(maxSeq);
+            return maxSeq;
+        });
+        if (upTo != null) {
+            Integer removed = transactionTemplate.execute(status -> changeLogRepository.deleteUpTo(upTo));
+            log.info("Purged {} change log entries older than {} days", removed, retentionDays);
+        }
+    }
+
+    private static String encode(ChangeLogHead head, long seq) {
+        return head.getEpoch() + "." + seq;
+    }
+
+    private static long decode(ChangeLogHead head, String cursor) {
+        int dot = cursor.lastIndexOf('.');
+        long seq;
+        try {
+            seq = Long.parseLong(cursor.substring(dot + 1));
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+        if (dot < 0 || !cursor.substring(0, dot).equals(head.getEpoch())
+                || seq < head.getPurgedSeq() || seq > head.getLastSeq()) {
+            throw new CursorExpiredException("Cursor has expired; reload the full data set and sync from a new cursor");
+        }
+        return seq;
+    }
+}
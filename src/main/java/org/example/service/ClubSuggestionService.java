@@ -0,0 +1,120 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.dto.ClubSuggestionDTO;
+import org.example.dto.ClubSuggestionsDTO;
+import org.example.exception.InvalidRequestException;
+import org.example.repository.TestCaseClubRow;
+import org.example.repository.TestCaseRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Suggests groups of near-duplicate test cases to club together.
+ * <p>
+ * Groups come from {@link TestCaseSimilarityIndex#clusters}, which only
+ * compares test cases sharing an LSH bucket, so a pass over the whole catalog
+ * is near-linear in its size. Groups whose members already share one
+ * {@code clubbedTcId} are left out; club ids are then read in chunks with a
+ * projection query, without loading any test case.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ClubSuggestionService {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    private final TestCaseRepository testCaseRepository;
+    private final TestCaseSimilarityIndex similarityIndex;
+    private final TestCaseTextIndexer textIndexer;
+
+    public ClubSuggestionsDTO suggestClubs(Float minSimilarity, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        float threshold = minSimilarity != null ? minSimilarity : similarityIndex.defaultMinSimilarity();
+        if (!(threshold > 0 && threshold <= 1)) {
+            throw new InvalidRequestException("minSimilarity must be greater than 0 and at most 1");
+        }
+
+        long start = System.currentTimeMillis();
+        ClubSuggestionsDTO result = new ClubSuggestionsDTO();
+        result.setMinSimilarity(threshold);
+        result.setIndexing(textIndexer.isRebuilding());
+
+        List<long[]> clusters = similarityIndex.clusters(threshold);
+        Map<Long, TestCaseClubRow> rows = findClubRows(clusters);
+        List<ClubSuggestionDTO> suggestions = new ArrayList<>();
+        for (long[] cluster : clusters) {
+            // Skip members deleted after the index was read
+            List<TestCaseClubRow> members = new ArrayList<>(cluster.length);
+            for (long id : cluster) {
+                TestCaseClubRow row = rows.get(id);
+                if (row != null) {
+                    members.add(row);
+                }
+            }
+            if (members.size() > 1 && !alreadyClubbed(members)) {
+                suggestions.add(toSuggestion(members));
+            }
+        }
+
+        result.setTotal(suggestions.size());
+        result.setSuggestions(suggestions.size() > limit ? new ArrayList<>(suggestions.subList(0, limit)) : suggestions);
+        result.setTookMillis(System.currentTimeMillis() - start);
+        return result;
+    }
+
+    private Map<Long, TestCaseClubRow> findClubRows(List<long[]> clusters) {
+        List<Long> ids = clusters.stream()
+                .flatMapToLong(Arrays::stream)
+                .boxed()
+                .collect(Collectors.toList());
+        Map<Long, TestCaseClubRow> rows = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+            testCaseRepository.findClubRowsByIdIn(chunk).forEach(row -> rows.put(row.id(), row));
+        }
+        return rows;
+    }
+
+    private static boolean alreadyClubbed(List<TestCaseClubRow> members) {
+        String club = members.get(0).clubbedTcId();
+        return club != null && !club.isBlank()
+                && members.stream().allMatch(member -> club.equals(member.clubbedTcId()));
+    }
+
+    /** Members arrive sorted by id, so the first is the oldest. */
+    private static ClubSuggestionDTO toSuggestion(List<TestCaseClubRow> members) {
+        Map<String, Long> clubCounts = members.stream()
+                .map(TestCaseClubRow::clubbedTcId)
+                .filter(Objects::nonNull)
+                .filter(club -> !club.isBlank())
+                .collect(Collectors.groupingBy(club -> club, TreeMap::new, Collectors.counting()));
+        String suggested = clubCounts.entrySet().stream()
+                .max(Map.Entry.<String, Long>comparingByValue()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .map(Map.Entry::getKey)
+                .orElse(members.get(0).testcaseId());
+
+        ClubSuggestionDTO suggestion = new ClubSuggestionDTO();
+        suggestion.setSuggestedClubbedTcId(suggested);
+        suggestion.setIds(members.stream().map(TestCaseClubRow::id).collect(Collectors.toList()));
+        suggestion.setTestcaseIds(members.stream().map(TestCaseClubRow::testcaseId).collect(Collectors.toList()));
+        suggestion.setCurrentClubbedTcIds(new ArrayList<>(clubCounts.keySet()));
+        return suggestion;
+    }
+}
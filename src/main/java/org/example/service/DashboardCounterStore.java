@@ -0,0 +1,310 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.DashboardCounterStatsDTO;
+import org.example.event.ChangeType;
+import org.example.event.CommitOrder;
+import org.example.event.DashboardCountsRepairedEvent;
+import org.example.event.ReferenceDataChangedEvent;
+import org.example.event.TestCaseChangedEvent;
+import org.example.event.TestCaseDimensions;
+import org.example.event.TestCasesBulkChangedEvent;
+import org.example.model.AutomationStatus;
+import org.example.model.SubModule;
+import org.example.model.TestCasePriority;
+import org.example.repository.AutomationStatusRepository;
+import org.example.repository.ModuleRepository;
+import org.example.repository.SubModuleRepository;
+import org.example.repository.TestCaseDimensionCount;
+import org.example.repository.TestCaseGroupCount;
+import org.example.repository.TestCasePriorityRepository;
+import org.example.repository.TestCaseRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory test case counts per (module, sub-module, priority, status,
+ * automated by), kept current from committed writes so dashboard reads need
+ * no database access.
+ * <p>
+ * Single writes are applied as +1/-1 deltas after commit. Bulk writes and
+ * the periodic reconciliation rebuild the counters from one grouped query;
+ * the scheduled run also records how far the counters had drifted from the
+ * database, which should stay at zero, and publishes a
+ * {@link DashboardCountsRepairedEvent} when it did not.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardCounterStore {
+
+    private final TestCaseRepository testCaseRepository;
+    private final ModuleRepository moduleRepository;
+    private final SubModuleRepository subModuleRepository;
+    private final TestCasePriorityRepository priorityRepository;
+    private final AutomationStatusRepository statusRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<TestCaseDimensions, Long> counts = new ConcurrentHashMap<>();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile ReferenceNames names = new ReferenceNames(0, Map.of(), Map.of(), Map.of());
+    private volatile boolean initialized;
+
+    private final AtomicLong reconciliations = new AtomicLong();
+    private final AtomicLong totalDrift = new AtomicLong();
+    private volatile long lastDrift;
+    private volatile LocalDateTime lastReconciledAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild(false);
+    }
+
+    @Scheduled(initialDelayString = "${scriptsync.dashboard.reconcile-interval-ms:300000}",
+               fixedDelayString = "${scriptsync.dashboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        rebuild(true);
+    }
+
+    @Order(CommitOrder.STATE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTestCaseChanged(TestCaseChangedEvent event) {
+        if (event.before() != null) {
+            add(event.before(), -1);
+        }
+        if (event.after() != null) {
+            add(event.after(), 1);
+        }
+    }
+
+    @Order(CommitOrder.STATE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTestCasesBulkChanged(TestCasesBulkChangedEvent event) {
+        if (!event.operation().isTagsOnly()) {
+            rebuild(false);
+        }
+    }
+
+    /**
+     * Reads the changed name inside the writing transaction and applies it
+     * once that commits. Reloading after commit would take a second pooled
+     * connection while the writer still holds its own, which starves the pool
+     * once concurrent reference writes outnumber its connections.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        Long id = event.id();
+        boolean deleted = event.changeType() == ChangeType.DELETED;
+        UnaryOperator<ReferenceNames> change = switch (event.referenceType()) {
+            case MODULE -> {
+                int delta = event.changeType() == ChangeType.CREATED ? 1 : deleted ? -1 : 0;
+                yield current -> current.withModuleCount(current.moduleCount() + delta);
+            }
+            case SUB_MODULE -> {
+                String name = deleted ? null : subModuleRepository.findById(id).map(SubModule::getName).orElse(null);
+                yield current -> current.withSubModule(id, name);
+            }
+            case PRIORITY -> {
+                String name = deleted ? null : priorityRepository.findById(id).map(TestCasePriority::getName).orElse(null);
+                yield current -> current.withPriority(id, name);
+            }
+            case AUTOMATION_STATUS -> {
+                String name = deleted ? null : statusRepository.findById(id).map(AutomationStatus::getName).orElse(null);
+                yield current -> current.withStatus(id, name);
+            }
+            // Tags and users are not shown on the dashboard
+            default -> null;
+        };
+        if (change == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return CommitOrder.STATE;
+                }
+
+                @Override
+                public void afterCommit() {
+                    applyNames(change);
+                }
+            });
+        } else {
+            applyNames(change);
+        }
+    }
+
+    /**
+     * Current counts with reference ids resolved to display names.
+     */
+    public List<TestCaseGroupCount> groupCounts() {
+        if (!initialized) {
+            rebuild(false);
+        }
+        ReferenceNames current = names;
+        List<TestCaseGroupCount> groups = new ArrayList<>(counts.size());
+        counts.forEach((dimensions, count) -> groups.add(new TestCaseGroupCount(
+                dimensions.subModuleId() != null ? current.subModules().get(dimensions.subModuleId()) : null,
+                current.statuses().get(dimensions.automationStatusId()),
+                current.priorities().get(dimensions.priorityId()),
+                count)));
+        return groups;
+    }
+
+    public long moduleCount() {
+        return names.moduleCount();
+    }
+
+    public long subModuleCount() {
+        return names.subModules().size();
+    }
+
+    public DashboardCounterStatsDTO getStats() {
+        return new DashboardCounterStatsDTO(counts.size(), reconciliations.get(), lastReconciledAt,
+                lastDrift, totalDrift.get());
+    }
+
+    private void applyNames(UnaryOperator<ReferenceNames> change) {
+        // Behind a running rebuild, so its snapshot cannot overwrite the change
+        rebuildLock.lock();
+        try {
+            names = change.apply(names);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void add(TestCaseDimensions dimensions, long delta) {
+        counts.compute(dimensions, (key, current) -> {
+            long updated = (current == null ? 0 : current) + delta;
+            return updated == 0 ? null : updated;
+        });
+    }
+
+    /**
+     * Replaces the counters with fresh database counts. Deltas committed while
+     * the grouped query runs may be lost; the next reconciliation repairs them.
+     */
+    private void rebuild(boolean recordDrift) {
+        long drift = 0;
+        rebuildLock.lock();
+        try {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+            Map<TestCaseDimensions, Long> fresh = new HashMap<>();
+            readOnly.executeWithoutResult(status -> {
+                for (TestCaseDimensionCount row : testCaseRepository.countByDimensions()) {
+                    fresh.put(new TestCaseDimensions(row.moduleId(), row.subModuleId(), row.priorityId(),
+                            row.automationStatusId(), row.automatedById()), row.count());
+                }
+            });
+            ReferenceNames freshNames = loadNames();
+
+            if (recordDrift) {
+                drift = drift(fresh);
+                lastDrift = drift;
+                totalDrift.addAndGet(drift);
+                reconciliations.incrementAndGet();
+                lastReconciledAt = LocalDateTime.now();
+                if (drift > 0) {
+                    log.warn("Dashboard counters drifted from the database by {}; counters rebuilt", drift);
+                }
+            }
+
+            counts.keySet().retainAll(fresh.keySet());
+            counts.putAll(fresh);
+            names = freshNames;
+            initialized = true;
+        } finally {
+            rebuildLock.unlock();
+        }
+        if (drift > 0) {
+            eventPublisher.publishEvent(new DashboardCountsRepairedEvent(drift));
+        }
+    }
+
+    private long drift(Map<TestCaseDimensions, Long> fresh) {
+        Set<TestCaseDimensions> keys = new HashSet<>(fresh.keySet());
+        keys.addAll(counts.keySet());
+        long drift = 0;
+        for (TestCaseDimensions key : keys) {
+            drift += Math.abs(fresh.getOrDefault(key, 0L) - counts.getOrDefault(key, 0L));
+        }
+        return drift;
+    }
+
+    private ReferenceNames loadNames() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return readOnly.execute(status -> {
+            Map<Long, String> subModules = new HashMap<>();
+            subModuleRepository.findAll().forEach(sm -> subModules.put(sm.getId(), sm.getName()));
+            Map<Long, String> priorities = new HashMap<>();
+            priorityRepository.findAll().forEach(p -> priorities.put(p.getId(), p.getName()));
+            Map<Long, String> statuses = new HashMap<>();
+            statusRepository.findAll().forEach(s -> statuses.put(s.getId(), s.getName()));
+            return new ReferenceNames(moduleRepository.count(), subModules, priorities, statuses);
+        });
+    }
+
+    private record ReferenceNames(long moduleCount, Map<Long, String> subModules,
+                                  Map<Long, String> priorities, Map<Long, String> statuses) {
+
+        ReferenceNames withModuleCount(long count) {
+            return new ReferenceNames(count, subModules, priorities, statuses);
+        }
+
+        ReferenceNames withSubModule(Long id, String name) {
+            return new ReferenceNames(moduleCount, with(subModules, id, name), priorities, statuses);
+        }
+
+        ReferenceNames withPriority(Long id, String name) {
+            return new ReferenceNames(moduleCount, subModules, with(priorities, id, name), statuses);
+        }
+
+        ReferenceNames withStatus(Long id, String name) {
+            return new ReferenceNames(moduleCount, subModules, priorities, with(statuses, id, name));
+        }
+
+        /** Copy of {@code names} with {@code id} renamed, or removed when {@code name} is null. */
+        private static Map<Long, String> with(Map<Long, String> names, Long id, String name) {
+            Map<Long, String> copy = new HashMap<>(names);
+            if (name == null) {
+                copy.remove(id);
+            } else {
+                copy.put(id, name);
+            }
+            return copy;
+        }
+    }
+}
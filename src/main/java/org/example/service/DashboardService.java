@@ -0,0 +1,121 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.dto.BreakdownDTO;
+import org.example.dto.BreakdownSeriesDTO;
+import org.example.dto.DashboardCounterStatsDTO;
+import org.example.dto.DashboardDTO;
+import org.example.dto.NamedCountDTO;
+import org.example.repository.ModuleRepository;
+import org.example.repository.SubModuleRepository;
+import org.example.repository.TestCaseGroupCount;
+import org.example.repository.TestCaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the dashboard from grouped test case counts, so its cost depends on
+ * the number of distinct (sub-module, status, priority) groups rather than on
+ * the number of test cases. The counts come from {@link DashboardCounterStore}
+ * unless {@code scriptsync.dashboard.counters.enabled} is false, in which case
+ * they are queried on every request.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    static final String NO_SUB_MODULE = "No Sub-Module";
+
+    private final TestCaseRepository testCaseRepository;
+    private final ModuleRepository moduleRepository;
+    private final SubModuleRepository subModuleRepository;
+    private final DashboardCounterStore counterStore;
+
+    @Value("${scriptsync.dashboard.counters.enabled:true}")
+    private boolean countersEnabled;
+
+    public DashboardDTO getDashboard() {
+        if (countersEnabled) {
+            return buildDashboard(counterStore.groupCounts(),
+                    counterStore.moduleCount(), counterStore.subModuleCount());
+        }
+        return buildDashboard(testCaseRepository.countBySubModuleStatusAndPriority(),
+                moduleRepository.count(), subModuleRepository.count());
+    }
+
+    public DashboardCounterStatsDTO getCounterStats() {
+        return counterStore.getStats();
+    }
+
+    static DashboardDTO buildDashboard(List<TestCaseGroupCount> groups, long totalModules, long totalSubModules) {
+        Map<String, Long> byStatus = new TreeMap<>();
+        Map<String, Long> byPriority = new TreeMap<>();
+        long total = 0;
+        long automated = 0;
+        for (TestCaseGroupCount group : groups) {
+            total += group.count();
+            byStatus.merge(group.automationStatusName(), group.count(), Long::sum);
+            byPriority.merge(group.priorityName(), group.count(), Long::sum);
+            if (isAutomated(group.automationStatusName())) {
+                automated += group.count();
+            }
+        }
+
+        DashboardDTO dto = new DashboardDTO();
+        dto.setTotalTestCases(total);
+        dto.setTotalModules(totalModules);
+        dto.setTotalSubModules(totalSubModules);
+        dto.setAutomatedTestCases(automated);
+        dto.setAutomationRate(total == 0 ? 0 : Math.round(automated * 1000.0 / total) / 10.0);
+        dto.setByStatus(toNamedCounts(byStatus));
+        dto.setByPriority(toNamedCounts(byPriority));
+        dto.setSubModuleByStatus(breakdown(groups, TestCaseGroupCount::automationStatusName));
+        dto.setSubModuleByPriority(breakdown(groups, TestCaseGroupCount::priorityName));
+        return dto;
+    }
+
+    /**
+     * A status counts as automated when its name mentions "automated" or
+     * "completed", except negated names such as "Not Automated".
+     */
+    static boolean isAutomated(String statusName) {
+        String name = statusName.toLowerCase(Locale.ROOT);
+        return (name.contains("automated") || name.contains("completed")) && !name.startsWith("not ");
+    }
+
+    private static List<NamedCountDTO> toNamedCounts(Map<String, Long> counts) {
+        List<NamedCountDTO> result = new ArrayList<>(counts.size());
+        counts.forEach((name, count) -> result.add(new NamedCountDTO(name, count)));
+        return result;
+    }
+
+    private static BreakdownDTO breakdown(List<TestCaseGroupCount> groups, Function<TestCaseGroupCount, String> category) {
+        // series name -> sub-module name -> count
+        Map<String, Map<String, Long>> counts = new TreeMap<>();
+        Set<String> labels = new TreeSet<>();
+        for (TestCaseGroupCount group : groups) {
+            String label = group.subModuleName() != null ? group.subModuleName() : NO_SUB_MODULE;
+            labels.add(label);
+            counts.computeIfAbsent(category.apply(group), key -> new TreeMap<>())
+                    .merge(label, group.count(), Long::sum);
+        }
+
+        List<String> labelList = new ArrayList<>(labels);
+        List<BreakdownSeriesDTO> series = new ArrayList<>(counts.size());
+        counts.forEach((name, perLabel) -> series.add(new BreakdownSeriesDTO(name,
+                labelList.stream()
+                        .map(label -> perLabel.getOrDefault(label, 0L))
+                        .collect(Collectors.toList()))));
+        return new BreakdownDTO(labelList, series);
+    }
+}
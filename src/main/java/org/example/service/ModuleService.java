@@ -2,13 +2,18 @@ package org.example.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.dto.ModuleDTO;
+import org.example.event.ChangeType;
+import org.example.event.ReferenceDataChangedEvent;
+import org.example.event.ReferenceType;
 import org.example.exception.DuplicateResourceException;
 import org.example.exception.ResourceNotFoundException;
 import org.example.model.Module;
 import org.example.repository.ModuleRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,6 +23,7 @@ import java.util.stream.Collectors;
 public class ModuleService {
 
     private final ModuleRepository moduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<ModuleDTO> getAllModules() {
         return moduleRepository.findAll().stream()
@@ -25,6 +31,12 @@ public class ModuleService {
                 .collect(Collectors.toList());
     }
 
+    public List<ModuleDTO> getModulesByIds(Collection<Long> ids) {
+        return moduleRepository.findAllById(ids).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
     public ModuleDTO getModuleById(Long id) {
         Module module = moduleRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Module not found with id: " + id));
@@ -37,6 +49,7 @@ public class ModuleService {
         }
         Module module = convertToEntity(moduleDTO);
         Module savedModule = moduleRepository.save(module);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.MODULE, ChangeType.CREATED, savedModule.getId()));
         return convertToDTO(savedModule);
     }
 
@@ -52,6 +65,7 @@ public class ModuleService {
         module.setName(moduleDTO.getName());
         module.setDescription(moduleDTO.getDescription());
         Module updatedModule = moduleRepository.save(module);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.MODULE, ChangeType.UPDATED, id));
         return convertToDTO(updatedModule);
     }
 
@@ -60,6 +74,7 @@ public class ModuleService {
             throw new ResourceNotFoundException("Module not found with id: " + id);
         }
         moduleRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.MODULE, ChangeType.DELETED, id));
     }
 
     private ModuleDTO convertToDTO(Module module) {
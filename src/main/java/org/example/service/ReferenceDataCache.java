@@ -0,0 +1,214 @@
+package org.example.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.ReferenceCacheStatsDTO;
+import org.example.event.CommitOrder;
+import org.example.event.ReferenceDataChangedEvent;
+import org.example.event.ReferenceType;
+import org.example.model.AutomatedBy;
+import org.example.model.AutomationStatus;
+import org.example.model.Module;
+import org.example.model.SubModule;
+import org.example.model.Tag;
+import org.example.model.TestCasePriority;
+import org.example.repository.AutomatedByRepository;
+import org.example.repository.AutomationStatusRepository;
+import org.example.repository.ModuleRepository;
+import org.example.repository.SubModuleRepository;
+import org.example.repository.TagRepository;
+import org.example.repository.TestCasePriorityRepository;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Read-through cache of the reference entities a test case points at, so the
+ * test case write path can resolve ids without a query per reference.
+ * <p>
+ * Entries are loaded outside the caller's persistence context and are
+ * therefore detached: they may be assigned to a test case's associations and
+ * read, but never modified. Inside a transaction a miss is read through a
+ * child session on the caller's connection, so a request never holds two
+ * pooled connections at once; otherwise it runs in its own read-only
+ * transaction. Entries are evicted after the reference data services commit a
+ * change; a miss whose load overlapped an eviction in its region returns what
+ * it read without caching it, so an old row cannot be put back.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private final ModuleRepository moduleRepository;
+    private final SubModuleRepository subModuleRepository;
+    private final TestCasePriorityRepository priorityRepository;
+    private final AutomationStatusRepository statusRepository;
+    private final AutomatedByRepository automatedByRepository;
+    private final TagRepository tagRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+
+    private final Map<ReferenceType, Region<?>> regions = new EnumMap<>(ReferenceType.class);
+
+    @PostConstruct
+    void createRegions() {
+        regions.put(ReferenceType.MODULE, new Region<>(Module.class, moduleRepository));
+        regions.put(ReferenceType.SUB_MODULE, new Region<>(SubModule.class, subModuleRepository,
+                subModule -> Hibernate.initialize(subModule.getModule())));
+        regions.put(ReferenceType.PRIORITY, new Region<>(TestCasePriority.class, priorityRepository));
+        regions.put(ReferenceType.AUTOMATION_STATUS, new Region<>(AutomationStatus.class, statusRepository));
+        regions.put(ReferenceType.AUTOMATED_BY, new Region<>(AutomatedBy.class, automatedByRepository));
+        regions.put(ReferenceType.TAG, new Region<>(Tag.class, tagRepository));
+    }
+
+    public Optional<Module> findModule(Long id) {
+        return this.<Module>region(ReferenceType.MODULE).get(id);
+    }
+
+    public Optional<SubModule> findSubModule(Long id) {
+        return this.<SubModule>region(ReferenceType.SUB_MODULE).get(id);
+    }
+
+    public Optional<TestCasePriority> findPriority(Long id) {
+        return this.<TestCasePriority>region(ReferenceType.PRIORITY).get(id);
+    }
+
+    public Optional<AutomationStatus> findAutomationStatus(Long id) {
+        return this.<AutomationStatus>region(ReferenceType.AUTOMATION_STATUS).get(id);
+    }
+
+    public Optional<AutomatedBy> findAutomatedBy(Long id) {
+        return this.<AutomatedBy>region(ReferenceType.AUTOMATED_BY).get(id);
+    }
+
+    public Optional<Tag> findTag(Long id) {
+        return this.<Tag>region(ReferenceType.TAG).get(id);
+    }
+
+    @Order(CommitOrder.STATE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        if (event.id() != null) {
+            regions.get(event.referenceType()).evict(event.id());
+        }
+        if (event.referenceType() == ReferenceType.MODULE) {
+            // Cached sub-modules carry a copy of their module
+            regions.get(ReferenceType.SUB_MODULE).evictAll();
+        }
+    }
+
+    public List<ReferenceCacheStatsDTO> getStats() {
+        List<ReferenceCacheStatsDTO> stats = new ArrayList<>(regions.size());
+        regions.forEach((type, region) -> stats.add(new ReferenceCacheStatsDTO(type.name(),
+                region.entries.size(), region.hits.get(), region.misses.get())));
+        return stats;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Region<T> region(ReferenceType type) {
+        return (Region<T>) regions.get(type);
+    }
+
+    private final class Region<T> {
+        private final Class<T> entityClass;
+        private final JpaRepository<T, Long> repository;
+        /** Loads the associations a detached entry is read through. */
+        private final Consumer<T> initializer;
+        private final Map<Long, T> entries = new ConcurrentHashMap<>();
+        /** Raised before every eviction, so a load that overlapped one does not cache what it read. */
+        private final AtomicLong evictions = new AtomicLong();
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+
+        private Region(Class<T> entityClass, JpaRepository<T, Long> repository) {
+            this(entityClass, repository, entity -> { });
+        }
+
+        private Region(Class<T> entityClass, JpaRepository<T, Long> repository, Consumer<T> initializer) {
+            this.entityClass = entityClass;
+            this.repository = repository;
+            this.initializer = initializer;
+        }
+
+        private Optional<T> get(Long id) {
+            if (id == null) {
+                return Optional.empty();
+            }
+            T cached = entries.get(id);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return Optional.of(cached);
+            }
+            misses.incrementAndGet();
+
+            long generation = evictions.get();
+            Optional<T> loaded = TransactionSynchronizationManager.isActualTransactionActive()
+                    ? loadOnCurrentConnection(id)
+                    : loadInOwnTransaction(id);
+            loaded.ifPresent(entity -> cache(id, entity, generation));
+            return loaded;
+        }
+
+        /**
+         * Caches an entity read while the eviction count was {@code generation}.
+         * The second check covers an eviction that lands between the first and
+         * the put: it either removes the entry itself or is seen here.
+         */
+        private void cache(Long id, T entity, long generation) {
+            if (evictions.get() != generation) {
+                return;
+            }
+            entries.put(id, entity);
+            if (evictions.get() != generation) {
+                entries.remove(id, entity);
+            }
+        }
+
+        private void evict(Long id) {
+            evictions.incrementAndGet();
+            entries.remove(id);
+        }
+
+        private void evictAll() {
+            evictions.incrementAndGet();
+            entries.clear();
+        }
+
+        private Optional<T> loadOnCurrentConnection(Long id) {
+            Session session = entityManager.unwrap(Session.class);
+            try (Session child = session.sessionWithOptions().connection().openSession()) {
+                child.setDefaultReadOnly(true);
+                T entity = child.get(entityClass, id);
+                if (entity != null) {
+                    initializer.accept(entity);
+                }
+                return Optional.ofNullable(entity);
+            }
+        }
+
+        private Optional<T> loadInOwnTransaction(Long id) {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            return readOnly.execute(status -> repository.findById(id));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.dto.AutomatedByDTO;
+import org.example.dto.AutomationStatusDTO;
+import org.example.dto.ModuleDTO;
+import org.example.dto.ReferenceDataChangesDTO;
+import org.example.dto.SubModuleDTO;
+import org.example.dto.TagDTO;
+import org.example.dto.TestCasePriorityDTO;
+import org.example.dto.TombstoneDTO;
+import org.example.event.ChangeType;
+import org.example.event.EntityType;
+import org.example.exception.InvalidRequestException;
+import org.example.model.ChangeLogEntry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Delta sync over all reference data types at once, so a client keeps a
+ * single cursor for its lookup tables.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataSyncService {
+
+    private static final Set<EntityType> REFERENCE_TYPES = EnumSet.complementOf(EnumSet.of(EntityType.TEST_CASE));
+
+    private final ChangeLog changeLog;
+    private final ModuleService moduleService;
+    private final SubModuleService subModuleService;
+    private final TestCasePriorityService priorityService;
+    private final AutomationStatusService statusService;
+    private final AutomatedByService automatedByService;
+    private final TagService tagService;
+
+    @Transactional(readOnly = true)
+    public ReferenceDataChangesDTO getChanges(String since, int limit) {
+        if (limit < 1 || limit > TestCaseService.MAX_CHANGES_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + TestCaseService.MAX_CHANGES_LIMIT);
+        }
+        ChangeLog.Changes changes = changeLog.changesSince(REFERENCE_TYPES, since, limit);
+        Map<EntityType, List<Long>> changedIds = new EnumMap<>(EntityType.class);
+        for (ChangeLogEntry entry : changes.entries()) {
+            if (entry.getChangeType() != ChangeType.DELETED) {
+                changedIds.computeIfAbsent(entry.getEntityType(), type -> new ArrayList<>()).add(entry.getEntityId());
+            }
+        }
+
+        ReferenceDataChangesDTO result = new ReferenceDataChangesDTO();
+        Set<String> found = new HashSet<>();
+        result.setModules(load(changedIds, EntityType.MODULE, moduleService::getModulesByIds,
+                ModuleDTO::getId, found));
+        result.setSubModules(load(changedIds, EntityType.SUB_MODULE, subModuleService::getSubModulesByIds,
+                SubModuleDTO::getId, found));
+        result.setPriorities(load(changedIds, EntityType.PRIORITY, priorityService::getPrioritiesByIds,
+                TestCasePriorityDTO::getId, found));
+        result.setAutomationStatuses(load(changedIds, EntityType.AUTOMATION_STATUS, statusService::getStatusesByIds,
+                AutomationStatusDTO::getId, found));
+        result.setAutomatedBy(load(changedIds, EntityType.AUTOMATED_BY, automatedByService::getAutomatedByByIds,
+                AutomatedByDTO::getId, found));
+        result.setTags(load(changedIds, EntityType.TAG, tagService::getTagsByIds,
+                TagDTO::getId, found));
+        for (ChangeLogEntry entry : changes.entries()) {
+            // Deleted, possibly after the log was read
+            if (!found.contains(key(entry.getEntityType(), entry.getEntityId()))) {
+                result.getDeleted().add(new TombstoneDTO(entry.getEntityType(), entry.getEntityId()));
+            }
+        }
+        result.setCursor(changes.cursor());
+        result.setHasMore(changes.hasMore());
+        return result;
+    }
+
+    private static <T> List<T> load(Map<EntityType, List<Long>> changedIds, EntityType type,
+                                    Function<List<Long>, List<T>> loader, Function<T, Long> idOf, Set<String> found) {
+        List<Long> ids = changedIds.get(type);
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        List<T> dtos = loader.apply(ids);
+        dtos.forEach(dto -> found.add(key(type, idOf.apply(dto))));
+        return dtos;
+    }
+
+    private static String key(EntityType type, Long id) {
+        return type + ":" + id;
+    }
+}
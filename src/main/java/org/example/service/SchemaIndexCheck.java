@@ -0,0 +1,121 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Checks at startup that the indexes behind the test case query paths exist
+ * and logs a warning for each one that is missing.
+ * <p>
+ * An index satisfies a requirement when its leading columns are the required
+ * columns in order; further trailing columns are fine. Indexes are read from
+ * JDBC metadata, so the check works the same against a Flyway-managed schema
+ * and one generated by Hibernate.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchemaIndexCheck {
+
+    private static final List<IndexRequirement> REQUIRED = List.of(
+            new IndexRequirement("test_cases", List.of("testcase_id"),
+                    "findByTestcaseId(In), existsByTestcaseId, testcaseId prefix filter and sort"),
+            new IndexRequirement("test_cases", List.of("module_id", "id"), "findByModuleId, module filter"),
+            new IndexRequirement("test_cases", List.of("sub_module_id", "id"), "findBySubModuleId, sub-module filter"),
+            new IndexRequirement("test_cases", List.of("priority_id", "id"), "findByPriorityId, priority filter"),
+            new IndexRequirement("test_cases", List.of("automation_status_id", "id"),
+                    "findByAutomationStatusId, status filter"),
+            new IndexRequirement("test_cases", List.of("automated_by_id", "id"), "automated-by filter"),
+            new IndexRequirement("test_case_tags", List.of("tag_id", "test_case_id"),
+                    "findByTagId, tag filter, assignTag/unassignTag"),
+            new IndexRequirement("test_case_tags", List.of("test_case_id", "tag_id"),
+                    "tags of a page of test cases, unassignAllTags"),
+            new IndexRequirement("sub_modules", List.of("module_id", "id"), "SubModuleRepository.findByModuleId"),
+            new IndexRequirement("change_log", List.of("entity_type", "seq"), "changes since a cursor"),
+            new IndexRequirement("test_case_versions", List.of("test_case_id", "version"),
+                    "version history, point-in-time reads"));
+
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkIndexes() {
+        List<IndexRequirement> missing;
+        try (Connection connection = dataSource.getConnection()) {
+            missing = findMissing(connection.getMetaData());
+        } catch (SQLException e) {
+            log.warn("Could not read index metadata: {}", e.getMessage());
+            return;
+        }
+        if (missing.isEmpty()) {
+            log.info("All {} required indexes are present", REQUIRED.size());
+            return;
+        }
+        for (IndexRequirement requirement : missing) {
+            log.warn("Missing index on {} ({}) used by {}; these queries will scan the table",
+                    requirement.table(), String.join(", ", requirement.columns()), requirement.usedBy());
+        }
+    }
+
+    private List<IndexRequirement> findMissing(DatabaseMetaData metaData) throws SQLException {
+        Map<String, List<List<String>>> indexesByTable = new HashMap<>();
+        List<IndexRequirement> missing = new ArrayList<>();
+        for (IndexRequirement requirement : REQUIRED) {
+            List<List<String>> indexes = indexesByTable.get(requirement.table());
+            if (indexes == null) {
+                indexes = indexColumns(metaData, requirement.table());
+                indexesByTable.put(requirement.table(), indexes);
+            }
+            if (indexes.stream().noneMatch(requirement::isSatisfiedBy)) {
+                missing.add(requirement);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Returns the columns of every index on {@code table}, each in index order
+     * and lower case.
+     */
+    private static List<List<String>> indexColumns(DatabaseMetaData metaData, String table) throws SQLException {
+        String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Map<String, TreeMap<Short, String>> indexes = new HashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(null, null, name, false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (indexName == null || column == null) {
+                    continue;
+                }
+                indexes.computeIfAbsent(indexName, k -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), column.toLowerCase(Locale.ROOT));
+            }
+        }
+        List<List<String>> columns = new ArrayList<>();
+        indexes.values().forEach(index -> columns.add(new ArrayList<>(index.values())));
+        return columns;
+    }
+
+    /** Leading index columns a query path needs. */
+    private record IndexRequirement(String table, List<String> columns, String usedBy) {
+
+        boolean isSatisfiedBy(List<String> indexColumns) {
+            return indexColumns.size() >= columns.size()
+                    && indexColumns.subList(0, columns.size()).equals(columns);
+        }
+    }
+}
@@ -2,14 +2,19 @@ package org.example.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.dto.SubModuleDTO;
+import org.example.event.ChangeType;
+import org.example.event.ReferenceDataChangedEvent;
+import org.example.event.ReferenceType;
 import org.example.exception.ResourceNotFoundException;
 import org.example.model.Module;
 import org.example.model.SubModule;
 import org.example.repository.ModuleRepository;
 import org.example.repository.SubModuleRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,6 +25,7 @@ public class SubModuleService {
 
     private final SubModuleRepository subModuleRepository;
     private final ModuleRepository moduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<SubModuleDTO> getAllSubModules() {
         return subModuleRepository.findAll().stream()
@@ -27,6 +33,12 @@ public class SubModuleService {
                 .collect(Collectors.toList());
     }
 
+    public List<SubModuleDTO> getSubModulesByIds(Collection<Long> ids) {
+        return subModuleRepository.findByIdIn(ids).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
     public List<SubModuleDTO> getSubModulesByModuleId(Long moduleId) {
         return subModuleRepository.findByModuleId(moduleId).stream()
                 .map(this::convertToDTO)
@@ -45,6 +57,7 @@ public class SubModuleService {
 
         SubModule subModule = convertToEntity(subModuleDTO, module);
         SubModule savedSubModule = subModuleRepository.save(subModule);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.SUB_MODULE, ChangeType.CREATED, savedSubModule.getId()));
         return convertToDTO(savedSubModule);
     }
 
@@ -59,6 +72,7 @@ public class SubModuleService {
         subModule.setDescription(subModuleDTO.getDescription());
         subModule.setModule(module);
         SubModule updatedSubModule = subModuleRepository.save(subModule);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.SUB_MODULE, ChangeType.UPDATED, id));
         return convertToDTO(updatedSubModule);
     }
 
@@ -67,6 +81,7 @@ public class SubModuleService {
             throw new ResourceNotFoundException("SubModule not found with id: " + id);
         }
         subModuleRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.SUB_MODULE, ChangeType.DELETED, id));
     }
 
     private SubModuleDTO convertToDTO(SubModule subModule) {
@@ -0,0 +1,127 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.dto.TagAssignmentRequestDTO;
+import org.example.dto.TagAssignmentResultDTO;
+import org.example.event.BulkOperation;
+import org.example.event.ChangeType;
+import org.example.event.EntityType;
+import org.example.event.TestCasesBulkChangedEvent;
+import org.example.exception.InvalidRequestException;
+import org.example.exception.ResourceNotFoundException;
+import org.example.repository.TagRepository;
+import org.example.repository.TestCaseQuery;
+import org.example.repository.TestCaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Adds or removes one tag on many test cases by writing the
+ * {@code test_case_tags} join table directly.
+ * <p>
+ * Test case ids are processed in chunks, each chunk in its own transaction
+ * with set-based statements; no {@code TestCase} entity is loaded. Rows the
+ * chunk changes get a new {@code updatedAt}, so version history can date
+ * their new tags. Filters are resolved to ids chunk by chunk with a keyset
+ * scan over the id index.
+ * <p>
+ * Not {@code @Transactional}: transaction boundaries are managed per chunk.
+ */
+@Service
+@RequiredArgsConstructor
+public class TagAssignmentService {
+
+    private final TestCaseRepository testCaseRepository;
+    private final TagRepository tagRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLog changeLog;
+
+    @Value("${scriptsync.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    public TagAssignmentResultDTO assign(Long tagId, TagAssignmentRequestDTO request) {
+        return apply(tagId, request, BulkOperation.TAG_ASSIGN, (id, ids) -> {
+            testCaseRepository.touchUntagged(id, ids, LocalDateTime.now());
+            return testCaseRepository.assignTag(id, ids);
+        });
+    }
+
+    public TagAssignmentResultDTO unassign(Long tagId, TagAssignmentRequestDTO request) {
+        return apply(tagId, request, BulkOperation.TAG_UNASSIGN, (id, ids) -> {
+            testCaseRepository.touchTagged(id, ids, LocalDateTime.now());
+            return testCaseRepository.unassignTag(id, ids);
+        });
+    }
+
+    private TagAssignmentResultDTO apply(Long tagId, TagAssignmentRequestDTO request, BulkOperation operation,
+                                         BiFunction<Long, Collection<Long>, Integer> statement) {
+        if (!tagRepository.existsById(tagId)) {
+            throw new ResourceNotFoundException("Tag not found with id: " + tagId);
+        }
+        if (request == null || (request.getTestCaseIds() == null) == (request.getFilter() == null)) {
+            throw new InvalidRequestException("Specify either testCaseIds or filter");
+        }
+        if (request.getFilter() != null && TestCaseFilters.isEmpty(request.getFilter())) {
+            throw new InvalidRequestException("Specify at least one filter criterion");
+        }
+
+        long start = System.currentTimeMillis();
+        TagAssignmentResultDTO result = new TagAssignmentResultDTO();
+        result.setTagId(tagId);
+
+        if (request.getTestCaseIds() != null) {
+            List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getTestCaseIds()));
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                // Ids of test cases that do not exist are not matched
+                TestCaseQuery existing = new TestCaseQuery();
+                existing.setIds(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+                List<Long> chunk = testCaseRepository.findIds(existing);
+                if (!chunk.isEmpty()) {
+                    result.setMatched(result.getMatched() + chunk.size());
+                    result.setChanged(result.getChanged() + applyChunk(tagId, chunk, statement));
+                }
+            }
+        } else {
+            TestCaseQuery query = TestCaseFilters.toQuery(request.getFilter());
+            query.setLimit(chunkSize);
+            List<Long> chunk = testCaseRepository.findIds(query);
+            while (!chunk.isEmpty()) {
+                result.setMatched(result.getMatched() + chunk.size());
+                result.setChanged(result.getChanged() + applyChunk(tagId, chunk, statement));
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+                query.setAfterId(chunk.get(chunk.size() - 1));
+                chunk = testCaseRepository.findIds(query);
+            }
+        }
+
+        result.setDurationMillis(System.currentTimeMillis() - start);
+        if (result.getChanged() > 0) {
+            eventPublisher.publishEvent(new TestCasesBulkChangedEvent(operation, result.getChanged()));
+        }
+        return result;
+    }
+
+    private int applyChunk(Long tagId, List<Long> chunk, BiFunction<Long, Collection<Long>, Integer> statement) {
+        Integer changed = transactionTemplate.execute(status -> {
+            int count = statement.apply(tagId, chunk);
+            if (count > 0) {
+                // The statement does not say which rows it changed, so log the whole chunk
+                changeLog.record(EntityType.TEST_CASE, chunk, ChangeType.UPDATED);
+            }
+            return count;
+        });
+        return changed != null ? changed : 0;
+    }
+}
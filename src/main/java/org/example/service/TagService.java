@@ -2,13 +2,18 @@ package org.example.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.dto.TagDTO;
+import org.example.event.ChangeType;
+import org.example.event.ReferenceDataChangedEvent;
+import org.example.event.ReferenceType;
 import org.example.exception.DuplicateResourceException;
 import org.example.exception.ResourceNotFoundException;
 import org.example.model.Tag;
 import org.example.repository.TagRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,6 +23,7 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<TagDTO> getAllTags() {
         return tagRepository.findAll().stream()
@@ -25,6 +31,12 @@ public class TagService {
                 .collect(Collectors.toList());
     }
 
+    public List<TagDTO> getTagsByIds(Collection<Long> ids) {
+        return tagRepository.findAllById(ids).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
     public TagDTO getTagById(Long id) {
         Tag tag = tagRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tag not found with id: " + id));
@@ -37,6 +49,7 @@ public class TagService {
         }
         Tag tag = convertToEntity(tagDTO);
         Tag savedTag = tagRepository.save(tag);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.TAG, ChangeType.CREATED, savedTag.getId()));
         return convertToDTO(savedTag);
     }
 
@@ -53,6 +66,7 @@ public class TagService {
         tag.setDescription(tagDTO.getDescription());
         tag.setColor(tagDTO.getColor());
         Tag updatedTag = tagRepository.save(tag);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.TAG, ChangeType.UPDATED, id));
         return convertToDTO(updatedTag);
     }
 
@@ -61,6 +75,7 @@ public class TagService {
             throw new ResourceNotFoundException("Tag not found with id: " + id);
         }
         tagRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.TAG, ChangeType.DELETED, id));
     }
 
     private TagDTO convertToDTO(Tag tag) {
@@ -0,0 +1,260 @@
+package org.example.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.TestCaseBatchItemResultDTO;
+import org.example.dto.TestCaseBatchResultDTO;
+import org.example.dto.TestCaseDTO;
+import org.example.event.BulkOperation;
+import org.example.event.ChangeType;
+import org.example.event.EntityType;
+import org.example.event.TestCasesBulkChangedEvent;
+import org.example.exception.InvalidRequestException;
+import org.example.exception.ResourceNotFoundException;
+import org.example.model.AutomatedBy;
+import org.example.model.AutomationStatus;
+import org.example.model.Module;
+import org.example.model.SubModule;
+import org.example.model.Tag;
+import org.example.model.TestCase;
+import org.example.model.TestCasePriority;
+import org.example.repository.TestCaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Upserts many test cases in one request, matching existing rows on testcaseId.
+ * <p>
+ * Items are validated and their references resolved through the
+ * {@link ReferenceDataCache} up front; invalid items are reported without
+ * touching the database. Valid items are written in chunks, each chunk in its
+ * own transaction: one query loads the existing rows (with their tags) and the
+ * inserts and updates go out as JDBC batches on flush. If a chunk fails it is
+ * retried item by item so one bad row only fails itself.
+ * <p>
+ * Not {@code @Transactional}: transaction boundaries are managed per chunk.
+ */
+@Service
+@RequiredArgsConstructor
+public class TestCaseBatchService {
+
+    public static final int MAX_BATCH_SIZE = 10000;
+
+    private final TestCaseRepository testCaseRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLog changeLog;
+
+    @Value("${scriptsync.batch.chunk-size:500}")
+    private int chunkSize;
+
+    public TestCaseBatchResultDTO upsertTestCases(List<TestCaseDTO> testCases) {
+        if (testCases == null || testCases.isEmpty() || testCases.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " test cases");
+        }
+
+        long start = System.currentTimeMillis();
+        TestCaseBatchResultDTO result = new TestCaseBatchResultDTO();
+        result.setTotal(testCases.size());
+        List<BatchItem> chunk = new ArrayList<>(chunkSize);
+        for (int i = 0; i < testCases.size(); i++) {
+            TestCaseDTO dto = testCases.get(i);
+            TestCaseBatchItemResultDTO item = new TestCaseBatchItemResultDTO();
+            item.setIndex(i);
+            item.setTestcaseId(dto != null ? dto.getTestcaseId() : null);
+            result.getItems().add(item);
+            try {
+                chunk.add(resolve(dto, item));
+            } catch (RuntimeException e) {
+                fail(item, e.getMessage());
+            }
+            if (chunk.size() >= chunkSize) {
+                processChunk(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk);
+        }
+
+        for (TestCaseBatchItemResultDTO item : result.getItems()) {
+            switch (item.getStatus()) {
+                case CREATED -> result.setCreated(result.getCreated() + 1);
+                case UPDATED -> result.setUpdated(result.getUpdated() + 1);
+                case FAILED -> result.setFailed(result.getFailed() + 1);
+            }
+        }
+        result.setDurationMillis(System.currentTimeMillis() - start);
+        if (result.getCreated() + result.getUpdated() > 0) {
+            eventPublisher.publishEvent(new TestCasesBulkChangedEvent(BulkOperation.UPSERT, result.getCreated() + result.getUpdated()));
+        }
+        return result;
+    }
+
+    private BatchItem resolve(TestCaseDTO dto, TestCaseBatchItemResultDTO item) {
+        if (dto == null) {
+            throw new IllegalArgumentException("Test case is required");
+        }
+        Set<ConstraintViolation<TestCaseDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        Module module = referenceDataCache.findModule(dto.getModuleId())
+                .orElseThrow(() -> new ResourceNotFoundException("Module not found with id: " + dto.getModuleId()));
+        SubModule subModule = null;
+        if (dto.getSubModuleId() != null) {
+            subModule = referenceDataCache.findSubModule(dto.getSubModuleId())
+                    .orElseThrow(() -> new ResourceNotFoundException("SubModule not found with id: " + dto.getSubModuleId()));
+        }
+        TestCasePriority priority = referenceDataCache.findPriority(dto.getPriorityId())
+                .orElseThrow(() -> new ResourceNotFoundException("Priority not found with id: " + dto.getPriorityId()));
+        AutomationStatus status = referenceDataCache.findAutomationStatus(dto.getAutomationStatusId())
+                .orElseThrow(() -> new ResourceNotFoundException("AutomationStatus not found with id: " + dto.getAutomationStatusId()));
+        AutomatedBy automatedBy = null;
+        if (dto.getAutomatedById() != null) {
+            automatedBy = referenceDataCache.findAutomatedBy(dto.getAutomatedById())
+                    .orElseThrow(() -> new ResourceNotFoundException("AutomatedBy not found with id: " + dto.getAutomatedById()));
+        }
+        List<Tag> tags = new ArrayList<>();
+        if (dto.getTagIds() != null) {
+            for (Long tagId : new HashSet<>(dto.getTagIds())) {
+                tags.add(referenceDataCache.findTag(tagId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Tag not found with id: " + tagId)));
+            }
+        }
+        return new BatchItem(item, dto, module, subModule, priority, status, automatedBy, tags);
+    }
+
+    private void processChunk(List<BatchItem> items) {
+        try {
+            record(transactionTemplate.execute(status -> persist(items)));
+        } catch (RuntimeException chunkFailure) {
+            // Retry item by item so one bad row does not sink the whole chunk
+            entityManager.clear();
+            for (BatchItem item : items) {
+                try {
+                    record(transactionTemplate.execute(status -> persist(List.of(item))));
+                } catch (RuntimeException e) {
+                    fail(item.result(), rootMessage(e));
+                } finally {
+                    entityManager.clear();
+                }
+            }
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * Inserts or updates the given items. A later item with the same
+     * testcaseId overwrites an earlier one.
+     */
+    private List<Written> persist(List<BatchItem> items) {
+        Set<String> testcaseIds = items.stream().map(item -> item.dto().getTestcaseId()).collect(Collectors.toSet());
+        Map<String, TestCase> testCases = new HashMap<>();
+        testCaseRepository.findWithTagsByTestcaseIdIn(testcaseIds).forEach(tc -> testCases.put(tc.getTestcaseId(), tc));
+
+        List<Written> written = new ArrayList<>(items.size());
+        for (BatchItem item : items) {
+            TestCase testCase = testCases.get(item.dto().getTestcaseId());
+            boolean created = testCase == null;
+            if (created) {
+                testCase = new TestCase();
+                apply(item, testCase);
+                entityManager.persist(testCase);
+                testCases.put(testCase.getTestcaseId(), testCase);
+            } else {
+                // Managed entity: dirty checking turns changed fields into batched updates
+                apply(item, testCase);
+            }
+            written.add(new Written(item.result(), testCase, created));
+        }
+        entityManager.flush();
+        changeLog.record(EntityType.TEST_CASE, ids(written, true), ChangeType.CREATED);
+        changeLog.record(EntityType.TEST_CASE, ids(written, false), ChangeType.UPDATED);
+        return written;
+    }
+
+    private static List<Long> ids(List<Written> written, boolean created) {
+        return written.stream()
+                .filter(w -> w.created() == created)
+                .map(w -> w.testCase().getId())
+                .collect(Collectors.toList());
+    }
+
+    private void apply(BatchItem item, TestCase testCase) {
+        TestCaseDTO dto = item.dto();
+        testCase.setTestcaseId(dto.getTestcaseId());
+        testCase.setModule(item.module());
+        testCase.setSubModule(item.subModule());
+        testCase.setTestCaseDescription(dto.getTestCaseDescription());
+        testCase.setPreConditions(dto.getPreConditions());
+        testCase.setTestScript(dto.getTestScript());
+        testCase.setExpectedResult(dto.getExpectedResult());
+        testCase.setPriority(item.priority());
+        testCase.setAutomationStatus(item.automationStatus());
+        testCase.setAutomatedBy(item.automatedBy());
+        testCase.setAutomationComments(dto.getAutomationComments());
+        testCase.setClubbedTcId(dto.getClubbedTcId());
+
+        // Replacing the collection rewrites every join row, so only do it when the tags differ
+        Set<Long> tagIds = item.tags().stream().map(Tag::getId).collect(Collectors.toSet());
+        Set<Long> currentTagIds = testCase.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
+        if (!tagIds.equals(currentTagIds)) {
+            testCase.setTags(new HashSet<>(item.tags()));
+        }
+    }
+
+    private static void record(List<Written> written) {
+        for (Written w : written) {
+            w.result().setId(w.testCase().getId());
+            w.result().setStatus(w.created()
+                    ? TestCaseBatchItemResultDTO.Status.CREATED
+                    : TestCaseBatchItemResultDTO.Status.UPDATED);
+            w.result().setMessage(null);
+        }
+    }
+
+    private static void fail(TestCaseBatchItemResultDTO item, String message) {
+        item.setId(null);
+        item.setStatus(TestCaseBatchItemResultDTO.Status.FAILED);
+        item.setMessage(message);
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : e.toString();
+    }
+
+    /** A validated request item with its references resolved from the cache. */
+    private record BatchItem(TestCaseBatchItemResultDTO result, TestCaseDTO dto, Module module,
+                             SubModule subModule, TestCasePriority priority, AutomationStatus automationStatus,
+                             AutomatedBy automatedBy, List<Tag> tags) {
+    }
+
+    /** An item written by a chunk transaction, recorded only once that transaction commits. */
+    private record Written(TestCaseBatchItemResultDTO result, TestCase testCase, boolean created) {
+    }
+}
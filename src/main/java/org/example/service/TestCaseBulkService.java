@@ -0,0 +1,231 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.dto.TestCaseBulkChangesDTO;
+import org.example.dto.TestCaseBulkPatchRequestDTO;
+import org.example.dto.TestCaseBulkResultDTO;
+import org.example.dto.TestCaseFilterDTO;
+import org.example.dto.TestCaseSelectionDTO;
+import org.example.event.BulkOperation;
+import org.example.event.ChangeType;
+import org.example.event.EntityType;
+import org.example.event.TestCasesBulkChangedEvent;
+import org.example.exception.InvalidRequestException;
+import org.example.exception.ResourceNotFoundException;
+import org.example.model.SubModule;
+import org.example.repository.TestCaseChanges;
+import org.example.repository.TestCaseQuery;
+import org.example.repository.TestCaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Patches or deletes every test case matching a selection with set-based
+ * statements.
+ * <p>
+ * An explicit id list is split into chunks of at most
+ * {@code scriptsync.bulk.chunk-size} ids; a filter selection is read with a
+ * keyset scan over the id index instead. Each chunk is selected and changed
+ * in the same transaction: one UPDATE for the columns (always including
+ * {@code updatedAt}) plus one statement per added or removed tag, or a join
+ * table DELETE followed by the row DELETE. No {@code TestCase} entity is
+ * loaded.
+ * <p>
+ * Not {@code @Transactional}: transaction boundaries are managed per chunk.
+ */
+@Service
+@RequiredArgsConstructor
+public class TestCaseBulkService {
+
+    private final TestCaseRepository testCaseRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TestCaseHistoryService historyService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLog changeLog;
+
+    @Value("${scriptsync.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    public TestCaseBulkResultDTO patch(TestCaseBulkPatchRequestDTO request) {
+        if (request == null || request.getChanges() == null) {
+            throw new InvalidRequestException("Specify the changes to apply");
+        }
+        TestCaseQuery query = selection(request.getTestCaseIds(), request.getFilter());
+        TestCaseBulkChangesDTO changes = request.getChanges();
+        TestCaseChanges columns = resolveColumns(changes);
+        Set<Long> addTagIds = tagIds(changes.getAddTagIds());
+        Set<Long> removeTagIds = tagIds(changes.getRemoveTagIds());
+        if (addTagIds.stream().anyMatch(removeTagIds::contains)) {
+            throw new InvalidRequestException("A tag cannot be both added and removed");
+        }
+        if (columns == null && addTagIds.isEmpty() && removeTagIds.isEmpty()) {
+            throw new InvalidRequestException("Specify the changes to apply");
+        }
+        TestCaseChanges update = columns != null ? columns : new TestCaseChanges();
+
+        return run(query, BulkOperation.PATCH, ids -> {
+            for (Long tagId : addTagIds) {
+                testCaseRepository.assignTag(tagId, ids);
+            }
+            for (Long tagId : removeTagIds) {
+                testCaseRepository.unassignTag(tagId, ids);
+            }
+            int updated = testCaseRepository.updateColumns(ids, update);
+            changeLog.record(EntityType.TEST_CASE, ids, ChangeType.UPDATED);
+            return updated;
+        });
+    }
+
+    public TestCaseBulkResultDTO delete(TestCaseSelectionDTO request) {
+        if (request == null) {
+            throw new InvalidRequestException("Specify testCaseIds or filter");
+        }
+        TestCaseQuery query = selection(request.getTestCaseIds(), request.getFilter());
+        return run(query, BulkOperation.DELETE, ids -> {
+            testCaseRepository.unassignAllTags(ids);
+            historyService.deleteHistory(ids);
+            int deleted = testCaseRepository.deleteByIds(ids);
+            changeLog.record(EntityType.TEST_CASE, ids, ChangeType.DELETED);
+            return deleted;
+        });
+    }
+
+    private TestCaseBulkResultDTO run(TestCaseQuery query, BulkOperation operation,
+                                      ToIntFunction<Collection<Long>> statement) {
+        long start = System.currentTimeMillis();
+        TestCaseBulkResultDTO result = new TestCaseBulkResultDTO();
+        if (query.getIds() != null) {
+            // Each chunk sends only its own ids; any filter criteria still narrow it
+            List<Long> ids = new ArrayList<>(query.getIds());
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                query.setIds(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+                applyChunk(query, statement, result);
+            }
+        } else {
+            query.setLimit(chunkSize);
+            while (true) {
+                List<Long> chunk = applyChunk(query, statement, result);
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+                // Rows already changed may no longer match, so seek past the chunk rather than offset
+                query.setAfterId(chunk.get(chunk.size() - 1));
+            }
+        }
+
+        result.setDurationMillis(System.currentTimeMillis() - start);
+        if (result.getAffected() > 0) {
+            eventPublisher.publishEvent(new TestCasesBulkChangedEvent(operation, result.getAffected()));
+        }
+        return result;
+    }
+
+    /** Selects one chunk of matching ids and changes them in the same transaction. */
+    private List<Long> applyChunk(TestCaseQuery query, ToIntFunction<Collection<Long>> statement,
+                                  TestCaseBulkResultDTO result) {
+        List<Long> chunk = transactionTemplate.execute(status -> {
+            List<Long> ids = testCaseRepository.findIds(query);
+            if (!ids.isEmpty()) {
+                result.setAffected(result.getAffected() + statement.applyAsInt(ids));
+            }
+            return ids;
+        });
+        result.setMatched(result.getMatched() + chunk.size());
+        return chunk;
+    }
+
+    private TestCaseQuery selection(List<Long> testCaseIds, TestCaseFilterDTO filter) {
+        boolean hasIds = testCaseIds != null && !testCaseIds.isEmpty();
+        if (!hasIds && TestCaseFilters.isEmpty(filter)) {
+            throw new InvalidRequestException("Specify testCaseIds or at least one filter criterion");
+        }
+        TestCaseQuery query = TestCaseFilters.toQuery(filter);
+        if (hasIds) {
+            query.setIds(new ArrayList<>(new LinkedHashSet<>(testCaseIds)));
+        }
+        return query;
+    }
+
+    /**
+     * Validates the column changes and applies the module/sub-module rules.
+     *
+     * @return the changes, or {@code null} when no column changes
+     */
+    private TestCaseChanges resolveColumns(TestCaseBulkChangesDTO changes) {
+        TestCaseChanges columns = new TestCaseChanges();
+        boolean changed = false;
+
+        if (changes.getSubModuleId() != null) {
+            if (changes.isClearSubModule()) {
+                throw new InvalidRequestException("subModuleId and clearSubModule cannot both be set");
+            }
+            SubModule subModule = referenceDataCache.findSubModule(changes.getSubModuleId())
+                    .orElseThrow(() -> new ResourceNotFoundException("SubModule not found with id: " + changes.getSubModuleId()));
+            Long parentId = subModule.getModule().getId();
+            if (changes.getModuleId() != null && !changes.getModuleId().equals(parentId)) {
+                throw new InvalidRequestException("SubModule " + changes.getSubModuleId()
+                        + " does not belong to module " + changes.getModuleId());
+            }
+            columns.setSubModuleId(subModule.getId());
+            columns.setModuleId(parentId);
+            changed = true;
+        } else if (changes.getModuleId() != null) {
+            referenceDataCache.findModule(changes.getModuleId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Module not found with id: " + changes.getModuleId()));
+            columns.setModuleId(changes.getModuleId());
+            columns.setClearSubModule(true);
+            changed = true;
+        } else if (changes.isClearSubModule()) {
+            columns.setClearSubModule(true);
+            changed = true;
+        }
+
+        if (changes.getPriorityId() != null) {
+            referenceDataCache.findPriority(changes.getPriorityId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Priority not found with id: " + changes.getPriorityId()));
+            columns.setPriorityId(changes.getPriorityId());
+            changed = true;
+        }
+        if (changes.getAutomationStatusId() != null) {
+            referenceDataCache.findAutomationStatus(changes.getAutomationStatusId())
+                    .orElseThrow(() -> new ResourceNotFoundException("AutomationStatus not found with id: " + changes.getAutomationStatusId()));
+            columns.setAutomationStatusId(changes.getAutomationStatusId());
+            changed = true;
+        }
+        if (changes.getAutomatedById() != null) {
+            if (changes.isClearAutomatedBy()) {
+                throw new InvalidRequestException("automatedById and clearAutomatedBy cannot both be set");
+            }
+            referenceDataCache.findAutomatedBy(changes.getAutomatedById())
+                    .orElseThrow(() -> new ResourceNotFoundException("AutomatedBy not found with id: " + changes.getAutomatedById()));
+            columns.setAutomatedById(changes.getAutomatedById());
+            changed = true;
+        } else if (changes.isClearAutomatedBy()) {
+            columns.setClearAutomatedBy(true);
+            changed = true;
+        }
+        return changed ? columns : null;
+    }
+
+    private Set<Long> tagIds(List<Long> ids) {
+        Set<Long> tagIds = new LinkedHashSet<>();
+        if (ids != null) {
+            for (Long tagId : ids) {
+                referenceDataCache.findTag(tagId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Tag not found with id: " + tagId));
+                tagIds.add(tagId);
+            }
+        }
+        return tagIds;
+    }
+}
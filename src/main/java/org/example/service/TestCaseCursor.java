@@ -0,0 +1,61 @@
+package org.example.service;
+
+import org.example.exception.InvalidRequestException;
+import org.example.repository.TestCaseSortField;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination. Encodes the sort the page
+ * was produced with plus the sort value and id of the last row returned.
+ */
+record TestCaseCursor(TestCaseSortField sortField, boolean ascending, String value, long id) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+    /** Prefixes a present value, so an empty name and a missing reference encode differently. */
+    private static final String PRESENT = "=";
+
+    String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sortField.name(), ascending ? "asc" : "desc",
+                Long.toString(id), value == null ? "" : PRESENT + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    Comparable<?> typedValue() {
+        if (value == null) {
+            return null;
+        }
+        if (sortField.getType() == Long.class) {
+            return Long.valueOf(value);
+        }
+        return value;
+    }
+
+    static TestCaseCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("unrecognised format");
+            }
+            TestCaseCursor cursor = new TestCaseCursor(TestCaseSortField.valueOf(parts[1]),
+                    "asc".equals(parts[2]), decodeValue(parts[4]), Long.parseLong(parts[3]));
+            cursor.typedValue();
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor: " + token);
+        }
+    }
+
+    private static String decodeValue(String encoded) {
+        if (encoded.isEmpty()) {
+            return null;
+        }
+        if (!encoded.startsWith(PRESENT)) {
+            throw new IllegalArgumentException("malformed value");
+        }
+        return encoded.substring(PRESENT.length());
+    }
+}
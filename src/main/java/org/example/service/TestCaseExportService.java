@@ -0,0 +1,139 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.dto.TestCaseFilterDTO;
+import org.example.exception.InvalidRequestException;
+import org.example.repository.TestCaseQuery;
+import org.example.repository.TestCaseRepository;
+import org.example.repository.TestCaseRow;
+import org.example.repository.TestCaseTagRow;
+import org.example.spreadsheet.CsvSheetWriter;
+import org.example.spreadsheet.SheetRowWriter;
+import org.example.spreadsheet.XlsxSheetWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.example.spreadsheet.TestCaseSheetLayout.*;
+
+/**
+ * Streams test cases to CSV or XLSX in the import template's column layout.
+ * <p>
+ * Test cases and their tags are read from two forward-only cursors, both
+ * ordered by test case id, and merged row by row, so memory use does not
+ * depend on the number of rows exported and output starts as soon as the
+ * first rows arrive.
+ * <p>
+ * Not {@code @Transactional}: the cursors live in a read-only transaction
+ * opened by {@link #export} on the thread writing the response.
+ */
+@Service
+@RequiredArgsConstructor
+public class TestCaseExportService {
+
+    private static final String SHEET_NAME = "Test Cases";
+    private static final String TAG_SEPARATOR = ", ";
+
+    private final TestCaseRepository testCaseRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format fromParam(String value) {
+            return Arrays.stream(values())
+                    .filter(format -> format.extension.equals(value.toLowerCase(Locale.ROOT)))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidRequestException(
+                            "Unsupported export format: " + value + ". Use csv or xlsx"));
+        }
+    }
+
+    public void export(Format format, TestCaseFilterDTO filter, OutputStream out) throws IOException {
+        TestCaseQuery query = TestCaseFilters.toQuery(filter);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        try {
+            readOnly.executeWithoutResult(status -> {
+                try (SheetRowWriter writer = openWriter(format, out);
+                     Stream<TestCaseRow> rows = testCaseRepository.streamRows(query);
+                     Stream<TestCaseTagRow> tagRows = testCaseRepository.streamTagRows(query)) {
+                    writer.writeRow(HEADERS);
+                    writeRows(writer, rows.iterator(), tagRows.iterator());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static SheetRowWriter openWriter(Format format, OutputStream out) throws IOException {
+        return format == Format.XLSX ? new XlsxSheetWriter(out, SHEET_NAME) : new CsvSheetWriter(out);
+    }
+
+    private static void writeRows(SheetRowWriter writer, Iterator<TestCaseRow> rows,
+                                  Iterator<TestCaseTagRow> tagRows) throws IOException {
+        TestCaseTagRow pendingTag = tagRows.hasNext() ? tagRows.next() : null;
+        List<String> tagNames = new ArrayList<>();
+        while (rows.hasNext()) {
+            TestCaseRow row = rows.next();
+            // Both cursors are ordered by test case id: collect this row's tags
+            tagNames.clear();
+            while (pendingTag != null && pendingTag.testCaseId() <= row.id()) {
+                if (pendingTag.testCaseId().equals(row.id())) {
+                    tagNames.add(pendingTag.tagName());
+                }
+                pendingTag = tagRows.hasNext() ? tagRows.next() : null;
+            }
+            writer.writeRow(toCells(row, tagNames));
+        }
+    }
+
+    private static List<String> toCells(TestCaseRow row, List<String> tagNames) {
+        String[] cells = new String[HEADERS.size()];
+        cells[TESTCASE_ID] = row.testcaseId();
+        cells[MODULE] = row.moduleName();
+        cells[SUB_MODULE] = row.subModuleName();
+        cells[DESCRIPTION] = row.testCaseDescription();
+        cells[PRE_CONDITIONS] = row.preConditions();
+        cells[TEST_SCRIPT] = row.testScript();
+        cells[EXPECTED_RESULT] = row.expectedResult();
+        cells[PRIORITY] = row.priorityName();
+        cells[AUTOMATION_STATUS] = row.automationStatusName();
+        cells[AUTOMATED_BY] = row.automatedByName();
+        cells[AUTOMATION_COMMENTS] = row.automationComments();
+        cells[CLUBBED_TC_ID] = row.clubbedTcId();
+        cells[TAGS] = String.join(TAG_SEPARATOR, tagNames);
+        return Arrays.asList(cells);
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.service;
+
+import org.example.dto.TestCaseFilterDTO;
+import org.example.repository.TestCaseQuery;
+
+/**
+ * Maps request filters onto repository queries.
+ */
+final class TestCaseFilters {
+
+    private TestCaseFilters() {
+    }
+
+    static TestCaseQuery toQuery(TestCaseFilterDTO filter) {
+        TestCaseQuery query = new TestCaseQuery();
+        if (filter != null) {
+            query.setModuleId(filter.getModuleId());
+            query.setSubModuleId(filter.getSubModuleId());
+            query.setPriorityId(filter.getPriorityId());
+            query.setAutomationStatusId(filter.getAutomationStatusId());
+            query.setAutomatedById(filter.getAutomatedById());
+            query.setTagId(filter.getTagId());
+            if (filter.getTestcaseIdPrefix() != null && !filter.getTestcaseIdPrefix().isBlank()) {
+                query.setTestcaseIdPrefix(filter.getTestcaseIdPrefix().trim());
+            }
+        }
+        return query;
+    }
+
+    /** Whether {@code filter} leaves every test case selected. */
+    static boolean isEmpty(TestCaseFilterDTO filter) {
+        return filter == null
+                || (filter.getModuleId() == null && filter.getSubModuleId() == null
+                    && filter.getPriorityId() == null && filter.getAutomationStatusId() == null
+                    && filter.getAutomatedById() == null && filter.getTagId() == null
+                    && (filter.getTestcaseIdPrefix() == null || filter.getTestcaseIdPrefix().isBlank()));
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.dto.TestCaseHistoryDTO;
+import org.example.dto.TestCaseVersionDTO;
+import org.example.dto.TestCaseVersionSummaryDTO;
+import org.example.exception.InvalidRequestException;
+import org.example.exception.ResourceNotFoundException;
+import org.example.history.HistoryField;
+import org.example.history.TestCaseSnapshot;
+import org.example.history.VersionCodec;
+import org.example.model.TestCaseVersion;
+import org.example.repository.TestCaseRepository;
+import org.example.repository.TestCaseVersionRepository;
+import org.example.repository.TestCaseVersionSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Version history of test cases, written by {@link TestCaseService#updateTestCase}.
+ * <p>
+ * Each update stores the new state as a delta against the previous version,
+ * and every {@code scriptsync.history.keyframe-interval} versions as a full
+ * keyframe, so rebuilding any version reads at most that many rows. The
+ * first update of a test case first stores its prior state as a baseline
+ * keyframe. Changes made by imports, batch upserts and bulk patches are not
+ * versioned one by one; the next single update notices the row no longer
+ * matches the latest version and stores a new baseline keyframe first.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TestCaseHistoryService {
+
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+    public static final int MAX_HISTORY_LIMIT = 1000;
+
+    private final TestCaseVersionRepository versionRepository;
+    private final TestCaseRepository testCaseRepository;
+
+    @Value("${scriptsync.history.keyframe-interval:16}")
+    private int keyframeInterval;
+
+    /**
+     * Records an update from {@code before}, last changed at {@code beforeChangedAt},
+     * to {@code after}. The first baseline keyframe of a test case is stamped
+     * with {@code beforeChangedAt}, so as-of reads between that change and
+     * this update find it. The caller holds the test case row lock, so
+     * version numbers cannot race.
+     */
+    public void recordUpdate(Long testCaseId, TestCaseSnapshot before, LocalDateTime beforeChangedAt,
+                             TestCaseSnapshot after) {
+        List<HistoryField> changed = after.changedFrom(before);
+        if (changed.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Optional<TestCaseVersion> stored = versionRepository.findTopByTestCaseIdOrderByVersionDesc(testCaseId);
+        TestCaseVersion latest = stored.filter(version -> version.getStateHash() == before.stateHash()).orElse(null);
+        if (latest == null) {
+            // Never versioned: the row's own timestamp dates its state. Changed since by a path that
+            // does not record history: not every such path stamps the row, so date it when noticed.
+            int next = stored.map(version -> version.getVersion() + 1).orElse(1);
+            LocalDateTime baselineAt = stored.isEmpty() && beforeChangedAt != null ? beforeChangedAt : now;
+            latest = save(testCaseId, next, next, TestCaseVersion.Kind.BASELINE, List.of(), before,
+                    VersionCodec.keyframe(before), baselineAt);
+        }
+
+        int version = latest.getVersion() + 1;
+        if (version - latest.getKeyframeVersion() >= keyframeInterval) {
+            save(testCaseId, version, version, TestCaseVersion.Kind.UPDATE, changed, after,
+                    VersionCodec.keyframe(after), now);
+        } else {
+            save(testCaseId, version, latest.getKeyframeVersion(), TestCaseVersion.Kind.UPDATE, changed, after,
+                    VersionCodec.delta(before, after), now);
+        }
+    }
+
+    public void deleteHistory(Collection<Long> testCaseIds) {
+        versionRepository.deleteByTestCaseIds(testCaseIds);
+    }
+
+    @Transactional(readOnly = true)
+    public TestCaseHistoryDTO getHistory(Long testCaseId, int limit) {
+        if (limit < 1 || limit > MAX_HISTORY_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_HISTORY_LIMIT);
+        }
+        requireTestCase(testCaseId);
+        List<TestCaseVersionSummaryDTO> versions = versionRepository
+                .findSummaries(testCaseId, PageRequest.of(0, limit)).stream()
+                .map(TestCaseHistoryService::toSummaryDTO)
+                .collect(Collectors.toList());
+        return new TestCaseHistoryDTO(testCaseId, versionRepository.countByTestCaseId(testCaseId), versions);
+    }
+
+    @Transactional(readOnly = true)
+    public TestCaseVersionDTO getVersion(Long testCaseId, int version) {
+        requireTestCase(testCaseId);
+        TestCaseVersion stored = versionRepository.findByTestCaseIdAndVersion(testCaseId, version)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Version " + version + " not found for TestCase with id: " + testCaseId));
+        return toVersionDTO(stored, rebuild(stored));
+    }
+
+    /** The latest version recorded at or before {@code time}. */
+    @Transactional(readOnly = true)
+    public TestCaseVersionDTO getVersionAsOf(Long testCaseId, LocalDateTime time) {
+        requireTestCase(testCaseId);
+        TestCaseVersion stored = versionRepository
+                .findTopByTestCaseIdAndChangedAtLessThanEqualOrderByVersionDesc(testCaseId, time)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "No version of TestCase with id " + testCaseId + " recorded at or before " + time));
+        return toVersionDTO(stored, rebuild(stored));
+    }
+
+    /** Decodes the keyframe of {@code target}'s chain and applies the deltas up to it. */
+    private TestCaseSnapshot rebuild(TestCaseVersion target) {
+        List<TestCaseVersion> chain = versionRepository.findByTestCaseIdAndVersionBetweenOrderByVersion(
+                target.getTestCaseId(), target.getKeyframeVersion(), target.getVersion());
+        if (chain.isEmpty() || !chain.get(0).isKeyframe()
+                || chain.size() != target.getVersion() - target.getKeyframeVersion() + 1) {
+            throw new IllegalStateException("Version chain of TestCase " + target.getTestCaseId()
+                    + " is incomplete at version " + target.getVersion());
+        }
+        TestCaseSnapshot snapshot = VersionCodec.decodeKeyframe(chain.get(0).getPayload());
+        for (TestCaseVersion delta : chain.subList(1, chain.size())) {
+            snapshot = VersionCodec.applyDelta(snapshot, delta.getPayload());
+        }
+        return snapshot;
+    }
+
+    private TestCaseVersion save(Long testCaseId, int version, int keyframeVersion, TestCaseVersion.Kind kind,
+                                 List<HistoryField> changed, TestCaseSnapshot state, byte[] payload,
+                                 LocalDateTime changedAt) {
+        String changedFields = changed.stream().map(HistoryField::property).collect(Collectors.joining(","));
+        return versionRepository.save(new TestCaseVersion(null, testCaseId, version, keyframeVersion, kind,
+                changedFields, state.stateHash(), payload, payload.length, changedAt));
+    }
+
+    private void requireTestCase(Long testCaseId) {
+        if (!testCaseRepository.existsById(testCaseId)) {
+            throw new ResourceNotFoundException("TestCase not found with id: " + testCaseId);
+        }
+    }
+
+    private static TestCaseVersionSummaryDTO toSummaryDTO(TestCaseVersionSummary summary) {
+        List<String> changedFields = summary.changedFields().isEmpty()
+                ? new ArrayList<>()
+                : new ArrayList<>(Arrays.asList(summary.changedFields().split(",")));
+        return new TestCaseVersionSummaryDTO(summary.version(), summary.kind().name(),
+                summary.version() == summary.keyframeVersion(), changedFields, summary.payloadSize(),
+                summary.changedAt());
+    }
+
+    private static TestCaseVersionDTO toVersionDTO(TestCaseVersion stored, TestCaseSnapshot snapshot) {
+        TestCaseVersionDTO dto = new TestCaseVersionDTO();
+        dto.setId(stored.getTestCaseId());
+        dto.setVersion(stored.getVersion());
+        dto.setKind(stored.getKind().name());
+        dto.setChangedAt(stored.getChangedAt());
+        dto.setTestcaseId(snapshot.get(HistoryField.TESTCASE_ID));
+        dto.setModuleId(snapshot.getId(HistoryField.MODULE_ID));
+        dto.setSubModuleId(snapshot.getId(HistoryField.SUB_MODULE_ID));
+        dto.setTestCaseDescription(snapshot.get(HistoryField.TEST_CASE_DESCRIPTION));
+        dto.setPreConditions(snapshot.get(HistoryField.PRE_CONDITIONS));
+        dto.setTestScript(snapshot.get(HistoryField.TEST_SCRIPT));
+        dto.setExpectedResult(snapshot.get(HistoryField.EXPECTED_RESULT));
+        dto.setPriorityId(snapshot.getId(HistoryField.PRIORITY_ID));
+        dto.setAutomationStatusId(snapshot.getId(HistoryField.AUTOMATION_STATUS_ID));
+        dto.setAutomatedById(snapshot.getId(HistoryField.AUTOMATED_BY_ID));
+        dto.setAutomationComments(snapshot.get(HistoryField.AUTOMATION_COMMENTS));
+        dto.setClubbedTcId(snapshot.get(HistoryField.CLUBBED_TC_ID));
+        dto.setTagIds(snapshot.getIds(HistoryField.TAG_IDS));
+        return dto;
+    }
+}
@@ -0,0 +1,423 @@
+package org.example.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.ImportResultDTO;
+import org.example.dto.ImportRowErrorDTO;
+import org.example.event.BulkOperation;
+import org.example.event.ChangeType;
+import org.example.event.EntityType;
+import org.example.event.ReferenceDataChangedEvent;
+import org.example.event.ReferenceType;
+import org.example.event.TestCasesBulkChangedEvent;
+import org.example.exception.InvalidRequestException;
+import org.example.model.AutomatedBy;
+import org.example.model.AutomationStatus;
+import org.example.model.Module;
+import org.example.model.SubModule;
+import org.example.model.Tag;
+import org.example.model.TestCase;
+import org.example.model.TestCasePriority;
+import org.example.repository.AutomatedByRepository;
+import org.example.repository.AutomationStatusRepository;
+import org.example.repository.ModuleRepository;
+import org.example.repository.SubModuleRepository;
+import org.example.repository.TagRepository;
+import org.example.repository.TestCasePriorityRepository;
+import org.example.repository.TestCaseRepository;
+import org.example.spreadsheet.CsvSheetReader;
+import org.example.spreadsheet.SheetRow;
+import org.example.spreadsheet.SheetRowReader;
+import org.example.spreadsheet.XlsxSheetReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.example.spreadsheet.TestCaseSheetLayout.*;
+
+/**
+ * Server-side bulk import of test cases from CSV or XLSX uploads.
+ * <p>
+ * Rows are streamed from the file and written in chunks, each chunk in its own
+ * transaction. Reference data (modules, sub-modules, priorities, statuses,
+ * users and tags) is loaded once up front and missing entries are created the
+ * first time their name is seen, so the number of queries grows with the
+ * number of chunks and new names rather than with the number of rows.
+ * <p>
+ * Not {@code @Transactional}: transaction boundaries are managed per chunk.
+ */
+@Service
+@RequiredArgsConstructor
+public class TestCaseImportService {
+
+    private static final String AUTO_CREATED = "Auto-created during import";
+    private static final String DEFAULT_STATUS = "Yet to Start";
+    private static final String DEFAULT_EXPECTED_RESULT = "To be defined";
+    private static final String DEFAULT_TAG_COLOR = "#6366f1";
+
+    private final TestCaseRepository testCaseRepository;
+    private final ModuleRepository moduleRepository;
+    private final SubModuleRepository subModuleRepository;
+    private final TestCasePriorityRepository priorityRepository;
+    private final AutomationStatusRepository statusRepository;
+    private final AutomatedByRepository automatedByRepository;
+    private final TagRepository tagRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLog changeLog;
+
+    @Value("${scriptsync.import.chunk-size:500}")
+    private int chunkSize;
+
+    public ImportResultDTO importTestCases(MultipartFile file, boolean skipHeader) {
+        if (file == null || file.isEmpty()) {
+            throw new InvalidRequestException("Import file is empty");
+        }
+        SheetRowReader reader = readerFor(file.getOriginalFilename());
+
+        long start = System.currentTimeMillis();
+        ImportResultDTO result = new ImportResultDTO();
+        ReferenceResolver references = new ReferenceResolver();
+        List<SheetRow> chunk = new ArrayList<>(chunkSize);
+        boolean[] headerPending = {skipHeader};
+
+        try (InputStream in = file.getInputStream()) {
+            reader.read(in, row -> {
+                if (headerPending[0]) {
+                    headerPending[0] = false;
+                    return;
+                }
+                result.setTotalRows(result.getTotalRows() + 1);
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    processChunk(chunk, references, result);
+                    chunk.clear();
+                }
+            });
+        } catch (IOException e) {
+            throw new InvalidRequestException("Failed to read import file: " + e.getMessage());
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, references, result);
+        }
+
+        result.setFailed(result.getErrors().size());
+        result.setDurationMillis(System.currentTimeMillis() - start);
+        if (result.getCreated() + result.getUpdated() > 0) {
+            eventPublisher.publishEvent(new TestCasesBulkChangedEvent(BulkOperation.IMPORT, result.getCreated() + result.getUpdated()));
+        }
+        return result;
+    }
+
+    private SheetRowReader readerFor(String fileName) {
+        String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return new CsvSheetReader();
+        }
+        if (name.endsWith(".xlsx")) {
+            return new XlsxSheetReader();
+        }
+        throw new InvalidRequestException("Unsupported file format. Please upload a .csv or .xlsx file.");
+    }
+
+    private void processChunk(List<SheetRow> rows, ReferenceResolver references, ImportResultDTO result) {
+        List<ImportRow> resolved = new ArrayList<>(rows.size());
+        for (SheetRow row : rows) {
+            try {
+                resolved.add(references.resolve(row));
+            } catch (RuntimeException e) {
+                result.getErrors().add(new ImportRowErrorDTO(row.rowNumber(), row.cell(TESTCASE_ID), e.getMessage()));
+            }
+        }
+        if (resolved.isEmpty()) {
+            return;
+        }
+
+        try {
+            int[] counts = transactionTemplate.execute(status -> persist(resolved));
+            result.setCreated(result.getCreated() + counts[0]);
+            result.setUpdated(result.getUpdated() + counts[1]);
+        } catch (RuntimeException chunkFailure) {
+            // Retry row by row so one bad row does not sink the whole chunk
+            entityManager.clear();
+            for (ImportRow row : resolved) {
+                try {
+                    int[] counts = transactionTemplate.execute(status -> persist(List.of(row)));
+                    result.setCreated(result.getCreated() + counts[0]);
+                    result.setUpdated(result.getUpdated() + counts[1]);
+                } catch (RuntimeException e) {
+                    result.getErrors().add(new ImportRowErrorDTO(row.rowNumber(), row.testcaseId(), rootMessage(e)));
+                } finally {
+                    entityManager.clear();
+                }
+            }
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * Inserts or updates the given rows, matching existing test cases on
+     * testcaseId. A later row with the same testcaseId overwrites an earlier one.
+     *
+     * @return {@code [created, updated]}
+     */
+    private int[] persist(List<ImportRow> rows) {
+        Set<String> ids = rows.stream().map(ImportRow::testcaseId).collect(Collectors.toSet());
+        Map<String, TestCase> existing = new HashMap<>();
+        testCaseRepository.findByTestcaseIdIn(ids).forEach(tc -> existing.put(tc.getTestcaseId(), tc));
+
+        Map<String, TestCase> pending = new LinkedHashMap<>();
+        List<TestCase> created = new ArrayList<>();
+        List<TestCase> updated = new ArrayList<>();
+        for (ImportRow row : rows) {
+            TestCase testCase = pending.get(row.testcaseId());
+            if (testCase == null) {
+                testCase = existing.get(row.testcaseId());
+                if (testCase == null) {
+                    testCase = new TestCase();
+                    created.add(testCase);
+                } else {
+                    updated.add(testCase);
+                }
+                pending.put(row.testcaseId(), testCase);
+            }
+            apply(row, testCase);
+        }
+        testCaseRepository.saveAll(pending.values());
+        testCaseRepository.flush();
+        changeLog.record(EntityType.TEST_CASE, created.stream().map(TestCase::getId).collect(Collectors.toList()), ChangeType.CREATED);
+        changeLog.record(EntityType.TEST_CASE, updated.stream().map(TestCase::getId).collect(Collectors.toList()), ChangeType.UPDATED);
+        return new int[]{created.size(), updated.size()};
+    }
+
+    private void apply(ImportRow row, TestCase testCase) {
+        testCase.setTestcaseId(row.testcaseId());
+        testCase.setModule(entityManager.getReference(Module.class, row.moduleId()));
+        testCase.setSubModule(row.subModuleId() != null
+                ? entityManager.getReference(SubModule.class, row.subModuleId())
+                : null);
+        testCase.setTestCaseDescription(row.description());
+        testCase.setPreConditions(row.preConditions());
+        testCase.setTestScript(row.testScript());
+        testCase.setExpectedResult(row.expectedResult());
+        testCase.setPriority(entityManager.getReference(TestCasePriority.class, row.priorityId()));
+        testCase.setAutomationStatus(entityManager.getReference(AutomationStatus.class, row.automationStatusId()));
+        testCase.setAutomatedBy(row.automatedById() != null
+                ? entityManager.getReference(AutomatedBy.class, row.automatedById())
+                : null);
+        testCase.setAutomationComments(row.automationComments());
+        testCase.setClubbedTcId(row.clubbedTcId());
+
+        Set<Tag> tags = new HashSet<>();
+        for (Long tagId : row.tagIds()) {
+            tags.add(entityManager.getReference(Tag.class, tagId));
+        }
+        testCase.setTags(tags);
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : e.toString();
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /** A validated sheet row with all reference names resolved to ids. */
+    private record ImportRow(int rowNumber, String testcaseId, Long moduleId, Long subModuleId,
+                             String description, String preConditions, String testScript,
+                             String expectedResult, Long priorityId, Long automationStatusId,
+                             Long automatedById, String automationComments, String clubbedTcId,
+                             List<Long> tagIds) {
+    }
+
+    /**
+     * Case-insensitive name to id lookup for reference data, shared by all
+     * chunks of one import. New entries are created in their own short
+     * transaction so a failed chunk never leaves a dangling id in the maps.
+     */
+    private class ReferenceResolver {
+
+        private final Map<String, Long> modules = new HashMap<>();
+        private final Map<String, Long> subModules = new HashMap<>();
+        private final Map<String, Long> priorities = new HashMap<>();
+        private final Map<String, Long> statuses = new HashMap<>();
+        private final Map<String, Long> users = new HashMap<>();
+        private final Map<String, Long> tags = new HashMap<>();
+        private Long defaultPriorityId;
+
+        ReferenceResolver() {
+            transactionTemplate.executeWithoutResult(status -> {
+                moduleRepository.findAll().forEach(m -> modules.putIfAbsent(key(m.getName()), m.getId()));
+                subModuleRepository.findAll().forEach(sm ->
+                        subModules.putIfAbsent(subModuleKey(sm.getModule().getId(), sm.getName()), sm.getId()));
+                priorityRepository.findAll().forEach(p -> {
+                    priorities.putIfAbsent(key(p.getName()), p.getId());
+                    if (defaultPriorityId == null || p.getId() < defaultPriorityId) {
+                        defaultPriorityId = p.getId();
+                    }
+                });
+                statusRepository.findAll().forEach(s -> statuses.putIfAbsent(key(s.getName()), s.getId()));
+                automatedByRepository.findAll().forEach(u -> users.putIfAbsent(key(u.getName()), u.getId()));
+                tagRepository.findAll().forEach(t -> tags.putIfAbsent(key(t.getName()), t.getId()));
+            });
+            entityManager.clear();
+        }
+
+        ImportRow resolve(SheetRow row) {
+            String testcaseId = row.cell(TESTCASE_ID);
+            String moduleCell = row.cell(MODULE);
+            String description = row.cell(DESCRIPTION);
+            String testScript = row.cell(TEST_SCRIPT);
+
+            if (testcaseId.isEmpty()) throw new IllegalArgumentException("Testcase ID is required (Column 1)");
+            if (moduleCell.isEmpty()) throw new IllegalArgumentException("Module is required (Column 2)");
+            if (description.isEmpty()) throw new IllegalArgumentException("Test Case Description is required (Column 4)");
+            if (testScript.isEmpty()) throw new IllegalArgumentException("Test Script is required (Column 6)");
+
+            // "Module >> SubModule" in the Module column, used when column 3 is empty
+            String moduleName = moduleCell;
+            String subModuleName = row.cell(SUB_MODULE);
+            if (moduleCell.contains(MODULE_SEPARATOR)) {
+                String[] parts = moduleCell.split(MODULE_SEPARATOR);
+                moduleName = parts[0].trim();
+                if (parts.length > 1 && subModuleName.isEmpty()) {
+                    subModuleName = parts[1].trim();
+                }
+            }
+            if (moduleName.isEmpty()) throw new IllegalArgumentException("Module is required (Column 2)");
+
+            Long moduleId = moduleId(moduleName);
+            Long subModuleId = subModuleName.isEmpty() ? null : subModuleId(moduleId, subModuleName);
+            Long priorityId = priorityId(row.cell(PRIORITY));
+            String statusName = row.cell(AUTOMATION_STATUS);
+            Long statusId = statusId(statusName.isEmpty() ? DEFAULT_STATUS : statusName);
+            String automatedByName = row.cell(AUTOMATED_BY);
+            Long automatedById = automatedByName.isEmpty() ? null : automatedById(automatedByName);
+
+            List<Long> tagIds = Arrays.stream(row.cell(TAGS).split("[,;]"))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .map(this::tagId)
+                    .distinct()
+                    .collect(Collectors.toList());
+
+            String expectedResult = row.cell(EXPECTED_RESULT);
+            return new ImportRow(row.rowNumber(), testcaseId, moduleId, subModuleId, description,
+                    emptyToNull(row.cell(PRE_CONDITIONS)), testScript,
+                    expectedResult.isEmpty() ? DEFAULT_EXPECTED_RESULT : expectedResult,
+                    priorityId, statusId, automatedById,
+                    emptyToNull(row.cell(AUTOMATION_COMMENTS)), emptyToNull(row.cell(CLUBBED_TC_ID)), tagIds);
+        }
+
+        private Long moduleId(String name) {
+            return lookupOrCreate(modules, ReferenceType.MODULE, key(name), () -> {
+                Module module = new Module();
+                module.setName(name);
+                module.setDescription(AUTO_CREATED);
+                return moduleRepository.save(module).getId();
+            });
+        }
+
+        private Long subModuleId(Long moduleId, String name) {
+            return lookupOrCreate(subModules, ReferenceType.SUB_MODULE, subModuleKey(moduleId, name), () -> {
+                SubModule subModule = new SubModule();
+                subModule.setName(name);
+                subModule.setDescription(AUTO_CREATED);
+                subModule.setModule(entityManager.getReference(Module.class, moduleId));
+                return subModuleRepository.save(subModule).getId();
+            });
+        }
+
+        private Long priorityId(String name) {
+            if (name.isEmpty()) {
+                if (defaultPriorityId == null) {
+                    throw new IllegalArgumentException("No priority available. Please create at least one priority first.");
+                }
+                return defaultPriorityId;
+            }
+            Long id = lookupOrCreate(priorities, ReferenceType.PRIORITY, key(name), () -> {
+                TestCasePriority priority = new TestCasePriority();
+                priority.setName(name);
+                priority.setDescription(AUTO_CREATED);
+                return priorityRepository.save(priority).getId();
+            });
+            if (defaultPriorityId == null) {
+                defaultPriorityId = id;
+            }
+            return id;
+        }
+
+        private Long statusId(String name) {
+            return lookupOrCreate(statuses, ReferenceType.AUTOMATION_STATUS, key(name), () -> {
+                AutomationStatus status = new AutomationStatus();
+                status.setName(name);
+                status.setDescription(DEFAULT_STATUS.equals(name)
+                        ? "Default status for test cases without automation status"
+                        : AUTO_CREATED);
+                return statusRepository.save(status).getId();
+            });
+        }
+
+        private Long automatedById(String name) {
+            return lookupOrCreate(users, ReferenceType.AUTOMATED_BY, key(name), () -> {
+                AutomatedBy automatedBy = new AutomatedBy();
+                automatedBy.setName(name);
+                return automatedByRepository.save(automatedBy).getId();
+            });
+        }
+
+        private Long tagId(String name) {
+            return lookupOrCreate(tags, ReferenceType.TAG, key(name), () -> {
+                Tag tag = new Tag();
+                tag.setName(name);
+                tag.setDescription(AUTO_CREATED);
+                tag.setColor(DEFAULT_TAG_COLOR);
+                return tagRepository.save(tag).getId();
+            });
+        }
+
+        private Long lookupOrCreate(Map<String, Long> cache, ReferenceType type, String key, Supplier<Long> creator) {
+            Long id = cache.get(key);
+            if (id == null) {
+                id = transactionTemplate.execute(status -> {
+                    Long createdId = creator.get();
+                    eventPublisher.publishEvent(new ReferenceDataChangedEvent(type, ChangeType.CREATED, createdId));
+                    return createdId;
+                });
+                cache.put(key, id);
+            }
+            return id;
+        }
+
+        private String subModuleKey(Long moduleId, String name) {
+            return moduleId + ":" + key(name);
+        }
+    }
+}
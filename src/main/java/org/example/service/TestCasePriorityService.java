@@ -2,13 +2,18 @@ package org.example.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.dto.TestCasePriorityDTO;
+import org.example.event.ChangeType;
+import org.example.event.ReferenceDataChangedEvent;
+import org.example.event.ReferenceType;
 import org.example.exception.DuplicateResourceException;
 import org.example.exception.ResourceNotFoundException;
 import org.example.model.TestCasePriority;
 import org.example.repository.TestCasePriorityRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,6 +23,7 @@ import java.util.stream.Collectors;
 public class TestCasePriorityService {
 
     private final TestCasePriorityRepository priorityRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<TestCasePriorityDTO> getAllPriorities() {
         return priorityRepository.findAll().stream()
@@ -25,6 +31,12 @@ public class TestCasePriorityService {
                 .collect(Collectors.toList());
     }
 
+    public List<TestCasePriorityDTO> getPrioritiesByIds(Collection<Long> ids) {
+        return priorityRepository.findAllById(ids).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
     public TestCasePriorityDTO getPriorityById(Long id) {
         TestCasePriority priority = priorityRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Priority not found with id: " + id));
@@ -37,6 +49,7 @@ public class TestCasePriorityService {
         }
         TestCasePriority priority = convertToEntity(priorityDTO);
         TestCasePriority savedPriority = priorityRepository.save(priority);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.PRIORITY, ChangeType.CREATED, savedPriority.getId()));
         return convertToDTO(savedPriority);
     }
 
@@ -53,6 +66,7 @@ public class TestCasePriorityService {
         priority.setDescription(priorityDTO.getDescription());
         priority.setLevel(priorityDTO.getLevel());
         TestCasePriority updatedPriority = priorityRepository.save(priority);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.PRIORITY, ChangeType.UPDATED, id));
         return convertToDTO(updatedPriority);
     }
 
@@ -61,6 +75,7 @@ public class TestCasePriorityService {
             throw new ResourceNotFoundException("Priority not found with id: " + id);
         }
         priorityRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReferenceDataChangedEvent(ReferenceType.PRIORITY, ChangeType.DELETED, id));
     }
 
     private TestCasePriorityDTO convertToDTO(TestCasePriority priority) {
@@ -0,0 +1,96 @@
+package org.example.service;
+
+import jakarta.annotation.PostConstruct;
+import org.example.repository.TestCaseText;
+import org.example.search.InvertedIndex;
+import org.example.search.SearchField;
+import org.example.search.SearchQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * The full-text {@link InvertedIndex} over test case text, maintained by
+ * {@link TestCaseTextIndexer}.
+ */
+@Service
+public class TestCaseSearchIndex implements TestCaseTextIndex {
+
+    @Value("${scriptsync.search.boost.description:3.0}")
+    private float descriptionBoost;
+
+    @Value("${scriptsync.search.boost.pre-conditions:1.0}")
+    private float preConditionsBoost;
+
+    @Value("${scriptsync.search.boost.test-script:1.5}")
+    private float testScriptBoost;
+
+    @Value("${scriptsync.search.boost.expected-result:1.5}")
+    private float expectedResultBoost;
+
+    private volatile InvertedIndex index;
+
+    @PostConstruct
+    void createIndex() {
+        index = newIndex();
+    }
+
+    public InvertedIndex.Hits search(SearchQuery query, int limit) {
+        return index.search(query, limit);
+    }
+
+    @Override
+    public String name() {
+        return "search";
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public void apply(Long testCaseId, Optional<TestCaseText> text) {
+        InvertedIndex current = index;
+        if (text.isPresent()) {
+            current.put(testCaseId, fieldTexts(text.get()));
+        } else {
+            current.remove(testCaseId);
+        }
+    }
+
+    @Override
+    public Rebuild startRebuild() {
+        InvertedIndex fresh = newIndex();
+        return new Rebuild() {
+            @Override
+            public void add(TestCaseText text) {
+                fresh.put(text.id(), fieldTexts(text));
+            }
+
+            @Override
+            public void publish() {
+                index = fresh;
+            }
+        };
+    }
+
+    private static String[] fieldTexts(TestCaseText text) {
+        String[] fields = new String[SearchField.values().length];
+        fields[SearchField.DESCRIPTION.ordinal()] = text.testCaseDescription();
+        fields[SearchField.PRE_CONDITIONS.ordinal()] = text.preConditions();
+        fields[SearchField.TEST_SCRIPT.ordinal()] = text.testScript();
+        fields[SearchField.EXPECTED_RESULT.ordinal()] = text.expectedResult();
+        return fields;
+    }
+
+    private InvertedIndex newIndex() {
+        float[] boosts = new float[SearchField.values().length];
+        boosts[SearchField.DESCRIPTION.ordinal()] = descriptionBoost;
+        boosts[SearchField.PRE_CONDITIONS.ordinal()] = preConditionsBoost;
+        boosts[SearchField.TEST_SCRIPT.ordinal()] = testScriptBoost;
+        boosts[SearchField.EXPECTED_RESULT.ordinal()] = expectedResultBoost;
+        return new InvertedIndex(boosts);
+    }
+}
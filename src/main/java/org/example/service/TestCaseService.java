@@ -1,29 +1,53 @@
 package org.example.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.dto.ChangesDTO;
+import org.example.dto.CursorPageDTO;
+import org.example.dto.SearchHitDTO;
+import org.example.dto.SearchResultDTO;
+import org.example.dto.SimilarTestCaseDTO;
+import org.example.dto.SimilarTestCasesDTO;
 import org.example.dto.TestCaseDTO;
+import org.example.dto.TestCaseFilterDTO;
+import org.example.dto.TestCaseSummaryDTO;
+import org.example.dto.TombstoneDTO;
+import org.example.event.ChangeType;
+import org.example.event.EntityType;
+import org.example.event.TestCaseChangedEvent;
+import org.example.event.TestCaseDimensions;
 import org.example.exception.DuplicateResourceException;
+import org.example.exception.InvalidRequestException;
 import org.example.exception.ResourceNotFoundException;
+import org.example.history.TestCaseSnapshot;
 import org.example.model.AutomatedBy;
 import org.example.model.AutomationStatus;
+import org.example.model.ChangeLogEntry;
 import org.example.model.Module;
 import org.example.model.SubModule;
 import org.example.model.Tag;
 import org.example.model.TestCase;
 import org.example.model.TestCasePriority;
-import org.example.repository.AutomatedByRepository;
-import org.example.repository.AutomationStatusRepository;
-import org.example.repository.ModuleRepository;
-import org.example.repository.SubModuleRepository;
-import org.example.repository.TagRepository;
 import org.example.repository.TestCaseRepository;
-import org.example.repository.TestCasePriorityRepository;
+import org.example.repository.TestCaseQuery;
+import org.example.repository.TestCaseRow;
+import org.example.repository.TestCaseSortField;
+import org.example.repository.TestCaseTagRow;
+import org.example.repository.TestCaseTextField;
+import org.example.search.InvertedIndex;
+import org.example.search.LshIndex;
+import org.example.search.SearchQuery;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,30 +55,223 @@ import java.util.stream.Collectors;
 @Transactional
 public class TestCaseService {
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+    public static final int MAX_SEARCH_LIMIT = 200;
+    public static final int DEFAULT_SIMILAR_LIMIT = 20;
+    public static final int MAX_SIMILAR_LIMIT = 200;
+    public static final int DEFAULT_CHANGES_LIMIT = 1000;
+    public static final int MAX_CHANGES_LIMIT = 10000;
+
     private final TestCaseRepository testCaseRepository;
-    private final ModuleRepository moduleRepository;
-    private final SubModuleRepository subModuleRepository;
-    private final TestCasePriorityRepository priorityRepository;
-    private final AutomationStatusRepository statusRepository;
-    private final AutomatedByRepository automatedByRepository;
-    private final TagRepository tagRepository;
-
-    public List<TestCaseDTO> getAllTestCases() {
-        return testCaseRepository.findAll().stream()
-                .map(this::convertToDTO)
+    private final ReferenceDataCache referenceDataCache;
+    private final TestCaseSearchIndex searchIndex;
+    private final TestCaseSimilarityIndex similarityIndex;
+    private final TestCaseTextIndexer textIndexer;
+    private final TestCaseHistoryService historyService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLog changeLog;
+
+    /**
+     * Lists every test case. Large text columns are only read when named in
+     * {@code fields}, a comma-separated list of {@link TestCaseTextField} properties.
+     */
+    @Transactional(readOnly = true)
+    public List<TestCaseSummaryDTO> getAllTestCases(String fields) {
+        TestCaseQuery query = new TestCaseQuery();
+        query.setTextFields(TestCaseTextField.parse(fields));
+        return findSummaries(query);
+    }
+
+    /**
+     * Returns one keyset page of the test cases matching {@code filter}, with
+     * the text columns named in {@code fields}.
+     * When a cursor is given, its sort order wins over {@code sort}/{@code direction};
+     * the filter is not part of the cursor and must be repeated on every page.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TestCaseSummaryDTO> getTestCasePage(TestCaseFilterDTO filter, String sort, String direction,
+                                                             String cursor, int limit, boolean includeTotal,
+                                                             String fields) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        TestCaseQuery query = TestCaseFilters.toQuery(filter);
+        query.setTextFields(TestCaseTextField.parse(fields));
+        if (cursor != null && !cursor.isBlank()) {
+            TestCaseCursor after = TestCaseCursor.decode(cursor);
+            query.setSortField(after.sortField());
+            query.setAscending(after.ascending());
+            query.setAfterValue(after.typedValue());
+            query.setAfterId(after.id());
+        } else {
+            query.setSortField(TestCaseSortField.fromProperty(sort));
+            query.setAscending(!"desc".equalsIgnoreCase(direction));
+        }
+        // Fetch one extra row to learn whether another page exists
+        query.setLimit(limit + 1);
+
+        List<TestCaseRow> rows = testCaseRepository.findRows(query);
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            TestCaseRow last = rows.get(rows.size() - 1);
+            String lastValue = sortValue(query.getSortField(), last);
+            nextCursor = new TestCaseCursor(query.getSortField(), query.isAscending(), lastValue, last.id()).encode();
+        }
+
+        List<Long> ids = rows.stream().map(TestCaseRow::id).collect(Collectors.toList());
+        List<TestCaseTagRow> tagRows = ids.isEmpty()
+                ? List.of()
+                : testCaseRepository.findTagRows(query, ids);
+        List<TestCaseSummaryDTO> items = toDTOs(rows, tagRows, TestCaseSummaryDTO::new);
+        Long totalCount = includeTotal ? testCaseRepository.countMatching(query) : null;
+        return new CursorPageDTO<>(items, nextCursor, hasMore, totalCount);
+    }
+
+    /**
+     * Ranks test cases against a full-text query over their description,
+     * pre-conditions, script and expected result.
+     */
+    @Transactional(readOnly = true)
+    public SearchResultDTO searchTestCases(String q, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        SearchQuery query = SearchQuery.parse(q);
+        if (query.isEmpty()) {
+            throw new InvalidRequestException("Search query must contain at least one word");
+        }
+
+        long start = System.nanoTime();
+        InvertedIndex.Hits hits = searchIndex.search(query, limit);
+        long tookMillis = (System.nanoTime() - start) / 1_000_000;
+
+        SearchResultDTO result = new SearchResultDTO();
+        result.setQuery(q);
+        result.setTotal(hits.total());
+        result.setTookMillis(tookMillis);
+        result.setIndexing(textIndexer.isRebuilding());
+        if (hits.hits().isEmpty()) {
+            return result;
+        }
+
+        List<Long> ids = hits.hits().stream().map(InvertedIndex.Hit::id).collect(Collectors.toList());
+        TestCaseQuery rowsQuery = new TestCaseQuery();
+        rowsQuery.setIds(ids);
+        Map<Long, TestCaseDTO> byId = toDTOs(testCaseRepository.findRows(rowsQuery),
+                testCaseRepository.findTagRows(rowsQuery, ids), TestCaseDTO::new).stream()
+                .collect(Collectors.toMap(TestCaseDTO::getId, dto -> dto));
+        for (InvertedIndex.Hit hit : hits.hits()) {
+            // Skip hits deleted after the index was searched
+            TestCaseDTO dto = byId.get(hit.id());
+            if (dto != null) {
+                result.getHits().add(new SearchHitDTO(hit.score(), dto));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the test cases whose script and description are near-duplicates
+     * of those of test case {@code id}, most similar first. A test case
+     * without script or description text has no similar test cases.
+     */
+    @Transactional(readOnly = true)
+    public SimilarTestCasesDTO findSimilarTestCases(Long id, Float minSimilarity, int limit) {
+        if (limit < 1 || limit > MAX_SIMILAR_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_SIMILAR_LIMIT);
+        }
+        float threshold = minSimilarity != null ? minSimilarity : similarityIndex.defaultMinSimilarity();
+        if (!(threshold > 0 && threshold <= 1)) {
+            throw new InvalidRequestException("minSimilarity must be greater than 0 and at most 1");
+        }
+        if (!testCaseRepository.existsById(id)) {
+            throw new ResourceNotFoundException("TestCase not found with id: " + id);
+        }
+
+        SimilarTestCasesDTO result = new SimilarTestCasesDTO();
+        result.setTestCaseId(id);
+        result.setMinSimilarity(threshold);
+        result.setIndexing(textIndexer.isRebuilding());
+        List<LshIndex.Match> matches = similarityIndex.similar(id, threshold, limit);
+        if (matches == null || matches.isEmpty()) {
+            return result;
+        }
+
+        List<Long> ids = matches.stream().map(LshIndex.Match::id).collect(Collectors.toList());
+        TestCaseQuery rowsQuery = new TestCaseQuery();
+        rowsQuery.setIds(ids);
+        Map<Long, TestCaseDTO> byId = toDTOs(testCaseRepository.findRows(rowsQuery),
+                testCaseRepository.findTagRows(rowsQuery, ids), TestCaseDTO::new).stream()
+                .collect(Collectors.toMap(TestCaseDTO::getId, dto -> dto));
+        for (LshIndex.Match match : matches) {
+            // Skip matches deleted after the index was read
+            TestCaseDTO dto = byId.get(match.id());
+            if (dto != null) {
+                result.getHits().add(new SimilarTestCaseDTO(match.similarity(), dto));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the test cases created, updated or deleted after {@code since},
+     * at most {@code limit} log entries at a time. Upserts carry the current
+     * state of the row; a row changed and then deleted comes back only as a
+     * tombstone.
+     */
+    @Transactional(readOnly = true)
+    public ChangesDTO<TestCaseDTO> getTestCaseChanges(String since, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_CHANGES_LIMIT);
+        }
+        ChangeLog.Changes changes = changeLog.changesSince(List.of(EntityType.TEST_CASE), since, limit);
+        List<Long> ids = changes.entries().stream()
+                .filter(entry -> entry.getChangeType() != ChangeType.DELETED)
+                .map(ChangeLogEntry::getEntityId)
                 .collect(Collectors.toList());
+        Map<Long, TestCaseDTO> byId = new HashMap<>();
+        if (!ids.isEmpty()) {
+            TestCaseQuery rowsQuery = new TestCaseQuery();
+            rowsQuery.setIds(ids);
+            toDTOs(testCaseRepository.findRows(rowsQuery), testCaseRepository.findTagRows(rowsQuery, ids),
+                    TestCaseDTO::new)
+                    .forEach(dto -> byId.put(dto.getId(), dto));
+        }
+
+        List<TestCaseDTO> upserted = new ArrayList<>();
+        List<TombstoneDTO> deleted = new ArrayList<>();
+        for (ChangeLogEntry entry : changes.entries()) {
+            TestCaseDTO dto = byId.get(entry.getEntityId());
+            if (dto != null) {
+                upserted.add(dto);
+            } else {
+                // Deleted, possibly after the log was read
+                deleted.add(new TombstoneDTO(EntityType.TEST_CASE, entry.getEntityId()));
+            }
+        }
+        return new ChangesDTO<>(upserted, deleted, changes.cursor(), changes.hasMore());
     }
 
     public TestCaseDTO getTestCaseById(Long id) {
-        TestCase testCase = testCaseRepository.findById(id)
+        TestCase testCase = testCaseRepository.findDetailedById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("TestCase not found with id: " + id));
         return convertToDTO(testCase);
     }
 
-    public List<TestCaseDTO> getTestCasesByModuleId(Long moduleId) {
-        return testCaseRepository.findByModuleId(moduleId).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<TestCaseSummaryDTO> getTestCasesByModuleId(Long moduleId, String fields) {
+        TestCaseQuery query = new TestCaseQuery();
+        query.setModuleId(moduleId);
+        query.setTextFields(TestCaseTextField.parse(fields));
+        return findSummaries(query);
     }
 
     public TestCaseDTO createTestCase(TestCaseDTO testCaseDTO) {
@@ -64,11 +281,13 @@ public class TestCaseService {
 
         TestCase testCase = convertToEntity(testCaseDTO);
         TestCase savedTestCase = testCaseRepository.save(testCase);
+        eventPublisher.publishEvent(new TestCaseChangedEvent(ChangeType.CREATED, savedTestCase.getId(),
+                null, TestCaseDimensions.of(savedTestCase)));
         return convertToDTO(savedTestCase);
     }
 
     public TestCaseDTO updateTestCase(Long id, TestCaseDTO testCaseDTO) {
-        TestCase testCase = testCaseRepository.findById(id)
+        TestCase testCase = testCaseRepository.findForUpdateById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("TestCase not found with id: " + id));
 
         if (!testCase.getTestcaseId().equals(testCaseDTO.getTestcaseId()) &&
@@ -76,19 +295,96 @@ public class TestCaseService {
             throw new DuplicateResourceException("TestCase already exists with testcaseId: " + testCaseDTO.getTestcaseId());
         }
 
+        TestCaseDimensions before = TestCaseDimensions.of(testCase);
+        TestCaseSnapshot previous = TestCaseSnapshot.of(testCase);
+        LocalDateTime previousChangedAt = testCase.getUpdatedAt() != null
+                ? testCase.getUpdatedAt()
+                : testCase.getCreatedAt();
         updateTestCaseFromDTO(testCase, testCaseDTO);
-        TestCase updatedTestCase = testCaseRepository.save(testCase);
-        return convertToDTO(updatedTestCase);
+        historyService.recordUpdate(id, previous, previousChangedAt, TestCaseSnapshot.of(testCase));
+        // Managed entity: flushed on commit. save() would merge and reload the cached references.
+        eventPublisher.publishEvent(new TestCaseChangedEvent(ChangeType.UPDATED, id,
+                before, TestCaseDimensions.of(testCase)));
+        return convertToDTO(testCase);
     }
 
     public void deleteTestCase(Long id) {
-        if (!testCaseRepository.existsById(id)) {
-            throw new ResourceNotFoundException("TestCase not found with id: " + id);
+        TestCase testCase = testCaseRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("TestCase not found with id: " + id));
+        TestCaseDimensions before = TestCaseDimensions.of(testCase);
+        historyService.deleteHistory(List.of(id));
+        testCaseRepository.delete(testCase);
+        eventPublisher.publishEvent(new TestCaseChangedEvent(ChangeType.DELETED, id, before, null));
+    }
+
+    /**
+     * The value {@code row} is ordered by, as compared by the keyset predicate;
+     * {@code null} for an absent optional reference.
+     */
+    private static String sortValue(TestCaseSortField field, TestCaseRow row) {
+        return switch (field) {
+            case ID -> String.valueOf(row.id());
+            case TESTCASE_ID -> row.testcaseId();
+            case MODULE -> row.moduleName();
+            case SUB_MODULE -> row.subModuleName();
+            case PRIORITY -> row.priorityName();
+            case AUTOMATION_STATUS -> row.automationStatusName();
+            case AUTOMATED_BY -> row.automatedByName();
+        };
+    }
+
+    private List<TestCaseSummaryDTO> findSummaries(TestCaseQuery query) {
+        List<TestCaseRow> rows = testCaseRepository.findRows(query);
+        List<TestCaseTagRow> tagRows = testCaseRepository.findTagRows(query, null);
+        return toDTOs(rows, tagRows, TestCaseSummaryDTO::new);
+    }
+
+    private <D extends TestCaseDTO> List<D> toDTOs(List<TestCaseRow> rows, List<TestCaseTagRow> tagRows,
+                                                   Supplier<D> newDTO) {
+        Map<Long, List<TestCaseTagRow>> tagsByTestCase = tagRows.stream()
+                .collect(Collectors.groupingBy(TestCaseTagRow::testCaseId));
+        return rows.stream()
+                .map(row -> convertToDTO(row, tagsByTestCase.get(row.id()), newDTO))
+                .collect(Collectors.toList());
+    }
+
+    /** Text columns the query did not select are {@code null} in the row. */
+    private <D extends TestCaseDTO> D convertToDTO(TestCaseRow row, List<TestCaseTagRow> tagRows,
+                                                   Supplier<D> newDTO) {
+        D dto = newDTO.get();
+        dto.setId(row.id());
+        dto.setTestcaseId(row.testcaseId());
+        dto.setModuleId(row.moduleId());
+        dto.setModuleName(row.moduleName());
+        dto.setSubModuleId(row.subModuleId());
+        dto.setSubModuleName(row.subModuleName());
+        dto.setTestCaseDescription(row.testCaseDescription());
+        dto.setPreConditions(row.preConditions());
+        dto.setTestScript(row.testScript());
+        dto.setExpectedResult(row.expectedResult());
+        dto.setPriorityId(row.priorityId());
+        dto.setPriorityName(row.priorityName());
+        dto.setAutomationStatusId(row.automationStatusId());
+        dto.setAutomationStatusName(row.automationStatusName());
+        dto.setAutomatedById(row.automatedById());
+        dto.setAutomatedByName(row.automatedByName());
+        dto.setAutomationComments(row.automationComments());
+        dto.setClubbedTcId(row.clubbedTcId());
+
+        if (tagRows != null && !tagRows.isEmpty()) {
+            dto.setTagIds(tagRows.stream()
+                    .map(TestCaseTagRow::tagId)
+                    .collect(Collectors.toList()));
+            dto.setTagNames(tagRows.stream()
+                    .map(TestCaseTagRow::tagName)
+                    .collect(Collectors.toList()));
         }
-        testCaseRepository.deleteById(id);
+
+        return dto;
     }
 
-    private TestCaseDTO convertToDTO(TestCase testCase) {
+    /** Package-private for the mapping benchmarks. */
+    TestCaseDTO convertToDTO(TestCase testCase) {
         TestCaseDTO dto = new TestCaseDTO();
         dto.setId(testCase.getId());
         dto.setTestcaseId(testCase.getTestcaseId());
@@ -135,15 +431,16 @@ public class TestCaseService {
         return testCase;
     }
 
-    private void updateTestCaseFromDTO(TestCase testCase, TestCaseDTO dto) {
+    /** Package-private for the mapping benchmarks. */
+    void updateTestCaseFromDTO(TestCase testCase, TestCaseDTO dto) {
         testCase.setTestcaseId(dto.getTestcaseId());
 
-        Module module = moduleRepository.findById(dto.getModuleId())
+        Module module = referenceDataCache.findModule(dto.getModuleId())
                 .orElseThrow(() -> new ResourceNotFoundException("Module not found with id: " + dto.getModuleId()));
         testCase.setModule(module);
 
         if (dto.getSubModuleId() != null) {
-            SubModule subModule = subModuleRepository.findById(dto.getSubModuleId())
+            SubModule subModule = referenceDataCache.findSubModule(dto.getSubModuleId())
                     .orElseThrow(() -> new ResourceNotFoundException("SubModule not found with id: " + dto.getSubModuleId()));
             testCase.setSubModule(subModule);
         } else {
@@ -155,16 +452,16 @@ public class TestCaseService {
         testCase.setTestScript(dto.getTestScript());
         testCase.setExpectedResult(dto.getExpectedResult());
 
-        TestCasePriority priority = priorityRepository.findById(dto.getPriorityId())
+        TestCasePriority priority = referenceDataCache.findPriority(dto.getPriorityId())
                 .orElseThrow(() -> new ResourceNotFoundException("Priority not found with id: " + dto.getPriorityId()));
         testCase.setPriority(priority);
 
-        AutomationStatus status = statusRepository.findById(dto.getAutomationStatusId())
+        AutomationStatus status = referenceDataCache.findAutomationStatus(dto.getAutomationStatusId())
                 .orElseThrow(() -> new ResourceNotFoundException("AutomationStatus not found with id: " + dto.getAutomationStatusId()));
         testCase.setAutomationStatus(status);
 
         if (dto.getAutomatedById() != null) {
-            AutomatedBy automatedBy = automatedByRepository.findById(dto.getAutomatedById())
+            AutomatedBy automatedBy = referenceDataCache.findAutomatedBy(dto.getAutomatedById())
                     .orElseThrow(() -> new ResourceNotFoundException("AutomatedBy not found with id: " + dto.getAutomatedById()));
             testCase.setAutomatedBy(automatedBy);
         } else {
@@ -177,7 +474,7 @@ public class TestCaseService {
         if (dto.getTagIds() != null && !dto.getTagIds().isEmpty()) {
             Set<Tag> tags = new HashSet<>();
             for (Long tagId : dto.getTagIds()) {
-                Tag tag = tagRepository.findById(tagId)
+                Tag tag = referenceDataCache.findTag(tagId)
                         .orElseThrow(() -> new ResourceNotFoundException("Tag not found with id: " + tagId));
                 tags.add(tag);
             }
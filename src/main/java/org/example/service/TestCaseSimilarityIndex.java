@@ -0,0 +1,107 @@
+package org.example.service;
+
+import jakarta.annotation.PostConstruct;
+import org.example.repository.TestCaseText;
+import org.example.search.LshIndex;
+import org.example.search.MinHasher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An {@link LshIndex} of MinHash signatures over each test case's script and
+ * description, for finding near-duplicates without comparing every pair.
+ * Maintained by {@link TestCaseTextIndexer}. Test cases without any script or
+ * description text are not indexed.
+ */
+@Service
+public class TestCaseSimilarityIndex implements TestCaseTextIndex {
+
+    private static final long SIGNATURE_SEED = 0x5C5191L;
+
+    @Value("${scriptsync.similarity.hashes:64}")
+    private int hashes;
+
+    @Value("${scriptsync.similarity.bands:16}")
+    private int bands;
+
+    @Value("${scriptsync.similarity.shingle-size:3}")
+    private int shingleSize;
+
+    @Value("${scriptsync.similarity.min-similarity:0.8}")
+    private float defaultMinSimilarity;
+
+    private volatile LshIndex index;
+    private MinHasher minHasher;
+
+    @PostConstruct
+    void createIndex() {
+        minHasher = new MinHasher(hashes, shingleSize, SIGNATURE_SEED);
+        index = new LshIndex(hashes, bands);
+    }
+
+    /**
+     * Test cases whose estimated similarity to {@code testCaseId} is at least
+     * {@code minSimilarity}, most similar first, or {@code null} when the
+     * test case is not indexed.
+     */
+    public List<LshIndex.Match> similar(Long testCaseId, float minSimilarity, int limit) {
+        return index.similar(testCaseId, minSimilarity, limit);
+    }
+
+    /** Clusters of near-duplicate test case ids, largest first. */
+    public List<long[]> clusters(float minSimilarity) {
+        return index.clusters(minSimilarity);
+    }
+
+    /** Threshold used when a request does not give one. */
+    public float defaultMinSimilarity() {
+        return defaultMinSimilarity;
+    }
+
+    @Override
+    public String name() {
+        return "similarity";
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public void apply(Long testCaseId, Optional<TestCaseText> text) {
+        LshIndex current = index;
+        char[] signature = text.map(this::signature).orElse(null);
+        if (signature != null) {
+            current.put(testCaseId, signature);
+        } else {
+            current.remove(testCaseId);
+        }
+    }
+
+    @Override
+    public Rebuild startRebuild() {
+        LshIndex fresh = new LshIndex(hashes, bands);
+        return new Rebuild() {
+            @Override
+            public void add(TestCaseText text) {
+                char[] signature = signature(text);
+                if (signature != null) {
+                    fresh.put(text.id(), signature);
+                }
+            }
+
+            @Override
+            public void publish() {
+                index = fresh;
+            }
+        };
+    }
+
+    private char[] signature(TestCaseText text) {
+        return minHasher.signature(text.testScript(), text.testCaseDescription());
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.service;
+
+import org.example.repository.TestCaseText;
+
+import java.util.Optional;
+
+/**
+ * An in-memory index over test case text, kept in step with the database by
+ * {@link TestCaseTextIndexer}.
+ */
+public interface TestCaseTextIndex {
+
+    /** Name used in rebuild log messages. */
+    String name();
+
+    /**
+     * Applies a committed change to one test case; {@code text} is empty when
+     * the test case no longer exists.
+     */
+    void apply(Long testCaseId, Optional<TestCaseText> text);
+
+    /** Starts building a replacement for the whole index. */
+    Rebuild startRebuild();
+
+    int size();
+
+    /** A replacement index being filled from a scan of every test case. */
+    interface Rebuild {
+
+        void add(TestCaseText text);
+
+        /** Swaps the replacement in for the current index. */
+        void publish();
+    }
+}
@@ -0,0 +1,157 @@
+package org.example.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.event.TestCaseChangedEvent;
+import org.example.event.TestCasesBulkChangedEvent;
+import org.example.repository.TestCaseRepository;
+import org.example.repository.TestCaseText;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps every {@link TestCaseTextIndex} in step with the database.
+ * <p>
+ * All indexes are rebuilt together in the background on startup and after
+ * bulk imports, from one scan of the text columns, then swapped in whole;
+ * reads keep using the previous indexes meanwhile. Single test case writes
+ * read the new text once and apply it to every index after commit. Writes
+ * committed while a rebuild is running are replayed once it is swapped in.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TestCaseTextIndexer {
+
+    private final TestCaseRepository testCaseRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final List<TestCaseTextIndex> indexes;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "text-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    @PreDestroy
+    void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        scheduleRebuild();
+    }
+
+    /**
+     * Reads the new text inside the writing transaction and indexes it once
+     * that commits. Reading after commit would take a second pooled
+     * connection while the writer still holds its own, which starves the pool
+     * once concurrent writes outnumber its connections.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTestCaseChanged(TestCaseChangedEvent event) {
+        Long testCaseId = event.testCaseId();
+        Optional<TestCaseText> text = event.after() != null
+                ? testCaseRepository.findTextById(testCaseId)
+                : Optional.empty();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (rebuilding) {
+                    changedDuringRebuild.add(testCaseId);
+                }
+                apply(testCaseId, text);
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTestCasesBulkChanged(TestCasesBulkChangedEvent event) {
+        if (event.operation().affectsText()) {
+            scheduleRebuild();
+        }
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding || rebuildQueued.get();
+    }
+
+    /**
+     * Queues a rebuild unless one is already waiting to start.
+     */
+    public void scheduleRebuild() {
+        if (rebuildQueued.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                rebuildQueued.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        changedDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            List<TestCaseTextIndex.Rebuild> rebuilds = new ArrayList<>(indexes.size());
+            indexes.forEach(index -> rebuilds.add(index.startRebuild()));
+            readOnlyTransaction().executeWithoutResult(status -> {
+                try (Stream<TestCaseText> texts = testCaseRepository.streamAllText()) {
+                    texts.forEach(text -> rebuilds.forEach(rebuild -> rebuild.add(text)));
+                }
+            });
+            rebuilds.forEach(TestCaseTextIndex.Rebuild::publish);
+        } catch (RuntimeException e) {
+            log.error("Text index rebuild failed; keeping the previous indexes", e);
+        } finally {
+            rebuilding = false;
+        }
+
+        changedDuringRebuild.forEach(this::reindex);
+        changedDuringRebuild.clear();
+        log.info("Text indexes rebuilt in {} ms: {}", System.currentTimeMillis() - start, indexes.stream()
+                .map(index -> index.name() + " " + index.size())
+                .collect(Collectors.joining(", ")));
+    }
+
+    private void reindex(Long testCaseId) {
+        Optional<TestCaseText> text = readOnlyTransaction()
+                .execute(status -> testCaseRepository.findTextById(testCaseId));
+        apply(testCaseId, text != null ? text : Optional.empty());
+    }
+
+    private void apply(Long testCaseId, Optional<TestCaseText> text) {
+        indexes.forEach(index -> index.apply(testCaseId, text));
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
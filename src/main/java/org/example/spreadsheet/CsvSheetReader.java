@@ -0,0 +1,90 @@
+package org.example.spreadsheet;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * RFC 4180 CSV reader. Supports quoted cells containing commas, escaped quotes
+ * and line breaks, and strips a leading UTF-8 BOM.
+ */
+public class CsvSheetReader implements SheetRowReader {
+
+    private static final char BOM = '\uFEFF';
+
+    @Override
+    public void read(InputStream in, Consumer<SheetRow> consumer) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        List<String> currentRow = new ArrayList<>();
+        StringBuilder currentCell = new StringBuilder();
+        boolean insideQuotes = false;
+        boolean firstChar = true;
+        int rowNumber = 1;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            char ch = (char) c;
+            if (firstChar) {
+                firstChar = false;
+                if (ch == BOM) {
+                    continue;
+                }
+            }
+
+            if (insideQuotes) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        currentCell.append('"');
+                    } else {
+                        insideQuotes = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    currentCell.append(ch);
+                }
+                continue;
+            }
+
+            switch (ch) {
+                case '"' -> insideQuotes = true;
+                case ',' -> {
+                    currentRow.add(currentCell.toString().trim());
+                    currentCell.setLength(0);
+                }
+                case '\r' -> {
+                    // Swallowed; the following '\n' (if any) ends the row
+                }
+                case '\n' -> {
+                    currentRow.add(currentCell.toString().trim());
+                    currentCell.setLength(0);
+                    emit(rowNumber++, currentRow, consumer);
+                    currentRow = new ArrayList<>();
+                }
+                default -> currentCell.append(ch);
+            }
+        }
+
+        if (currentCell.length() > 0 || !currentRow.isEmpty()) {
+            currentRow.add(currentCell.toString().trim());
+            emit(rowNumber, currentRow, consumer);
+        }
+    }
+
+    private void emit(int rowNumber, List<String> cells, Consumer<SheetRow> consumer) {
+        SheetRow row = new SheetRow(rowNumber, cells);
+        if (!row.isBlank()) {
+            consumer.accept(row);
+        }
+    }
+}
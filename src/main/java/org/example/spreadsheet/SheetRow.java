@@ -0,0 +1,20 @@
+package org.example.spreadsheet;
+
+import java.util.List;
+
+/**
+ * A single data row read from an uploaded sheet.
+ *
+ * @param rowNumber 1-based row number as the user sees it in the file
+ * @param cells     trimmed cell values, never {@code null}
+ */
+public record SheetRow(int rowNumber, List<String> cells) {
+
+    public String cell(int index) {
+        return index < cells.size() ? cells.get(index) : "";
+    }
+
+    public boolean isBlank() {
+        return cells.stream().allMatch(String::isEmpty);
+    }
+}
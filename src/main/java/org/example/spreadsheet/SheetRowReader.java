@@ -0,0 +1,14 @@
+package org.example.spreadsheet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Push-style reader that hands rows to a consumer one at a time, so callers
+ * never need to hold the whole sheet in memory.
+ */
+public interface SheetRowReader {
+
+    void read(InputStream in, Consumer<SheetRow> consumer) throws IOException;
+}
@@ -0,0 +1,15 @@
+package org.example.spreadsheet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes rows to an output stream one at a time, so callers never need to
+ * hold the whole sheet in memory. {@link #close()} completes the document
+ * but leaves the underlying stream open.
+ */
+public interface SheetRowWriter extends Closeable {
+
+    void writeRow(List<String> cells) throws IOException;
+}
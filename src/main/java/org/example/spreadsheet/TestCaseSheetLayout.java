@@ -0,0 +1,45 @@
+package org.example.spreadsheet;
+
+import java.util.List;
+
+/**
+ * Column layout shared by the test case import template and exports.
+ */
+public final class TestCaseSheetLayout {
+
+    public static final int TESTCASE_ID = 0;
+    public static final int MODULE = 1;
+    public static final int SUB_MODULE = 2;
+    public static final int DESCRIPTION = 3;
+    public static final int PRE_CONDITIONS = 4;
+    public static final int TEST_SCRIPT = 5;
+    public static final int EXPECTED_RESULT = 6;
+    public static final int PRIORITY = 7;
+    public static final int AUTOMATION_STATUS = 8;
+    public static final int AUTOMATED_BY = 9;
+    public static final int AUTOMATION_COMMENTS = 10;
+    public static final int CLUBBED_TC_ID = 11;
+    public static final int TAGS = 12;
+
+    public static final List<String> HEADERS = List.of(
+            "Testcase ID",
+            "Module",
+            "Sub Module/ Functionality",
+            "Test Case Description",
+            "Pre-Conditions/Test Data",
+            "Test Script / Actions",
+            "Expected Result",
+            "Test Case Priority",
+            "Automation Status",
+            "Automated By",
+            "Automation Comments",
+            "Clubbed TC ID",
+            "Tags"
+    );
+
+    /** Separator for the "Module >> SubModule" shorthand in the Module column. */
+    public static final String MODULE_SEPARATOR = ">>";
+
+    private TestCaseSheetLayout() {
+    }
+}
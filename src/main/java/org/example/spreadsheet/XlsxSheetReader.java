@@ -0,0 +1,99 @@
+package org.example.spreadsheet;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader for the first worksheet of an .xlsx workbook.
+ * <p>
+ * Uses POI's SAX event model rather than {@code XSSFWorkbook}, so only the
+ * shared strings table and the current row are held in memory. The upload is
+ * spooled to a temporary file first because the zip container needs random
+ * access.
+ */
+public class XlsxSheetReader implements SheetRowReader {
+
+    @Override
+    public void read(InputStream in, Consumer<SheetRow> consumer) throws IOException {
+        Path tempFile = Files.createTempFile("scriptsync-import-", ".xlsx");
+        try {
+            Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            try (OPCPackage pkg = OPCPackage.open(tempFile.toFile(), PackageAccess.READ)) {
+                XSSFReader xssfReader = new XSSFReader(pkg);
+                ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+                Iterator<InputStream> sheets = xssfReader.getSheetsData();
+                if (!sheets.hasNext()) {
+                    return;
+                }
+                try (InputStream sheet = sheets.next()) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(
+                            xssfReader.getStylesTable(), null, strings,
+                            new RowCollector(consumer), new DataFormatter(), false));
+                    parser.parse(new InputSource(sheet));
+                }
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Failed to read Excel file: " + e.getMessage(), e);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<SheetRow> consumer;
+        private List<String> cells;
+
+        RowCollector(Consumer<SheetRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            SheetRow row = new SheetRow(rowNum + 1, cells);
+            if (!row.isBlank()) {
+                consumer.accept(row);
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // Blank cells are not reported, so pad up to this cell's column
+            int column = cellReference != null
+                    ? new CellReference(cellReference).getCol()
+                    : cells.size();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue == null ? "" : formattedValue.trim());
+        }
+    }
+}
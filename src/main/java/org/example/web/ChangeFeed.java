@@ -0,0 +1,253 @@
+package org.example.web;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.example.dto.ChangeFeedEventDTO;
+import org.example.dto.ChangeFeedStatsDTO;
+import org.example.event.BulkOperation;
+import org.example.event.ChangeType;
+import org.example.event.CommitOrder;
+import org.example.event.EntityType;
+import org.example.event.ReferenceDataChangedEvent;
+import org.example.event.TestCaseChangedEvent;
+import org.example.event.TestCasesBulkChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes committed changes to Server-Sent Events subscribers.
+ * <p>
+ * Changes are appended to a bounded buffer per subscriber; the first change
+ * after a quiet period schedules one flush a short window later, which
+ * coalesces each buffer (last change per record, one summary per entity type
+ * for bursts above a threshold or changes lost to a full buffer) and sends
+ * it. Bulk operations already arrive as a single summary. An idle feed costs
+ * one heartbeat comment per subscriber per interval and nothing else.
+ * <p>
+ * All sends happen on the single feed thread.
+ */
+@Component
+public class ChangeFeed {
+
+    @Value("${scriptsync.feed.buffer-size:1000}")
+    private int bufferSize;
+
+    @Value("${scriptsync.feed.coalesce-window-ms:250}")
+    private long coalesceWindowMillis;
+
+    @Value("${scriptsync.feed.coalesce-threshold:20}")
+    private int coalesceThreshold;
+
+    @Value("${scriptsync.feed.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMillis;
+
+    @Value("${scriptsync.feed.timeout-ms:3600000}")
+    private long timeoutMillis;
+
+    private final ScheduledExecutorService feedExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+
+    @PostConstruct
+    void startHeartbeat() {
+        feedExecutor.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMillis, heartbeatIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        feedExecutor.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        // Opens the stream on the client straight away rather than at the first change
+        feedExecutor.execute(() -> send(subscriber, SseEmitter.event().comment("connected")));
+        return emitter;
+    }
+
+    public ChangeFeedStatsDTO getStats() {
+        return new ChangeFeedStatsDTO(subscribers.size(), received.get(), sent.get(), coalesced.get(),
+                overflowed.get());
+    }
+
+    @Order(CommitOrder.NOTIFICATIONS)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTestCaseChanged(TestCaseChangedEvent event) {
+        publish(new ChangeFeedEventDTO(EntityType.TEST_CASE, event.changeType(), event.testCaseId(), null, 1));
+    }
+
+    @Order(CommitOrder.NOTIFICATIONS)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTestCasesBulkChanged(TestCasesBulkChangedEvent event) {
+        publish(new ChangeFeedEventDTO(EntityType.TEST_CASE, null, null, event.operation(), event.affected()));
+    }
+
+    @Order(CommitOrder.NOTIFICATIONS)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        publish(new ChangeFeedEventDTO(EntityType.of(event.referenceType()), event.changeType(), event.id(), null, 1));
+    }
+
+    private void publish(ChangeFeedEventDTO change) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        received.incrementAndGet();
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.offer(change, bufferSize)) {
+                overflowed.incrementAndGet();
+            }
+        }
+        if (flushScheduled.compareAndSet(false, true)) {
+            feedExecutor.schedule(this::flush, coalesceWindowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        for (Subscriber subscriber : subscribers) {
+            for (ChangeFeedEventDTO event : coalesce(subscriber.drain())) {
+                if (!send(subscriber, SseEmitter.event().name("change").data(event, MediaType.APPLICATION_JSON))) {
+                    break;
+                }
+                sent.incrementAndGet();
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            send(subscriber, SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    private List<ChangeFeedEventDTO> coalesce(Pending pending) {
+        Map<EntityType, Map<Long, ChangeFeedEventDTO>> singles = new EnumMap<>(EntityType.class);
+        Map<BulkOperation, ChangeFeedEventDTO> bulk = new EnumMap<>(BulkOperation.class);
+        for (ChangeFeedEventDTO change : pending.changes()) {
+            if (change.getOperation() == null) {
+                singles.computeIfAbsent(change.getEntity(), type -> new LinkedHashMap<>())
+                        .merge(change.getId(), change, ChangeFeed::latest);
+            } else {
+                // Events are shared between subscribers, so merge into a new one
+                bulk.merge(change.getOperation(), change, (a, b) -> new ChangeFeedEventDTO(
+                        a.getEntity(), null, null, a.getOperation(), a.getCount() + b.getCount()));
+            }
+        }
+
+        List<ChangeFeedEventDTO> events = new ArrayList<>();
+        for (EntityType type : EntityType.values()) {
+            Map<Long, ChangeFeedEventDTO> byId = singles.getOrDefault(type, Map.of());
+            int dropped = pending.dropped().getOrDefault(type, 0);
+            if (byId.size() > coalesceThreshold || dropped > 0) {
+                events.add(new ChangeFeedEventDTO(type, null, null, null, byId.size() + dropped));
+                coalesced.addAndGet(byId.size());
+            } else {
+                events.addAll(byId.values());
+            }
+        }
+        events.addAll(bulk.values());
+        return events;
+    }
+
+    /** A record created and then updated within one window is still new to the client. */
+    private static ChangeFeedEventDTO latest(ChangeFeedEventDTO earlier, ChangeFeedEventDTO later) {
+        return earlier.getChange() == ChangeType.CREATED && later.getChange() == ChangeType.UPDATED ? earlier : later;
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter().send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client gone or emitter already completed; the container completes it
+            subscribers.remove(subscriber);
+            return false;
+        }
+    }
+
+    /** Buffered changes of one subscriber, plus per-type counts of those that did not fit. */
+    private record Pending(List<ChangeFeedEventDTO> changes, Map<EntityType, Integer> dropped) {
+    }
+
+    /**
+     * Compared by identity: the buffer changes while the subscriber sits in the set.
+     * Guarded by a lock rather than a monitor so that publishers on virtual
+     * threads do not pin their carrier while waiting for the feed thread.
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<ChangeFeedEventDTO> buffer = new ArrayList<>();
+        private final EnumMap<EntityType, Integer> dropped = new EnumMap<>(EntityType.class);
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        boolean offer(ChangeFeedEventDTO change, int capacity) {
+            lock.lock();
+            try {
+                if (buffer.size() < capacity) {
+                    buffer.add(change);
+                    return true;
+                }
+                dropped.merge(change.getEntity(), change.getCount(), Integer::sum);
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Pending drain() {
+            lock.lock();
+            try {
+                Pending pending = new Pending(new ArrayList<>(buffer), new EnumMap<>(dropped));
+                buffer.clear();
+                dropped.clear();
+                return pending;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.exception.ServerBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of API requests executing at once.
+ * <p>
+ * With virtual threads the servlet container accepts every request, and
+ * thousands of them would otherwise queue on the connection pool until its
+ * acquire timeout and fail there, holding memory the whole time. The limit
+ * keeps the excess waiting briefly in front of the handlers instead and
+ * answers 503 with {@code Retry-After} once it is exceeded for longer than
+ * {@code scriptsync.concurrency.acquire-timeout-ms}. A limit of 0 turns the
+ * check off.
+ * <p>
+ * An SSE stream returns its permit once it goes asynchronous, as it holds no
+ * connection while idle. A streamed export holds a pooled connection until
+ * its last row is written, so it keeps its permit until then, and also takes
+ * one of {@code scriptsync.concurrency.max-exports} permits (0 = no separate
+ * limit) so exports cannot occupy every connection.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scriptsync.concurrency.max-requests:0}")
+    private int maxRequests;
+
+    @Value("${scriptsync.concurrency.max-exports:0}")
+    private int maxExports;
+
+    @Value("${scriptsync.concurrency.acquire-timeout-ms:2000}")
+    private long acquireTimeoutMillis;
+
+    private Semaphore permits;
+    private Semaphore exportPermits;
+
+    @PostConstruct
+    void createPermits() {
+        if (maxRequests > 0) {
+            permits = new Semaphore(maxRequests, true);
+            meterRegistry.gauge("scriptsync.request.concurrency.available", permits, Semaphore::availablePermits);
+        }
+        if (maxExports > 0) {
+            exportPermits = new Semaphore(maxExports, true);
+            meterRegistry.gauge("scriptsync.request.concurrency.exports.available", exportPermits,
+                    Semaphore::availablePermits);
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        // The dispatch that completes an async request still holds the permit taken for it
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        Semaphore exports = isExport(handler) ? exportPermits : null;
+        if (permits == null && exports == null) {
+            return true;
+        }
+        if (permits != null && !acquire(permits)) {
+            throw new ServerBusyException("Too many concurrent requests, retry shortly", 1);
+        }
+        if (exports != null && !acquire(exports)) {
+            if (permits != null) {
+                permits.release();
+            }
+            throw new ServerBusyException("Too many concurrent exports, retry shortly", 5);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(permits, exports));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        if (isPushStream(handler)) {
+            release(request);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        release(request);
+    }
+
+    private boolean acquire(Semaphore semaphore) throws InterruptedException {
+        if (semaphore.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            return true;
+        }
+        meterRegistry.counter("scriptsync.request.concurrency.rejected").increment();
+        return false;
+    }
+
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.release();
+        }
+    }
+
+    private static boolean isExport(Object handler) {
+        return StreamingResponseBody.class.equals(bodyType(handler));
+    }
+
+    private static boolean isPushStream(Object handler) {
+        Class<?> body = bodyType(handler);
+        return body != null && SseEmitter.class.isAssignableFrom(body);
+    }
+
+    /** The handler's return type, unwrapped from {@code ResponseEntity}. */
+    private static Class<?> bodyType(Object handler) {
+        if (!(handler instanceof HandlerMethod method)) {
+            return null;
+        }
+        ResolvableType type = ResolvableType.forMethodParameter(method.getReturnType());
+        if (ResponseEntity.class.equals(type.resolve())) {
+            type = type.getGeneric(0);
+        }
+        return type.resolve();
+    }
+
+    /** The permits one request holds, returned at most once. */
+    private static final class Permit {
+        private final Semaphore request;
+        private final Semaphore export;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Semaphore request, Semaphore export) {
+            this.request = request;
+            this.export = export;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                if (request != null) {
+                    request.release();
+                }
+                if (export != null) {
+                    export.release();
+                }
+            }
+        }
+    }
+}
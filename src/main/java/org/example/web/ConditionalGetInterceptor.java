@@ -0,0 +1,71 @@
+package org.example.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Answers conditional GETs for {@link Versioned} handlers.
+ * <p>
+ * The ETag is computed from {@link DataVersions} before the handler runs, so
+ * an unchanged response costs neither a query nor serialization. Responses
+ * are marked {@code no-cache}: browsers keep them but revalidate on every use.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final DataVersions dataVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method)
+                || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+        Versioned versioned = method.getMethodAnnotation(Versioned.class);
+        if (versioned == null) {
+            return true;
+        }
+
+        String etag = dataVersions.etag(versioned.value());
+        boolean matched = matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag, versioned.gzip());
+        if (versioned.gzip()) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (ContentCodings.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                etag = ContentCodings.gzipEtag(etag);
+            }
+        }
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (matched) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * If-None-Match uses weak comparison: a W/ prefix on the client's tag is
+     * ignored. With {@code gzip}, the tag of either coding matches.
+     */
+    private static boolean matches(String ifNoneMatch, String etag, boolean gzip) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag) || gzip && tag.equals(ContentCodings.gzipEtag(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.web;
+
+import java.util.Locale;
+
+/**
+ * Accept-Encoding negotiation for handlers that send pre-compressed bodies.
+ */
+public final class ContentCodings {
+
+    /** Added inside the quotes of an ETag for the gzip-encoded representation. */
+    public static final String GZIP_ETAG_SUFFIX = "-gz";
+
+    private ContentCodings() {
+    }
+
+    /**
+     * Whether {@code acceptEncoding} accepts gzip with a non-zero q-value,
+     * named directly or through {@code *}. An explicit gzip entry wins over
+     * the wildcard.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = quality(parts);
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = q;
+            } else if (coding.equals("*")) {
+                wildcard = q;
+            }
+        }
+        if (gzip != null) {
+            return gzip > 0;
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    /** The ETag of the gzip-encoded representation of the one tagged {@code etag}. */
+    public static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
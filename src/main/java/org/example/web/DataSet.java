@@ -0,0 +1,28 @@
+package org.example.web;
+
+import org.example.event.ReferenceType;
+
+/**
+ * Groups of rows whose version {@link DataVersions} tracks; one per table a
+ * response can be built from.
+ */
+public enum DataSet {
+    TEST_CASES,
+    MODULES,
+    SUB_MODULES,
+    PRIORITIES,
+    AUTOMATION_STATUSES,
+    AUTOMATED_BY,
+    TAGS;
+
+    public static DataSet of(ReferenceType type) {
+        return switch (type) {
+            case MODULE -> MODULES;
+            case SUB_MODULE -> SUB_MODULES;
+            case PRIORITY -> PRIORITIES;
+            case AUTOMATION_STATUS -> AUTOMATION_STATUSES;
+            case AUTOMATED_BY -> AUTOMATED_BY;
+            case TAG -> TAGS;
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.web;
+
+import org.example.event.CommitOrder;
+import org.example.event.DashboardCountsRepairedEvent;
+import org.example.event.ReferenceDataChangedEvent;
+import org.example.event.TestCaseChangedEvent;
+import org.example.event.TestCasesBulkChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory version counter per {@link DataSet}, bumped after every committed
+ * write, from which ETags are built without touching the database.
+ * <p>
+ * Every bump raises exactly one counter by one, so the sum over any group of
+ * data sets changes whenever one of them does. Counters restart at zero with
+ * the process, so ETags also carry a per-process epoch.
+ * <p>
+ * The listeners run at {@link CommitOrder#VERSIONS}, after the caches and
+ * counters they guard are updated, so a new ETag is never paired with an old
+ * body.
+ */
+@Component
+public class DataVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<DataSet, AtomicLong> versions = new EnumMap<>(DataSet.class);
+
+    public DataVersions() {
+        for (DataSet dataSet : DataSet.values()) {
+            versions.put(dataSet, new AtomicLong());
+        }
+    }
+
+    /**
+     * Returns a strong ETag for a response built from the given data sets, or
+     * from every data set when none are given. Must be read before the data is.
+     */
+    public String etag(DataSet... dataSets) {
+        long sum = 0;
+        for (DataSet dataSet : dataSets.length == 0 ? DataSet.values() : dataSets) {
+            sum += versions.get(dataSet).get();
+        }
+        return "\"" + epoch + "-" + sum + "\"";
+    }
+
+    @Order(CommitOrder.VERSIONS)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTestCaseChanged(TestCaseChangedEvent event) {
+        bump(DataSet.TEST_CASES);
+    }
+
+    @Order(CommitOrder.VERSIONS)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTestCasesBulkChanged(TestCasesBulkChangedEvent event) {
+        bump(DataSet.TEST_CASES);
+    }
+
+    @Order(CommitOrder.VERSIONS)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReferenceDataChanged(ReferenceDataChangedEvent event) {
+        bump(DataSet.of(event.referenceType()));
+    }
+
+    /** The dashboard is built from test case counts; repaired counts must not be revalidated as current. */
+    @EventListener
+    public void onDashboardCountsRepaired(DashboardCountsRepairedEvent event) {
+        bump(DataSet.TEST_CASES);
+    }
+
+    private void bump(DataSet dataSet) {
+        versions.get(dataSet).incrementAndGet();
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET handler whose response is fully determined by its URL and the
+ * given data sets (every data set when empty). Such responses carry an ETag
+ * derived from the data set versions, and a matching {@code If-None-Match}
+ * is answered with 304 before the handler runs.
+ * <p>
+ * Handlers that send a gzip body when {@link ContentCodings#acceptsGzip} set
+ * {@link #gzip()}: that representation is tagged with a {@code -gz} suffix,
+ * and both forms are varied on {@code Accept-Encoding}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Versioned {
+    DataSet[] value() default {};
+
+    /** The handler answers gzip-encoded to clients that accept it. */
+    boolean gzip() default false;
+}
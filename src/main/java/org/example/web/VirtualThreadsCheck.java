@@ -0,0 +1,58 @@
+package org.example.web;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Reports at startup whether requests run on virtual threads.
+ * <p>
+ * {@code spring.threads.virtual.enabled} is silently ignored below Java 21,
+ * so a deployment that asks for it on an older runtime is warned about here.
+ * When virtual threads are active the connection pool is the real bound on
+ * concurrent database work; running without a request concurrency limit is
+ * warned about as well.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VirtualThreadsCheck {
+
+    private static final int VIRTUAL_THREADS_MIN_JAVA = 21;
+
+    private final DataSource dataSource;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean requested;
+
+    @Value("${scriptsync.concurrency.max-requests:0}")
+    private int maxRequests;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        if (!requested) {
+            return;
+        }
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < VIRTUAL_THREADS_MIN_JAVA) {
+            log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; "
+                    + "requests run on the platform thread pool", javaVersion);
+            return;
+        }
+        String poolSize = dataSource instanceof HikariDataSource hikari
+                ? Integer.toString(hikari.getMaximumPoolSize()) : "unknown";
+        if (maxRequests <= 0) {
+            log.warn("Requests run on virtual threads without scriptsync.concurrency.max-requests; "
+                    + "excess requests will queue on the {} database connections", poolSize);
+        } else {
+            log.info("Requests run on virtual threads: {} concurrent API requests, {} database connections",
+                    maxRequests, poolSize);
+        }
+    }
+}
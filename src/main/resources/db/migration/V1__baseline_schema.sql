@@ -0,0 +1,111 @@
+-- Baseline schema, matching the JPA mappings (validated with ddl-auto=validate).
+
+CREATE SEQUENCE test_cases_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE modules (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT uk_modules_name UNIQUE (name)
+);
+
+CREATE TABLE sub_modules (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    module_id   BIGINT NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE test_case_priorities (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    level       INTEGER,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT uk_test_case_priorities_name UNIQUE (name)
+);
+
+CREATE TABLE automation_statuses (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT uk_automation_statuses_name UNIQUE (name)
+);
+
+CREATE TABLE automated_by (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    email       VARCHAR(255),
+    team        VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE tags (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    color       VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT uk_tags_name UNIQUE (name)
+);
+
+CREATE TABLE test_cases (
+    id                    BIGINT NOT NULL PRIMARY KEY,
+    testcase_id           VARCHAR(255) NOT NULL,
+    module_id             BIGINT NOT NULL,
+    sub_module_id         BIGINT,
+    test_case_description TEXT NOT NULL,
+    pre_conditions        TEXT,
+    test_script           TEXT NOT NULL,
+    expected_result       TEXT NOT NULL,
+    priority_id           BIGINT NOT NULL,
+    automation_status_id  BIGINT NOT NULL,
+    automated_by_id       BIGINT,
+    automation_comments   TEXT,
+    clubbed_tc_id         VARCHAR(255),
+    created_at            TIMESTAMP(6),
+    updated_at            TIMESTAMP(6),
+    CONSTRAINT uk_test_cases_testcase_id UNIQUE (testcase_id)
+);
+
+CREATE TABLE test_case_tags (
+    tag_id       BIGINT NOT NULL,
+    test_case_id BIGINT NOT NULL,
+    PRIMARY KEY (test_case_id, tag_id)
+);
+
+-- One index per query path in TestCaseRepository and SubModuleRepository.
+-- Created before the foreign keys so the constraints use them rather than
+-- getting implicit single-column indexes of their own.
+--   findByModuleId, module filter and keyset pages within a module
+CREATE INDEX idx_test_cases_module ON test_cases (module_id, id);
+--   findBySubModuleId and sub-module filter
+CREATE INDEX idx_test_cases_sub_module ON test_cases (sub_module_id, id);
+--   findByPriorityId and priority filter
+CREATE INDEX idx_test_cases_priority ON test_cases (priority_id, id);
+--   findByAutomationStatusId and status filter
+CREATE INDEX idx_test_cases_automation_status ON test_cases (automation_status_id, id);
+--   automated-by filter
+CREATE INDEX idx_test_cases_automated_by ON test_cases (automated_by_id, id);
+--   findByTagId, tag filter and bulk tag assignment; lookups by test case use the primary key
+CREATE INDEX idx_test_case_tags_tag ON test_case_tags (tag_id, test_case_id);
+--   SubModuleRepository.findByModuleId
+CREATE INDEX idx_sub_modules_module ON sub_modules (module_id, id);
+
+ALTER TABLE sub_modules ADD CONSTRAINT fk_sub_modules_module FOREIGN KEY (module_id) REFERENCES modules (id);
+ALTER TABLE test_cases ADD CONSTRAINT fk_test_cases_module FOREIGN KEY (module_id) REFERENCES modules (id);
+ALTER TABLE test_cases ADD CONSTRAINT fk_test_cases_sub_module FOREIGN KEY (sub_module_id) REFERENCES sub_modules (id);
+ALTER TABLE test_cases ADD CONSTRAINT fk_test_cases_priority FOREIGN KEY (priority_id) REFERENCES test_case_priorities (id);
+ALTER TABLE test_cases ADD CONSTRAINT fk_test_cases_automation_status FOREIGN KEY (automation_status_id) REFERENCES automation_statuses (id);
+ALTER TABLE test_cases ADD CONSTRAINT fk_test_cases_automated_by FOREIGN KEY (automated_by_id) REFERENCES automated_by (id);
+ALTER TABLE test_case_tags ADD CONSTRAINT fk_test_case_tags_tag FOREIGN KEY (tag_id) REFERENCES tags (id);
+ALTER TABLE test_case_tags ADD CONSTRAINT fk_test_case_tags_test_case FOREIGN KEY (test_case_id) REFERENCES test_cases (id);
@@ -0,0 +1,21 @@
+-- Commit-ordered log of writes behind the delta sync endpoints
+
+create table change_log (
+    seq bigint not null,
+    entity_type varchar(32) not null,
+    entity_id bigint not null,
+    change_type varchar(16) not null,
+    changed_at timestamp(6) not null,
+    constraint pk_change_log primary key (seq)
+);
+
+create index idx_change_log_entity_type on change_log (entity_type, seq);
+
+-- Single row holding the cursor epoch and the sequence high-water marks
+create table change_log_head (
+    id integer not null,
+    epoch varchar(32) not null,
+    last_seq bigint not null,
+    purged_seq bigint not null,
+    constraint pk_change_log_head primary key (id)
+);
@@ -0,0 +1,16 @@
+-- Version history of test cases: keyframes and deltas written by single updates
+
+create table test_case_versions (
+    id bigint generated by default as identity,
+    test_case_id bigint not null,
+    version integer not null,
+    keyframe_version integer not null,
+    kind varchar(16) not null,
+    changed_fields varchar(512) not null,
+    state_hash bigint not null,
+    payload blob not null,
+    payload_size integer not null,
+    changed_at timestamp(6) not null,
+    constraint pk_test_case_versions primary key (id),
+    constraint uk_test_case_versions_version unique (test_case_id, version)
+);
@@ -14,8 +14,40 @@ let testCases = [];
 document.addEventListener('DOMContentLoaded', () => {
     initializeTabs();
     loadAllData();
+    subscribeToChanges();
 });
 
+// Live Updates: reload only what other users changed, at most once per burst
+const changeLoaders = {
+    MODULE: [loadModules, renderDashboard],
+    SUB_MODULE: [loadSubModules, renderDashboard],
+    PRIORITY: [loadPriorities],
+    AUTOMATION_STATUS: [loadStatuses],
+    AUTOMATED_BY: [loadUsers],
+    TAG: [loadTags],
+    TEST_CASE: [loadTestCases, renderDashboard]
+};
+const pendingLoaders = new Set();
+let pendingReloadTimer = null;
+
+function subscribeToChanges() {
+    if (!window.EventSource) return;
+    // EventSource reconnects on its own after errors and server timeouts
+    const source = new EventSource(`${API_URL}/feed`);
+    source.addEventListener('change', event => {
+        const change = JSON.parse(event.data);
+        (changeLoaders[change.entity] || []).forEach(loader => pendingLoaders.add(loader));
+        if (!pendingReloadTimer) {
+            pendingReloadTimer = setTimeout(() => {
+                const loaders = [...pendingLoaders];
+                pendingLoaders.clear();
+                pendingReloadTimer = null;
+                loaders.forEach(loader => loader());
+            }, 500);
+        }
+    });
+}
+
 // Tab Navigation
 function initializeTabs() {
     const tabBtns = document.querySelectorAll('.tab-btn');
@@ -45,22 +77,36 @@ function switchTab(tabName) {
 async function loadAllData() {
     try {
         await Promise.all([
-            loadModules(),
-            loadSubModules(),
-            loadPriorities(),
-            loadStatuses(),
-            loadUsers(),
-            loadTags(),
-            loadTestCases()
+            loadReferenceData(),
+            loadTestCases(),
+            renderDashboard()
         ]);
-        // Render dashboard after all data is loaded
-        renderDashboard();
     } catch (error) {
         console.error('Error loading data:', error);
         showAlert('Error loading data. Please refresh the page.', 'error');
     }
 }
 
+// All lookup lists in one request, served from a pre-compressed server-side cache
+async function loadReferenceData() {
+    const response = await fetch(`${API_URL}/bootstrap`);
+    const data = await response.json();
+    modules = data.modules;
+    subModules = data.subModules;
+    priorities = data.priorities;
+    statuses = data.automationStatuses;
+    users = data.automatedBy;
+    tags = data.tags;
+    renderModules();
+    updateModuleFilters();
+    renderSubModules();
+    renderPriorities();
+    renderStatuses();
+    updateStatusFilters();
+    renderUsers();
+    renderTags();
+}
+
 // API Calls - Modules
 async function loadModules() {
     try {
@@ -448,8 +494,17 @@ async function deleteTag(id) {
 // API Calls - Test Cases
 async function loadTestCases() {
     try {
-        const response = await fetch(`${API_URL}/testcases`);
-        testCases = await response.json();
+        // Walk the keyset-paginated listing page by page
+        const loaded = [];
+        let cursor = null;
+        do {
+            const query = cursor ? `?limit=1000&cursor=${encodeURIComponent(cursor)}` : '?limit=1000';
+            const response = await fetch(`${API_URL}/testcases${query}`);
+            const page = await response.json();
+            loaded.push(...page.items);
+            cursor = page.nextCursor;
+        } while (cursor);
+        testCases = loaded;
         renderTestCases();
     } catch (error) {
         console.error('Error loading test cases:', error);
@@ -459,7 +514,7 @@ async function loadTestCases() {
 function renderTestCases() {
     const tbody = document.getElementById('testCaseTableBody');
     if (testCases.length === 0) {
-        tbody.innerHTML = '<tr><td colspan="14" class="empty-state"><div class="empty-state-icon">📝</div><p class="empty-state-text">No test cases found. Create your first test case!</p></td></tr>';
+        tbody.innerHTML = '<tr><td colspan="10" class="empty-state"><div class="empty-state-icon">📝</div><p class="empty-state-text">No test cases found. Create your first test case!</p></td></tr>';
         return;
     }
     tbody.innerHTML = testCases.map(tc => `
@@ -468,13 +523,9 @@ function renderTestCases() {
             <td>${tc.moduleName}</td>
             <td>${tc.subModuleName || '-'}</td>
             <td title="${tc.testCaseDescription}">${tc.testCaseDescription.substring(0, 50)}${tc.testCaseDescription.length > 50 ? '...' : ''}</td>
-            <td title="${tc.preConditions || ''}">${tc.preConditions ? (tc.preConditions.substring(0, 30) + (tc.preConditions.length > 30 ? '...' : '')) : '-'}</td>
-            <td title="${tc.testScript}">${tc.testScript.substring(0, 50)}${tc.testScript.length > 50 ? '...' : ''}</td>
-            <td title="${tc.expectedResult}">${tc.expectedResult.substring(0, 50)}${tc.expectedResult.length > 50 ? '...' : ''}</td>
             <td><span class="tag tag-warning">${tc.priorityName}</span></td>
             <td><span class="tag tag-primary">${tc.automationStatusName}</span></td>
             <td>${tc.automatedByName || '-'}</td>
-            <td title="${tc.automationComments || ''}">${tc.automationComments ? (tc.automationComments.substring(0, 30) + (tc.automationComments.length > 30 ? '...' : '')) : '-'}</td>
             <td>${tc.clubbedTcId || '-'}</td>
             <td>${tc.tagNames ? tc.tagNames.map(t => `<span class="tag tag-success">${t}</span>`).join(' ') : '-'}</td>
             <td style="white-space: nowrap;">
@@ -907,13 +958,23 @@ function handleTestCaseSubmit(event) {
     saveTestCase(testCaseData);
 }
 
-function editTestCase(id) {
-    const testCase = testCases.find(tc => tc.id === id);
+// The list holds summaries only; the text columns come with the full test case
+async function fetchTestCase(id) {
+    const response = await fetch(`${API_URL}/testcases/${id}`);
+    if (!response.ok) {
+        showAlert('Error loading test case', 'error');
+        return null;
+    }
+    return response.json();
+}
+
+async function editTestCase(id) {
+    const testCase = await fetchTestCase(id);
     if (testCase) openTestCaseModal(testCase);
 }
 
-function viewTestCase(id) {
-    const tc = testCases.find(t => t.id === id);
+async function viewTestCase(id) {
+    const tc = await fetchTestCase(id);
     if (!tc) return;
 
     const content = `
@@ -1003,20 +1064,30 @@ document.head.appendChild(style);
 // Dashboard Functions
 let dashboardCharts = {}; // Store chart instances
 
-function renderDashboard() {
-    if (testCases.length === 0) {
+async function renderDashboard() {
+    // Counts are aggregated server-side; only the chart data is transferred
+    let dashboard;
+    try {
+        const response = await fetch(`${API_URL}/dashboard`);
+        dashboard = await response.json();
+    } catch (error) {
+        console.error('Error loading dashboard:', error);
+        return;
+    }
+
+    if (dashboard.totalTestCases === 0) {
         renderEmptyDashboard();
         return;
     }
 
     // Update summary cards
-    updateSummaryCards();
+    updateSummaryCards(dashboard);
 
     // Render all charts
-    renderStatusOverviewChart();
-    renderPriorityOverviewChart();
-    renderSubModuleStatusChart();
-    renderSubModulePriorityChart();
+    renderStatusOverviewChart(dashboard.byStatus);
+    renderPriorityOverviewChart(dashboard.byPriority);
+    renderSubModuleStatusChart(dashboard.subModuleByStatus);
+    renderSubModulePriorityChart(dashboard.subModuleByPriority);
 }
 
 function renderEmptyDashboard() {
@@ -1026,29 +1097,22 @@ function renderEmptyDashboard() {
     document.getElementById('automationRate').textContent = '0%';
 }
 
-function refreshDashboard() {
+async function refreshDashboard() {
     // Destroy existing charts
     Object.values(dashboardCharts).forEach(chart => {
         if (chart) chart.destroy();
     });
     dashboardCharts = {};
 
-    renderDashboard();
+    await renderDashboard();
     showAlert('Dashboard refreshed!', 'success');
 }
 
-function updateSummaryCards() {
-    document.getElementById('totalTestCases').textContent = testCases.length;
-    document.getElementById('totalModules').textContent = modules.length;
-    document.getElementById('totalSubModules').textContent = subModules.length;
-
-    // Calculate automation rate
-    const automatedStatuses = ['Automated', 'Completed'];
-    const automatedCount = testCases.filter(tc =>
-        automatedStatuses.some(status => tc.automationStatusName.toLowerCase().includes(status.toLowerCase()))
-    ).length;
-    const rate = testCases.length > 0 ? ((automatedCount / testCases.length) * 100).toFixed(1) : 0;
-    document.getElementById('automationRate').textContent = rate + '%';
+function updateSummaryCards(dashboard) {
+    document.getElementById('totalTestCases').textContent = dashboard.totalTestCases;
+    document.getElementById('totalModules').textContent = dashboard.totalModules;
+    document.getElementById('totalSubModules').textContent = dashboard.totalSubModules;
+    document.getElementById('automationRate').textContent = dashboard.automationRate.toFixed(1) + '%';
 }
 
 // Color palettes - Unique colors for each value
@@ -1116,18 +1180,12 @@ function getColor(name, colorMap) {
 }
 
 // Automation Status Overview - Donut Chart
-function renderStatusOverviewChart() {
+function renderStatusOverviewChart(statusCounts) {
     const ctx = document.getElementById('statusOverviewChart');
     if (!ctx) return;
 
-    const statusCounts = {};
-    testCases.forEach(tc => {
-        const status = tc.automationStatusName;
-        statusCounts[status] = (statusCounts[status] || 0) + 1;
-    });
-
-    const labels = Object.keys(statusCounts);
-    const data = Object.values(statusCounts);
+    const labels = statusCounts.map(entry => entry.name);
+    const data = statusCounts.map(entry => entry.count);
     const colors = labels.map(label => getColor(label, statusColors));
 
     if (dashboardCharts.statusOverview) dashboardCharts.statusOverview.destroy();
@@ -1169,18 +1227,12 @@ function renderStatusOverviewChart() {
 }
 
 // Priority Overview - Donut Chart
-function renderPriorityOverviewChart() {
+function renderPriorityOverviewChart(priorityCounts) {
     const ctx = document.getElementById('priorityOverviewChart');
     if (!ctx) return;
 
-    const priorityCounts = {};
-    testCases.forEach(tc => {
-        const priority = tc.priorityName;
-        priorityCounts[priority] = (priorityCounts[priority] || 0) + 1;
-    });
-
-    const labels = Object.keys(priorityCounts);
-    const data = Object.values(priorityCounts);
+    const labels = priorityCounts.map(entry => entry.name);
+    const data = priorityCounts.map(entry => entry.count);
     const colors = labels.map(label => getColor(label, priorityColors));
 
     if (dashboardCharts.priorityOverview) dashboardCharts.priorityOverview.destroy();
@@ -1223,29 +1275,15 @@ function renderPriorityOverviewChart() {
 
 
 // Sub-Module by Automation Status - Horizontal Bar Chart
-function renderSubModuleStatusChart() {
+function renderSubModuleStatusChart(breakdown) {
     const ctx = document.getElementById('subModuleStatusChart');
     if (!ctx) return;
 
-    const subModuleStats = {};
-    const allStatuses = new Set();
-
-    testCases.forEach(tc => {
-        const subModuleName = tc.subModuleName || 'No Sub-Module';
-        const statusName = tc.automationStatusName;
-
-        if (!subModuleStats[subModuleName]) subModuleStats[subModuleName] = {};
-        subModuleStats[subModuleName][statusName] = (subModuleStats[subModuleName][statusName] || 0) + 1;
-        allStatuses.add(statusName);
-    });
-
-    const subModules = Object.keys(subModuleStats).sort();
-    const statuses = Array.from(allStatuses);
-
-    const datasets = statuses.map(status => ({
-        label: status,
-        data: subModules.map(sm => subModuleStats[sm][status] || 0),
-        backgroundColor: getColor(status, statusColors),
+    const subModules = breakdown.labels;
+    const datasets = breakdown.series.map(series => ({
+        label: series.name,
+        data: series.data,
+        backgroundColor: getColor(series.name, statusColors),
         borderWidth: 1,
         borderColor: '#ffffff'
     }));
@@ -1286,29 +1324,15 @@ function renderSubModuleStatusChart() {
 }
 
 // Sub-Module by Priority - Horizontal Bar Chart
-function renderSubModulePriorityChart() {
+function renderSubModulePriorityChart(breakdown) {
     const ctx = document.getElementById('subModulePriorityChart');
     if (!ctx) return;
 
-    const subModuleStats = {};
-    const allPriorities = new Set();
-
-    testCases.forEach(tc => {
-        const subModuleName = tc.subModuleName || 'No Sub-Module';
-        const priorityName = tc.priorityName;
-
-        if (!subModuleStats[subModuleName]) subModuleStats[subModuleName] = {};
-        subModuleStats[subModuleName][priorityName] = (subModuleStats[subModuleName][priorityName] || 0) + 1;
-        allPriorities.add(priorityName);
-    });
-
-    const subModules = Object.keys(subModuleStats).sort();
-    const priorities = Array.from(allPriorities);
-
-    const datasets = priorities.map(priority => ({
-        label: priority,
-        data: subModules.map(sm => subModuleStats[sm][priority] || 0),
-        backgroundColor: getColor(priority, priorityColors),
+    const subModules = breakdown.labels;
+    const datasets = breakdown.series.map(series => ({
+        label: series.name,
+        data: series.data,
+        backgroundColor: getColor(series.name, priorityColors),
         borderWidth: 1,
         borderColor: '#ffffff'
     }));
@@ -1392,7 +1416,7 @@ function openImportModal() {
         <form onsubmit="handleImportSubmit(event)" id="importForm">
             <div class="form-group">
                 <label class="form-label">Upload CSV or Excel File</label>
-                <input type="file" class="form-input" id="importFile" accept=".csv,.xlsx,.xls" required>
+                <input type="file" class="form-input" id="importFile" accept=".csv,.xlsx" required>
                 <p style="font-size: 0.85rem; color: var(--text-secondary); margin-top: 0.5rem;">
                     📋 The file should contain these columns in order:<br>
                     <strong>Testcase ID, Module, Sub Module/ Functionality, Test Case Description,
@@ -1478,61 +1502,13 @@ function downloadTemplate() {
     showAlert('Template downloaded successfully!', 'success');
 }
 
-function exportTestCases() {
-    if (testCases.length === 0) {
-        showAlert('No test cases to export', 'error');
-        return;
-    }
-
-    const headers = [
-        'Testcase ID',
-        'Module',
-        'Sub Module/ Functionality',
-        'Test Case Description',
-        'Pre-Conditions/Test Data',
-        'Test Script / Actions',
-        'Expected Result',
-        'Test Case Priority',
-        'Automation Status',
-        'Automated By',
-        'Automation Comments',
-        'Clubbed TC ID',
-        'Tags'
-    ];
-
-    const rows = testCases.map(tc => [
-        tc.testcaseId,
-        tc.moduleName,
-        tc.subModuleName || '',
-        tc.testCaseDescription,
-        tc.preConditions || '',
-        tc.testScript,
-        tc.expectedResult,
-        tc.priorityName,
-        tc.automationStatusName,
-        tc.automatedByName || '',
-        tc.automationComments || '',
-        tc.clubbedTcId || '',
-        tc.tagNames ? tc.tagNames.join(', ') : ''
-    ]);
-
-    const csvContent = [
-        headers.join(','),
-        ...rows.map(row => row.map(cell => `"${String(cell).replace(/"/g, '""')}"`).join(','))
-    ].join('\n');
-
-    const blob = new Blob([csvContent], { type: 'text/csv' });
-    const url = window.URL.createObjectURL(blob);
+function exportTestCases(format = 'csv') {
+    // Streamed by the server; the browser saves it straight to disk
     const a = document.createElement('a');
-    a.href = url;
-    const timestamp = new Date().toISOString().split('T')[0];
-    a.download = `testcases_export_${timestamp}.csv`;
+    a.href = `${API_URL}/testcases/export?format=${format}`;
     document.body.appendChild(a);
     a.click();
     document.body.removeChild(a);
-    window.URL.revokeObjectURL(url);
-
-    showAlert(`Successfully exported ${testCases.length} test cases!`, 'success');
 }
 
 async function handleImportSubmit(event) {
@@ -1546,79 +1522,56 @@ async function handleImportSubmit(event) {
         return;
     }
 
+    const fileName = file.name.toLowerCase();
+    if (!fileName.endsWith('.csv') && !fileName.endsWith('.xlsx')) {
+        showAlert('Unsupported file format. Please use CSV or Excel (.xlsx) files.', 'error');
+        return;
+    }
+
     const progressDiv = document.getElementById('importProgress');
     const statusText = document.getElementById('importStatus');
     const progressBar = document.getElementById('importProgressBar');
 
     progressDiv.style.display = 'block';
-    statusText.textContent = 'Reading file...';
-    progressBar.style.width = '10%';
+    statusText.textContent = `Uploading and importing ${file.name}...`;
+    progressBar.style.width = '30%';
 
     try {
-        let data;
-        const fileName = file.name.toLowerCase();
-
-        statusText.textContent = `Parsing ${file.name}...`;
-
-        if (fileName.endsWith('.csv')) {
-            data = await parseCSV(file, skipFirstRow);
-        } else if (fileName.endsWith('.xlsx') || fileName.endsWith('.xls')) {
-            data = await parseExcel(file, skipFirstRow);
-        } else {
-            throw new Error('Unsupported file format. Please use CSV or Excel files.');
-        }
-
-        if (!data || data.length === 0) {
-            throw new Error('No data found in file. Please check the file format.');
-        }
-
-        statusText.textContent = `Found ${data.length} rows. Processing...`;
-        progressBar.style.width = '20%';
-
-        // Validate that we have enough columns
-        const validRows = data.filter(row => row && row.length >= 7);
-        if (validRows.length === 0) {
-            throw new Error('No valid rows found. Each row must have at least 7 columns (Testcase ID through Expected Result).');
-        }
-
-        if (validRows.length < data.length) {
-            statusText.textContent = `Warning: ${data.length - validRows.length} rows skipped (insufficient columns). Processing ${validRows.length} rows...`;
-        }
+        // Parsing, reference data resolution and persistence all happen server-side
+        const formData = new FormData();
+        formData.append('file', file);
 
-        progressBar.style.width = '30%';
-
-        // Import test cases
-        let successCount = 0;
-        let errorCount = 0;
-        const errors = [];
-
-        for (let i = 0; i < validRows.length; i++) {
-            try {
-                statusText.textContent = `Importing ${i + 1} of ${validRows.length}... (${successCount} successful, ${errorCount} failed)`;
-                await importTestCase(validRows[i]);
-                successCount++;
-            } catch (error) {
-                console.error(`Error importing row ${i + 1}:`, error);
-                errorCount++;
-                errors.push({ row: i + 1, testcaseId: validRows[i][0], error: error.message });
-            }
-            progressBar.style.width = `${30 + (i + 1) / validRows.length * 60}%`;
+        const response = await fetch(`${API_URL}/testcases/import?skipHeader=${skipFirstRow}`, {
+            method: 'POST',
+            body: formData
+        });
+        if (!response.ok) {
+            const error = await response.json().catch(() => ({ message: 'Import request failed' }));
+            throw new Error(error.message);
         }
+        const result = await response.json();
 
-        progressBar.style.width = '95%';
+        progressBar.style.width = '90%';
         statusText.textContent = 'Refreshing data...';
 
         await loadAllData();
 
         progressBar.style.width = '100%';
 
+        const successCount = result.created + result.updated;
+        const errorCount = result.failed;
+        const errors = result.errors;
+        if (errors.length > 0) {
+            console.error('Import errors:', errors);
+        }
+
         // Show detailed results
-        let resultMessage = `Import complete! ${successCount} successful, ${errorCount} failed.`;
+        let resultMessage = `Import complete! ${result.created} created, ${result.updated} updated, ${errorCount} failed.`;
         if (errors.length > 0 && errors.length <= 5) {
-            resultMessage += '\n\nErrors:\n' + errors.map(e => `Row ${e.row} (${e.testcaseId}): ${e.error}`).join('\n');
+            resultMessage += '\n\nErrors:\n' + errors.map(e => `Row ${e.row} (${e.testcaseId}): ${e.message}`).join('\n');
         } else if (errors.length > 5) {
             resultMessage += `\n\nShowing first 5 errors:\n` +
-                errors.slice(0, 5).map(e => `Row ${e.row} (${e.testcaseId}): ${e.error}`).join('\n') +
+                errors.slice(0, 5).map(e => `Row ${e.row} (${e.testcaseId}): ${e.message}`).join('\n') +
                 `\n... and ${errors.length - 5} more errors. Check console for details.`;
         }
 
@@ -1641,374 +1594,3 @@ async function handleImportSubmit(event) {
         showAlert('Error importing file: ' + error.message, 'error');
     }
 }
-
-async function parseCSV(file, skipFirstRow) {
-    return new Promise((resolve, reject) => {
-        const reader = new FileReader();
-        reader.onload = (e) => {
-            try {
-                const text = e.target.result;
-                const rows = [];
-                let currentRow = [];
-                let currentCell = '';
-                let insideQuotes = false;
-                let i = 0;
-
-                while (i < text.length) {
-                    const char = text[i];
-                    const nextChar = text[i + 1];
-
-                    if (char === '"') {
-                        if (insideQuotes && nextChar === '"') {
-                            // Escaped quote - add single quote to cell
-                            currentCell += '"';
-                            i += 2;
-                            continue;
-                        } else {
-                            // Toggle quote state
-                            insideQuotes = !insideQuotes;
-                            i++;
-                            continue;
-                        }
-                    }
-
-                    if (!insideQuotes && char === ',') {
-                        // End of cell
-                        currentRow.push(currentCell.trim());
-                        currentCell = '';
-                        i++;
-                        continue;
-                    }
-
-                    if (!insideQuotes && (char === '\n' || (char === '\r' && nextChar === '\n'))) {
-                        // End of row
-                        if (currentCell || currentRow.length > 0) {
-                            currentRow.push(currentCell.trim());
-                            if (currentRow.some(cell => cell !== '')) {
-                                rows.push(currentRow);
-                            }
-                            currentRow = [];
-                            currentCell = '';
-                        }
-                        i += (char === '\r' && nextChar === '\n') ? 2 : 1;
-                        continue;
-                    }
-
-                    // Add character to current cell
-                    currentCell += char;
-                    i++;
-                }
-
-                // Handle last cell/row if exists
-                if (currentCell || currentRow.length > 0) {
-                    currentRow.push(currentCell.trim());
-                    if (currentRow.some(cell => cell !== '')) {
-                        rows.push(currentRow);
-                    }
-                }
-
-                // Remove header row if requested
-                const startIndex = skipFirstRow ? 1 : 0;
-                const dataRows = rows.slice(startIndex).filter(row =>
-                    row && row.length > 0 && row.some(cell => cell)
-                );
-
-                console.log(`Parsed ${dataRows.length} rows from CSV`);
-                resolve(dataRows);
-            } catch (error) {
-                console.error('CSV parsing error:', error);
-                reject(new Error('Failed to parse CSV: ' + error.message));
-            }
-        };
-        reader.onerror = () => reject(new Error('Failed to read CSV file'));
-        reader.readAsText(file, 'UTF-8');
-    });
-}
-
-async function parseExcel(file, skipFirstRow) {
-    return new Promise((resolve, reject) => {
-        const reader = new FileReader();
-        reader.onload = (e) => {
-            try {
-                const data = new Uint8Array(e.target.result);
-                const workbook = XLSX.read(data, { type: 'array' });
-
-                // Get first sheet
-                const firstSheetName = workbook.SheetNames[0];
-                const worksheet = workbook.Sheets[firstSheetName];
-
-                // Convert to array of arrays
-                const jsonData = XLSX.utils.sheet_to_json(worksheet, { header: 1 });
-
-                const startIndex = skipFirstRow ? 1 : 0;
-                const rows = jsonData.slice(startIndex).filter(row =>
-                    row && row.length > 0 && row.some(cell => cell !== null && cell !== undefined && cell !== '')
-                );
-
-                resolve(rows);
-            } catch (error) {
-                reject(new Error('Failed to parse Excel file: ' + error.message));
-            }
-        };
-        reader.onerror = () => reject(new Error('Failed to read Excel file'));
-        reader.readAsArrayBuffer(file);
-    });
-}
-
-async function importTestCase(rowData) {
-    // Map CSV/Excel columns to test case object
-    // Expected order: Testcase ID, Module, Sub Module, Description, Pre-Conditions,
-    // Test Script, Expected Result, Priority, Status, Automated By, Comments, Clubbed TC ID, Tags
-
-    if (!rowData || rowData.length < 7) {
-        throw new Error('Invalid row format - minimum required: Testcase ID, Module, Sub Module, Description, Pre-Conditions, Test Script, Expected Result');
-    }
-
-    // Ensure all values are strings and handle null/undefined
-    const cleanData = rowData.map(cell => {
-        if (cell === null || cell === undefined) return '';
-        return String(cell).trim();
-    });
-
-    // Pad array to ensure we have all 13 columns
-    while (cleanData.length < 13) {
-        cleanData.push('');
-    }
-
-    // Required fields validation with better error messages
-    if (!cleanData[0]) throw new Error('Testcase ID is required (Column 1)');
-    if (!cleanData[1]) throw new Error('Module is required (Column 2)');
-    if (!cleanData[3]) throw new Error('Test Case Description is required (Column 4)');
-    if (!cleanData[5]) throw new Error('Test Script is required (Column 6)');
-
-    // Set default value for Expected Result if blank
-    if (!cleanData[6]) {
-        cleanData[6] = 'To be defined';
-    }
-
-    // Extract module name (handle "Module >> SubModule" format or just "Module")
-    let moduleName = cleanData[1];
-    let extractedSubModule = '';
-
-    // Check if module contains ">>" separator
-    if (moduleName.includes('>>')) {
-        const parts = moduleName.split('>>').map(p => p.trim());
-        moduleName = parts[0];
-        if (parts.length > 1 && !cleanData[2]) {
-            extractedSubModule = parts[1]; // Use extracted sub-module if column 3 is empty
-        }
-    }
-
-    // Use extracted or provided sub-module
-    const subModuleName = cleanData[2] || extractedSubModule;
-
-    // Find or create module
-    let module = null;
-    if (moduleName) {
-        module = modules.find(m => m.name.toLowerCase() === moduleName.toLowerCase());
-        if (!module) {
-            console.log(`Creating module: ${moduleName}`);
-            const moduleDTO = { name: moduleName, description: 'Auto-created during import' };
-            const response = await fetch(`${API_URL}/modules`, {
-                method: 'POST',
-                headers: { 'Content-Type': 'application/json' },
-                body: JSON.stringify(moduleDTO)
-            });
-            if (response.ok) {
-                module = await response.json();
-                modules.push(module);
-            } else {
-                const error = await response.json().catch(() => ({ message: 'Failed to create module' }));
-                throw new Error(`Failed to create module "${moduleName}": ${error.message}`);
-            }
-        }
-    }
-
-    if (!module) {
-        throw new Error('Module is required. Could not create module.');
-    }
-
-    // Find or create sub-module
-    let subModule = null;
-    if (subModuleName) {
-        subModule = subModules.find(sm =>
-            sm.name.toLowerCase() === subModuleName.toLowerCase() &&
-            sm.moduleId === module.id
-        );
-        if (!subModule) {
-            console.log(`Creating sub-module: ${subModuleName} under ${moduleName}`);
-            const subModuleDTO = {
-                name: subModuleName,
-                description: 'Auto-created during import',
-                moduleId: module.id
-            };
-            const response = await fetch(`${API_URL}/submodules`, {
-                method: 'POST',
-                headers: { 'Content-Type': 'application/json' },
-                body: JSON.stringify(subModuleDTO)
-            });
-            if (response.ok) {
-                subModule = await response.json();
-                subModules.push(subModule);
-            }
-        }
-    }
-
-    // Find or create priority
-    let priority = null;
-    if (cleanData[7]) {
-        priority = priorities.find(p => p.name.toLowerCase() === cleanData[7].toLowerCase());
-        if (!priority) {
-            console.log(`Creating priority: ${cleanData[7]}`);
-            const priorityDTO = {
-                name: cleanData[7],
-                description: 'Auto-created during import',
-                level: null
-            };
-            const response = await fetch(`${API_URL}/priorities`, {
-                method: 'POST',
-                headers: { 'Content-Type': 'application/json' },
-                body: JSON.stringify(priorityDTO)
-            });
-            if (response.ok) {
-                priority = await response.json();
-                priorities.push(priority);
-            }
-        }
-    }
-    if (!priority && priorities.length > 0) {
-        priority = priorities[0];
-    }
-    if (!priority) {
-        throw new Error('No priority available. Please create at least one priority first.');
-    }
-
-    // Find or create status
-    let status = null;
-    const statusName = cleanData[8] || 'Yet to Start'; // Default to "Yet to Start" if blank
-
-    status = statuses.find(s => s.name.toLowerCase() === statusName.toLowerCase());
-    if (!status) {
-        console.log(`Creating automation status: ${statusName}`);
-        const statusDTO = {
-            name: statusName,
-            description: statusName === 'Yet to Start' ? 'Default status for test cases without automation status' : 'Auto-created during import'
-        };
-        const response = await fetch(`${API_URL}/automation-statuses`, {
-            method: 'POST',
-            headers: { 'Content-Type': 'application/json' },
-            body: JSON.stringify(statusDTO)
-        });
-        if (response.ok) {
-            status = await response.json();
-            statuses.push(status);
-        } else {
-            // If creation fails, try to use first available status
-            if (statuses.length > 0) {
-                status = statuses[0];
-            }
-        }
-    }
-
-    if (!status) {
-        throw new Error('No automation status available. Please create at least one status first.');
-    }
-
-    // Find or create automated by
-    let automatedBy = null;
-    if (cleanData[9]) {
-        automatedBy = users.find(u => u.name.toLowerCase() === cleanData[9].toLowerCase());
-        if (!automatedBy) {
-            console.log(`Creating user: ${cleanData[9]}`);
-            const userDTO = {
-                name: cleanData[9],
-                email: '',
-                team: ''
-            };
-            const response = await fetch(`${API_URL}/automated-by`, {
-                method: 'POST',
-                headers: { 'Content-Type': 'application/json' },
-                body: JSON.stringify(userDTO)
-            });
-            if (response.ok) {
-                automatedBy = await response.json();
-                users.push(automatedBy);
-            }
-        }
-    }
-
-    // Parse tags
-    const tagIds = [];
-    if (cleanData[12]) {
-        const tagNames = cleanData[12].split(',').map(t => t.trim()).filter(t => t);
-        for (const tagName of tagNames) {
-            let tag = tags.find(t => t.name.toLowerCase() === tagName.toLowerCase());
-            if (!tag) {
-                console.log(`Creating tag: ${tagName}`);
-                const tagDTO = {
-                    name: tagName,
-                    description: 'Auto-created during import',
-                    color: '#6366f1'
-                };
-                const response = await fetch(`${API_URL}/tags`, {
-                    method: 'POST',
-                    headers: { 'Content-Type': 'application/json' },
-                    body: JSON.stringify(tagDTO)
-                });
-                if (response.ok) {
-                    tag = await response.json();
-                    tags.push(tag);
-                }
-            }
-            if (tag) {
-                tagIds.push(tag.id);
-            }
-        }
-    }
-
-    // Create test case DTO
-    const testCaseDTO = {
-        testcaseId: cleanData[0],
-        moduleId: module.id,
-        subModuleId: subModule ? subModule.id : null,
-        testCaseDescription: cleanData[3],
-        preConditions: cleanData[4] || null,
-        testScript: cleanData[5],
-        expectedResult: cleanData[6],
-        priorityId: priority.id,
-        automationStatusId: status.id,
-        automatedById: automatedBy ? automatedBy.id : null,
-        automationComments: cleanData[10] || null,
-        clubbedTcId: cleanData[11] || null,
-        tagIds: tagIds
-    };
-
-    // Check if test case already exists
-    const existingTC = testCases.find(tc => tc.testcaseId === testCaseDTO.testcaseId);
-    if (existingTC) {
-        // Update existing
-        console.log(`Updating test case: ${testCaseDTO.testcaseId}`);
-        const response = await fetch(`${API_URL}/testcases/${existingTC.id}`, {
-            method: 'PUT',
-            headers: { 'Content-Type': 'application/json' },
-            body: JSON.stringify({ ...testCaseDTO, id: existingTC.id })
-        });
-        if (!response.ok) {
-            const error = await response.json().catch(() => ({ message: 'Failed to update test case' }));
-            throw new Error(`Update failed: ${error.message}`);
-        }
-    } else {
-        // Create new
-        console.log(`Creating test case: ${testCaseDTO.testcaseId}`);
-        const response = await fetch(`${API_URL}/testcases`, {
-            method: 'POST',
-            headers: { 'Content-Type': 'application/json' },
-            body: JSON.stringify(testCaseDTO)
-        });
-        if (!response.ok) {
-            const error = await response.json().catch(() => ({ message: 'Failed to create test case' }));
-            throw new Error(`Create failed: ${error.message}`);
-        }
-    }
-}
-
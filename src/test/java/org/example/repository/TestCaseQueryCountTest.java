@@ -0,0 +1,141 @@
+package org.example.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.model.AutomatedBy;
+import org.example.model.AutomationStatus;
+import org.example.model.Module;
+import org.example.model.SubModule;
+import org.example.model.Tag;
+import org.example.model.TestCase;
+import org.example.model.TestCasePriority;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the fetch plans of the test case reads: each must run a fixed
+ * number of statements however many test cases, references and tags the
+ * catalog holds.
+ */
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TestCaseQueryCountTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TestCaseRepository testCaseRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 50})
+    void listReadsRowsAndTagsInTwoStatements(int testCases) {
+        seed(testCases);
+
+        List<TestCaseRow> rows = testCaseRepository.findRows(new TestCaseQuery());
+        List<TestCaseTagRow> tags = testCaseRepository.findTagRows(new TestCaseQuery(), null);
+
+        assertThat(rows).hasSize(testCases);
+        assertThat(tags).hasSize(testCases * 2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 50})
+    void byModuleReadsRowsAndTagsInTwoStatements(int testCases) {
+        Long moduleId = seed(testCases).getId();
+
+        TestCaseQuery query = new TestCaseQuery();
+        query.setModuleId(moduleId);
+        List<TestCaseRow> rows = testCaseRepository.findRows(query);
+        testCaseRepository.findTagRows(query, null);
+
+        assertThat(rows).hasSize(testCases);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 50})
+    void byIdLoadsEveryReferenceInOneStatement(int testCases) {
+        seed(testCases);
+        Long id = testCaseRepository.findIds(new TestCaseQuery()).get(testCases - 1);
+        statistics.clear();
+
+        TestCase testCase = testCaseRepository.findDetailedById(id).orElseThrow();
+        assertThat(testCase.getModule().getName()).isNotNull();
+        assertThat(testCase.getSubModule().getName()).isNotNull();
+        assertThat(testCase.getPriority().getName()).isNotNull();
+        assertThat(testCase.getAutomationStatus().getName()).isNotNull();
+        assertThat(testCase.getAutomatedBy().getName()).isNotNull();
+        assertThat(testCase.getTags()).extracting(Tag::getName).hasSize(2);
+        assertThat(testCase.getTestScript()).isNotNull();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    /** Persists {@code testCases} test cases, each with every reference and two tags. */
+    private Module seed(int testCases) {
+        Module module = new Module();
+        module.setName("Module");
+        entityManager.persist(module);
+        TestCasePriority priority = new TestCasePriority();
+        priority.setName("High");
+        entityManager.persist(priority);
+        AutomationStatus status = new AutomationStatus();
+        status.setName("Automated");
+        entityManager.persist(status);
+
+        for (int i = 0; i < testCases; i++) {
+            SubModule subModule = new SubModule();
+            subModule.setName("Sub " + i);
+            subModule.setModule(module);
+            entityManager.persist(subModule);
+            AutomatedBy automatedBy = new AutomatedBy();
+            automatedBy.setName("User " + i);
+            entityManager.persist(automatedBy);
+            Tag first = new Tag();
+            first.setName("Tag " + i + "a");
+            entityManager.persist(first);
+            Tag second = new Tag();
+            second.setName("Tag " + i + "b");
+            entityManager.persist(second);
+
+            TestCase testCase = new TestCase();
+            testCase.setTestcaseId("TC-" + i);
+            testCase.setModule(module);
+            testCase.setSubModule(subModule);
+            testCase.setTestCaseDescription("Description " + i);
+            testCase.setTestScript("Script " + i);
+            testCase.setExpectedResult("Result " + i);
+            testCase.setPriority(priority);
+            testCase.setAutomationStatus(status);
+            testCase.setAutomatedBy(automatedBy);
+            testCase.setTags(Set.of(first, second));
+            entityManager.persist(testCase);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return module;
+    }
+}